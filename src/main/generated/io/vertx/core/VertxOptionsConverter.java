@@ -105,6 +105,16 @@ public class VertxOptionsConverter {
             obj.setQuorumSize(((Number)member.getValue()).intValue());
           }
           break;
+        case "timerWheelTickDuration":
+          if (member.getValue() instanceof Number) {
+            obj.setTimerWheelTickDuration(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "timerWheelTickDurationUnit":
+          if (member.getValue() instanceof String) {
+            obj.setTimerWheelTickDurationUnit(java.util.concurrent.TimeUnit.valueOf((String)member.getValue()));
+          }
+          break;
         case "tracingOptions":
           if (member.getValue() instanceof JsonObject) {
             obj.setTracingOptions(new io.vertx.core.tracing.TracingOptions((io.vertx.core.json.JsonObject)member.getValue()));
@@ -172,6 +182,10 @@ public class VertxOptionsConverter {
     }
     json.put("preferNativeTransport", obj.getPreferNativeTransport());
     json.put("quorumSize", obj.getQuorumSize());
+    json.put("timerWheelTickDuration", obj.getTimerWheelTickDuration());
+    if (obj.getTimerWheelTickDurationUnit() != null) {
+      json.put("timerWheelTickDurationUnit", obj.getTimerWheelTickDurationUnit().name());
+    }
     if (obj.getTracingOptions() != null) {
       json.put("tracingOptions", obj.getTracingOptions().toJson());
     }
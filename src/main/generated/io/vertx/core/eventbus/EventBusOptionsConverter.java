@@ -35,6 +35,21 @@ public class EventBusOptionsConverter {
             obj.setClientAuth(io.vertx.core.http.ClientAuth.valueOf((String)member.getValue()));
           }
           break;
+        case "clusterCompactEncoding":
+          if (member.getValue() instanceof Boolean) {
+            obj.setClusterCompactEncoding((Boolean)member.getValue());
+          }
+          break;
+        case "clusterFlowControlMaxPending":
+          if (member.getValue() instanceof Number) {
+            obj.setClusterFlowControlMaxPending(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "clusterFlowControlWindow":
+          if (member.getValue() instanceof Number) {
+            obj.setClusterFlowControlWindow(((Number)member.getValue()).intValue());
+          }
+          break;
         case "clusterNodeMetadata":
           if (member.getValue() instanceof JsonObject) {
             obj.setClusterNodeMetadata(((JsonObject)member.getValue()).copy());
@@ -60,6 +75,16 @@ public class EventBusOptionsConverter {
             obj.setClusterPublicPort(((Number)member.getValue()).intValue());
           }
           break;
+        case "clusterWriteBatchMaxBytes":
+          if (member.getValue() instanceof Number) {
+            obj.setClusterWriteBatchMaxBytes(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "clusterWriteBatchSize":
+          if (member.getValue() instanceof Number) {
+            obj.setClusterWriteBatchSize(((Number)member.getValue()).intValue());
+          }
+          break;
         case "connectTimeout":
           if (member.getValue() instanceof Number) {
             obj.setConnectTimeout(((Number)member.getValue()).intValue());
@@ -194,6 +219,21 @@ public class EventBusOptionsConverter {
             obj.setSendBufferSize(((Number)member.getValue()).intValue());
           }
           break;
+        case "sessionCacheSize":
+          if (member.getValue() instanceof Number) {
+            obj.setSessionCacheSize(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "sessionTicketKeyRotationPeriod":
+          if (member.getValue() instanceof Number) {
+            obj.setSessionTicketKeyRotationPeriod(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "sessionTimeout":
+          if (member.getValue() instanceof Number) {
+            obj.setSessionTimeout(((Number)member.getValue()).longValue());
+          }
+          break;
         case "soLinger":
           if (member.getValue() instanceof Number) {
             obj.setSoLinger(((Number)member.getValue()).intValue());
@@ -285,6 +325,9 @@ public class EventBusOptionsConverter {
     if (obj.getClientAuth() != null) {
       json.put("clientAuth", obj.getClientAuth().name());
     }
+    json.put("clusterCompactEncoding", obj.isClusterCompactEncoding());
+    json.put("clusterFlowControlMaxPending", obj.getClusterFlowControlMaxPending());
+    json.put("clusterFlowControlWindow", obj.getClusterFlowControlWindow());
     if (obj.getClusterNodeMetadata() != null) {
       json.put("clusterNodeMetadata", obj.getClusterNodeMetadata());
     }
@@ -294,6 +337,8 @@ public class EventBusOptionsConverter {
       json.put("clusterPublicHost", obj.getClusterPublicHost());
     }
     json.put("clusterPublicPort", obj.getClusterPublicPort());
+    json.put("clusterWriteBatchMaxBytes", obj.getClusterWriteBatchMaxBytes());
+    json.put("clusterWriteBatchSize", obj.getClusterWriteBatchSize());
     json.put("connectTimeout", obj.getConnectTimeout());
     if (obj.getCrlPaths() != null) {
       JsonArray array = new JsonArray();
@@ -352,6 +397,9 @@ public class EventBusOptionsConverter {
     json.put("reuseAddress", obj.isReuseAddress());
     json.put("reusePort", obj.isReusePort());
     json.put("sendBufferSize", obj.getSendBufferSize());
+    json.put("sessionCacheSize", obj.getSessionCacheSize());
+    json.put("sessionTicketKeyRotationPeriod", obj.getSessionTicketKeyRotationPeriod());
+    json.put("sessionTimeout", obj.getSessionTimeout());
     json.put("soLinger", obj.getSoLinger());
     json.put("ssl", obj.isSsl());
     json.put("sslHandshakeTimeout", obj.getSslHandshakeTimeout());
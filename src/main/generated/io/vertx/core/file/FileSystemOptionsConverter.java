@@ -35,6 +35,11 @@ public class FileSystemOptionsConverter {
             obj.setFileCachingEnabled((Boolean)member.getValue());
           }
           break;
+        case "virtualThreadsEnabled":
+          if (member.getValue() instanceof Boolean) {
+            obj.setVirtualThreadsEnabled((Boolean)member.getValue());
+          }
+          break;
       }
     }
   }
@@ -49,5 +54,6 @@ public class FileSystemOptionsConverter {
       json.put("fileCacheDir", obj.getFileCacheDir());
     }
     json.put("fileCachingEnabled", obj.isFileCachingEnabled());
+    json.put("virtualThreadsEnabled", obj.isVirtualThreadsEnabled());
   }
 }
@@ -45,6 +45,11 @@ public class OpenOptionsConverter {
             obj.setDsync((Boolean)member.getValue());
           }
           break;
+        case "memoryMapped":
+          if (member.getValue() instanceof Boolean) {
+            obj.setMemoryMapped((Boolean)member.getValue());
+          }
+          break;
         case "perms":
           if (member.getValue() instanceof String) {
             obj.setPerms((String)member.getValue());
@@ -89,6 +94,7 @@ public class OpenOptionsConverter {
     json.put("createNew", obj.isCreateNew());
     json.put("deleteOnClose", obj.isDeleteOnClose());
     json.put("dsync", obj.isDsync());
+    json.put("memoryMapped", obj.isMemoryMapped());
     if (obj.getPerms() != null) {
       json.put("perms", obj.getPerms());
     }
@@ -45,6 +45,11 @@ public class HttpServerOptionsConverter {
             obj.setCompressionSupported((Boolean)member.getValue());
           }
           break;
+        case "dateHeaderEnabled":
+          if (member.getValue() instanceof Boolean) {
+            obj.setDateHeaderEnabled((Boolean)member.getValue());
+          }
+          break;
         case "decoderInitialBufferSize":
           if (member.getValue() instanceof Number) {
             obj.setDecoderInitialBufferSize(((Number)member.getValue()).intValue());
@@ -140,6 +145,11 @@ public class HttpServerOptionsConverter {
             obj.setPerMessageWebSocketCompressionSupported((Boolean)member.getValue());
           }
           break;
+        case "pipelinedFlushConsolidation":
+          if (member.getValue() instanceof Boolean) {
+            obj.setPipelinedFlushConsolidation((Boolean)member.getValue());
+          }
+          break;
         case "registerWebSocketWriteHandlers":
           if (member.getValue() instanceof Boolean) {
             obj.setRegisterWebSocketWriteHandlers((Boolean)member.getValue());
@@ -197,6 +207,7 @@ public class HttpServerOptionsConverter {
     }
     json.put("compressionLevel", obj.getCompressionLevel());
     json.put("compressionSupported", obj.isCompressionSupported());
+    json.put("dateHeaderEnabled", obj.isDateHeaderEnabled());
     json.put("decoderInitialBufferSize", obj.getDecoderInitialBufferSize());
     json.put("decompressionSupported", obj.isDecompressionSupported());
     json.put("handle100ContinueAutomatically", obj.isHandle100ContinueAutomatically());
@@ -220,6 +231,7 @@ public class HttpServerOptionsConverter {
     json.put("maxWebSocketMessageSize", obj.getMaxWebSocketMessageSize());
     json.put("perFrameWebSocketCompressionSupported", obj.getPerFrameWebSocketCompressionSupported());
     json.put("perMessageWebSocketCompressionSupported", obj.getPerMessageWebSocketCompressionSupported());
+    json.put("pipelinedFlushConsolidation", obj.isPipelinedFlushConsolidation());
     json.put("registerWebSocketWriteHandlers", obj.isRegisterWebSocketWriteHandlers());
     if (obj.getTracingPolicy() != null) {
       json.put("tracingPolicy", obj.getTracingPolicy().name());
@@ -20,6 +20,11 @@ public class PoolOptionsConverter {
    static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, PoolOptions obj) {
     for (java.util.Map.Entry<String, Object> member : json) {
       switch (member.getKey()) {
+        case "adaptiveSizing":
+          if (member.getValue() instanceof Boolean) {
+            obj.setAdaptiveSizing((Boolean)member.getValue());
+          }
+          break;
         case "cleanerPeriod":
           if (member.getValue() instanceof Number) {
             obj.setCleanerPeriod(((Number)member.getValue()).intValue());
@@ -35,16 +40,41 @@ public class PoolOptionsConverter {
             obj.setHttp1MaxSize(((Number)member.getValue()).intValue());
           }
           break;
+        case "http1MinSize":
+          if (member.getValue() instanceof Number) {
+            obj.setHttp1MinSize(((Number)member.getValue()).intValue());
+          }
+          break;
         case "http2MaxSize":
           if (member.getValue() instanceof Number) {
             obj.setHttp2MaxSize(((Number)member.getValue()).intValue());
           }
           break;
+        case "http2StreamStriping":
+          if (member.getValue() instanceof Boolean) {
+            obj.setHttp2StreamStriping((Boolean)member.getValue());
+          }
+          break;
         case "maxWaitQueueSize":
           if (member.getValue() instanceof Number) {
             obj.setMaxWaitQueueSize(((Number)member.getValue()).intValue());
           }
           break;
+        case "shardStealing":
+          if (member.getValue() instanceof Boolean) {
+            obj.setShardStealing((Boolean)member.getValue());
+          }
+          break;
+        case "sharded":
+          if (member.getValue() instanceof Boolean) {
+            obj.setSharded((Boolean)member.getValue());
+          }
+          break;
+        case "warmSize":
+          if (member.getValue() instanceof Number) {
+            obj.setWarmSize(((Number)member.getValue()).intValue());
+          }
+          break;
       }
     }
   }
@@ -54,10 +84,16 @@ public class PoolOptionsConverter {
   }
 
    static void toJson(PoolOptions obj, java.util.Map<String, Object> json) {
+    json.put("adaptiveSizing", obj.isAdaptiveSizing());
     json.put("cleanerPeriod", obj.getCleanerPeriod());
     json.put("eventLoopSize", obj.getEventLoopSize());
     json.put("http1MaxSize", obj.getHttp1MaxSize());
+    json.put("http1MinSize", obj.getHttp1MinSize());
     json.put("http2MaxSize", obj.getHttp2MaxSize());
+    json.put("http2StreamStriping", obj.isHttp2StreamStriping());
     json.put("maxWaitQueueSize", obj.getMaxWaitQueueSize());
+    json.put("shardStealing", obj.isShardStealing());
+    json.put("sharded", obj.isSharded());
+    json.put("warmSize", obj.getWarmSize());
   }
 }
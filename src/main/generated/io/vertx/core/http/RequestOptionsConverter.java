@@ -35,6 +35,16 @@ public class RequestOptionsConverter {
             obj.setFollowRedirects((Boolean)member.getValue());
           }
           break;
+        case "hedgingDelay":
+          if (member.getValue() instanceof Number) {
+            obj.setHedgingDelay(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "hedgingPercentile":
+          if (member.getValue() instanceof Number) {
+            obj.setHedgingPercentile(((Number)member.getValue()).doubleValue());
+          }
+          break;
         case "host":
           if (member.getValue() instanceof String) {
             obj.setHost((String)member.getValue());
@@ -88,6 +98,8 @@ public class RequestOptionsConverter {
     if (obj.getFollowRedirects() != null) {
       json.put("followRedirects", obj.getFollowRedirects());
     }
+    json.put("hedgingDelay", obj.getHedgingDelay());
+    json.put("hedgingPercentile", obj.getHedgingPercentile());
     if (obj.getHost() != null) {
       json.put("host", obj.getHost());
     }
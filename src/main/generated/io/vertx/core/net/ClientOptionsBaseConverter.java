@@ -45,6 +45,11 @@ public class ClientOptionsBaseConverter {
             obj.setNonProxyHosts(list);
           }
           break;
+        case "pooledBuffers":
+          if (member.getValue() instanceof Boolean) {
+            obj.setPooledBuffers((Boolean)member.getValue());
+          }
+          break;
         case "proxyOptions":
           if (member.getValue() instanceof JsonObject) {
             obj.setProxyOptions(new io.vertx.core.net.ProxyOptions((io.vertx.core.json.JsonObject)member.getValue()));
@@ -76,6 +81,7 @@ public class ClientOptionsBaseConverter {
       obj.getNonProxyHosts().forEach(item -> array.add(item));
       json.put("nonProxyHosts", array);
     }
+    json.put("pooledBuffers", obj.isPooledBuffers());
     if (obj.getProxyOptions() != null) {
       json.put("proxyOptions", obj.getProxyOptions().toJson());
     }
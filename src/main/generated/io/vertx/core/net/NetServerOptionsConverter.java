@@ -35,6 +35,11 @@ public class NetServerOptionsConverter {
             obj.setHost((String)member.getValue());
           }
           break;
+        case "pooledBuffers":
+          if (member.getValue() instanceof Boolean) {
+            obj.setPooledBuffers((Boolean)member.getValue());
+          }
+          break;
         case "port":
           if (member.getValue() instanceof Number) {
             obj.setPort(((Number)member.getValue()).intValue());
@@ -86,6 +91,7 @@ public class NetServerOptionsConverter {
     if (obj.getHost() != null) {
       json.put("host", obj.getHost());
     }
+    json.put("pooledBuffers", obj.isPooledBuffers());
     json.put("port", obj.getPort());
     json.put("proxyProtocolTimeout", obj.getProxyProtocolTimeout());
     if (obj.getProxyProtocolTimeoutUnit() != null) {
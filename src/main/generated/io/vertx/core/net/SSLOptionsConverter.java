@@ -54,6 +54,21 @@ public class SSLOptionsConverter {
             obj.setEnabledSecureTransportProtocols(list);
           }
           break;
+        case "sessionCacheSize":
+          if (member.getValue() instanceof Number) {
+            obj.setSessionCacheSize(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "sessionTicketKeyRotationPeriod":
+          if (member.getValue() instanceof Number) {
+            obj.setSessionTicketKeyRotationPeriod(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "sessionTimeout":
+          if (member.getValue() instanceof Number) {
+            obj.setSessionTimeout(((Number)member.getValue()).longValue());
+          }
+          break;
         case "sslHandshakeTimeout":
           if (member.getValue() instanceof Number) {
             obj.setSslHandshakeTimeout(((Number)member.getValue()).longValue());
@@ -98,6 +113,9 @@ public class SSLOptionsConverter {
       obj.getEnabledSecureTransportProtocols().forEach(item -> array.add(item));
       json.put("enabledSecureTransportProtocols", array);
     }
+    json.put("sessionCacheSize", obj.getSessionCacheSize());
+    json.put("sessionTicketKeyRotationPeriod", obj.getSessionTicketKeyRotationPeriod());
+    json.put("sessionTimeout", obj.getSessionTimeout());
     json.put("sslHandshakeTimeout", obj.getSslHandshakeTimeout());
     if (obj.getSslHandshakeTimeoutUnit() != null) {
       json.put("sslHandshakeTimeoutUnit", obj.getSslHandshakeTimeoutUnit().name());
@@ -104,6 +104,21 @@ public class TCPSSLOptionsConverter {
             obj.setReadIdleTimeout(((Number)member.getValue()).intValue());
           }
           break;
+        case "sessionCacheSize":
+          if (member.getValue() instanceof Number) {
+            obj.setSessionCacheSize(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "sessionTicketKeyRotationPeriod":
+          if (member.getValue() instanceof Number) {
+            obj.setSessionTicketKeyRotationPeriod(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "sessionTimeout":
+          if (member.getValue() instanceof Number) {
+            obj.setSessionTimeout(((Number)member.getValue()).longValue());
+          }
+          break;
         case "soLinger":
           if (member.getValue() instanceof Number) {
             obj.setSoLinger(((Number)member.getValue()).intValue());
@@ -224,6 +239,9 @@ public class TCPSSLOptionsConverter {
       json.put("pfxTrustOptions", obj.getPfxTrustOptions().toJson());
     }
     json.put("readIdleTimeout", obj.getReadIdleTimeout());
+    json.put("sessionCacheSize", obj.getSessionCacheSize());
+    json.put("sessionTicketKeyRotationPeriod", obj.getSessionTicketKeyRotationPeriod());
+    json.put("sessionTimeout", obj.getSessionTimeout());
     json.put("soLinger", obj.getSoLinger());
     json.put("ssl", obj.isSsl());
     json.put("sslHandshakeTimeout", obj.getSslHandshakeTimeout());
@@ -18,6 +18,7 @@ import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.core.http.impl.headers.HeadersMultiMap;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -73,6 +74,30 @@ public interface MultiMap extends Iterable<Map.Entry<String, String>> {
   @GenIgnore(GenIgnore.PERMITTED_TYPE)
   List<String> getAll(CharSequence name);
 
+  /**
+   * Like {@link #get(CharSequence)} but returns the value as it is held by the map, without converting it
+   * to a {@code String}.
+   *
+   * @param name The name of the header to search
+   * @return The first header value or {@code null} if there is no such entry
+   */
+  @GenIgnore(GenIgnore.PERMITTED_TYPE)
+  default CharSequence getCharSequence(CharSequence name) {
+    return get(name);
+  }
+
+  /**
+   * Like {@link #getAll(CharSequence)} but returns the values as they are held by the map, without converting them
+   * to {@code String}.
+   *
+   * @param name The name to search
+   * @return A immutable {@link java.util.List} of values which will be empty if no values are found
+   */
+  @GenIgnore(GenIgnore.PERMITTED_TYPE)
+  default List<CharSequence> getAllCharSequence(CharSequence name) {
+    return Collections.unmodifiableList(getAll(name));
+  }
+
   /**
    * Allows iterating over the entries in the map
    */
@@ -86,6 +111,15 @@ public interface MultiMap extends Iterable<Map.Entry<String, String>> {
     });
   }
 
+  /**
+   * Like {@link #forEach(BiConsumer)} but passes the names and values as they are held by the map, without
+   * converting them to {@code String}.
+   */
+  @GenIgnore(GenIgnore.PERMITTED_TYPE)
+  default void forEachCharSequence(BiConsumer<CharSequence, CharSequence> action) {
+    forEach((BiConsumer<String, String>) action::accept);
+  }
+
   /**
    * Returns all entries in the multi-map.
    *
@@ -122,6 +122,16 @@ public class VertxOptions {
    */
   public static final boolean DEFAULT_USE_DAEMON_THREAD = false;
 
+  /**
+   * The default value of the timer wheel tick duration = 0 (timers are scheduled on the event loop)
+   */
+  public static final long DEFAULT_TIMER_WHEEL_TICK_DURATION = 0L;
+
+  /**
+   * The default value of the timer wheel tick duration unit = {@link TimeUnit#MILLISECONDS}
+   */
+  public static final TimeUnit DEFAULT_TIMER_WHEEL_TICK_DURATION_UNIT = TimeUnit.MILLISECONDS;
+
   private int eventLoopPoolSize = DEFAULT_EVENT_LOOP_POOL_SIZE;
   private int workerPoolSize = DEFAULT_WORKER_POOL_SIZE;
   private int internalBlockingPoolSize = DEFAULT_INTERNAL_BLOCKING_POOL_SIZE;
@@ -145,6 +155,8 @@ public class VertxOptions {
   private TimeUnit blockedThreadCheckIntervalUnit = DEFAULT_BLOCKED_THREAD_CHECK_INTERVAL_UNIT;
   private boolean disableTCCL = DEFAULT_DISABLE_TCCL;
   private Boolean useDaemonThread = DEFAULT_USE_DAEMON_THREAD;
+  private long timerWheelTickDuration = DEFAULT_TIMER_WHEEL_TICK_DURATION;
+  private TimeUnit timerWheelTickDurationUnit = DEFAULT_TIMER_WHEEL_TICK_DURATION_UNIT;
 
   /**
    * Default constructor
@@ -181,6 +193,8 @@ public class VertxOptions {
     this.tracingOptions = other.tracingOptions != null ? other.tracingOptions.copy() : null;
     this.disableTCCL = other.disableTCCL;
     this.useDaemonThread = other.useDaemonThread;
+    this.timerWheelTickDuration = other.timerWheelTickDuration;
+    this.timerWheelTickDurationUnit = other.timerWheelTickDurationUnit;
   }
 
   /**
@@ -563,6 +577,9 @@ public class VertxOptions {
   /**
    * Set wether to prefer the native transport to the JDK transport.
    *
+   * <p> On Linux the native transport is epoll, the io_uring transport is used instead when the
+   * {@code vertx.preferIOUring} system property is {@code true}.
+   *
    * @param preferNativeTransport {@code true} to prefer the native transport
    * @return a reference to this, so the API can be used fluently
    */
@@ -712,6 +729,52 @@ public class VertxOptions {
     return this;
   }
 
+  /**
+   * @return the tick duration of the timer wheels, in {@link VertxOptions#setTimerWheelTickDurationUnit timerWheelTickDurationUnit}
+   */
+  public long getTimerWheelTickDuration() {
+    return timerWheelTickDuration;
+  }
+
+  /**
+   * Sets the tick duration of the timer wheels, in {@link VertxOptions#setTimerWheelTickDurationUnit timerWheelTickDurationUnit}.
+   * <p>
+   * When the duration is greater than {@code 0}, timers created by {@link Vertx#setTimer}, {@link Vertx#setPeriodic} and
+   * {@link Vertx#timer} are kept in a hashed timer wheel owned by the event loop of their context instead of the
+   * event loop scheduled task queue. Scheduling and cancelling a timer are then constant time operations, at the
+   * expense of precision: a timer fires up to one tick after its deadline.
+   * <p>
+   * The default value is {@code 0}, timers are scheduled on the event loop.
+   *
+   * @param timerWheelTickDuration the tick duration
+   * @return a reference to this, so the API can be used fluently
+   */
+  public VertxOptions setTimerWheelTickDuration(long timerWheelTickDuration) {
+    if (timerWheelTickDuration < 0) {
+      throw new IllegalArgumentException("timerWheelTickDuration must be >= 0");
+    }
+    this.timerWheelTickDuration = timerWheelTickDuration;
+    return this;
+  }
+
+  /**
+   * @return the time unit of {@code timerWheelTickDuration}
+   */
+  public TimeUnit getTimerWheelTickDurationUnit() {
+    return timerWheelTickDurationUnit;
+  }
+
+  /**
+   * Set the time unit of {@code timerWheelTickDuration}.
+   *
+   * @param timerWheelTickDurationUnit the time unit of {@code timerWheelTickDuration}
+   * @return a reference to this, so the API can be used fluently
+   */
+  public VertxOptions setTimerWheelTickDurationUnit(TimeUnit timerWheelTickDurationUnit) {
+    this.timerWheelTickDurationUnit = timerWheelTickDurationUnit;
+    return this;
+  }
+
   public JsonObject toJson() {
     JsonObject json = new JsonObject();
     VertxOptionsConverter.toJson(this, json);
@@ -744,6 +807,8 @@ public class VertxOptions {
         ", warningExceptionTime=" + warningExceptionTime +
         ", disableTCCL=" + disableTCCL +
         ", useDaemonThread=" + useDaemonThread +
+        ", timerWheelTickDurationUnit=" + timerWheelTickDurationUnit +
+        ", timerWheelTickDuration=" + timerWheelTickDuration +
         '}';
   }
 }
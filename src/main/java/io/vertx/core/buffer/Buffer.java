@@ -62,6 +62,20 @@ public interface Buffer extends ClusterSerializable, Shareable {
     return BufferImpl.buffer(initialSizeHint);
   }
 
+  /**
+   * Create a new buffer backed by pooled direct memory given the initial size hint.
+   * <p>
+   * Writing such a buffer to a socket or a file avoids copying it to direct memory first. The buffer must be
+   * released with {@link #release()} once it is no longer used, after any write of it has completed, otherwise its
+   * memory is leaked. Copies of the buffer are heap buffers, whereas slices share its memory.
+   *
+   * @param initialSizeHint the hint, in bytes
+   * @return the buffer
+   */
+  static Buffer directBuffer(int initialSizeHint) {
+    return BufferImpl.directBuffer(initialSizeHint);
+  }
+
   /**
    * Create a new buffer from a string. The string will be UTF-8 encoded into the buffer.
    *
@@ -697,10 +711,49 @@ public interface Buffer extends ClusterSerializable, Shareable {
    */
   Buffer copy();
 
+  /**
+   * Returns the index of the first occurrence of the byte {@code b} in this buffer, starting the search at
+   * {@code from}.
+   *
+   * @param b the byte to search
+   * @param from the index to start the search from
+   * @return the index of the byte or {@code -1} when it is not found
+   */
+  int indexOf(byte b, int from);
+
+  /**
+   * Returns the index of the first occurrence of the {@code needle} buffer in this buffer, starting the search
+   * at {@code from}.
+   *
+   * @param needle the bytes to search
+   * @param from the index to start the search from
+   * @return the index of the first byte of {@code needle} or {@code -1} when it is not found
+   */
+  int indexOf(Buffer needle, int from);
+
+  /**
+   * Like {@link #indexOf(Buffer, int)} but searches a byte array.
+   */
+  @GenIgnore(GenIgnore.PERMITTED_TYPE)
+  int indexOf(byte[] needle, int from);
+
+  /**
+   * Returns the index of the last occurrence of the byte {@code b} in this buffer, searching backward from
+   * {@code from}.
+   *
+   * @param b the byte to search
+   * @param from the index to start the backward search from
+   * @return the index of the byte or {@code -1} when it is not found
+   */
+  int lastIndexOf(byte b, int from);
+
   /**
    * Returns a slice of this buffer. Modifying the content
    * of the returned buffer or this buffer affects each other's content
    * while they maintain separate indexes and marks.
+   * <p>
+   * The slice of a pooled buffer does not own the pooled memory, {@link #release()} does nothing on the slice and the
+   * slice must not be used after this buffer has been released.
    */
   Buffer slice();
 
@@ -708,9 +761,28 @@ public interface Buffer extends ClusterSerializable, Shareable {
    * Returns a slice of this buffer. Modifying the content
    * of the returned buffer or this buffer affects each other's content
    * while they maintain separate indexes and marks.
+   * <p>
+   * The slice of a pooled buffer does not own the pooled memory, {@link #release()} does nothing on the slice and the
+   * slice must not be used after this buffer has been released.
    */
   Buffer slice(int start, int end);
 
+  /**
+   * Release the pooled memory backing this buffer, this applies to buffers created by {@link #directBuffer(int)} or
+   * received from a connection configured with pooled buffers and does nothing for other buffers.
+   * <p>
+   * The buffer must not be used after it has been released, in particular any write of this buffer must have
+   * completed before calling this method. Buffers received together can share pooled memory, that memory returns to
+   * the pool once all of them are released. Slices and copies do not own pooled memory, only the buffer they were
+   * created from releases it.
+   *
+   * @return {@code true} when this call released the buffer, {@code false} when the buffer does not own pooled memory
+   *         or has already been released
+   */
+  default boolean release() {
+    return false;
+  }
+
   /**
    * Returns the Buffer as a Netty {@code ByteBuf}.
    *
@@ -13,6 +13,8 @@ package io.vertx.core.buffer.impl;
 
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.buffer.Unpooled;
 import io.netty.util.CharsetUtil;
 import io.vertx.core.buffer.Buffer;
@@ -62,18 +64,30 @@ public class BufferImpl implements Buffer {
     return new BufferImpl(byteBuffer);
   }
 
+  public static Buffer directBuffer(int initialSizeHint) {
+    return pooledBuffer(VertxByteBufAllocator.POOLED_ALLOCATOR.directBuffer(initialSizeHint, Integer.MAX_VALUE));
+  }
+
+  /**
+   * Wrap a {@code ByteBuf} owned by the returned buffer, {@link #release()} releases it.
+   */
+  public static Buffer pooledBuffer(ByteBuf byteBuffer) {
+    return new BufferImpl(byteBuffer, true);
+  }
+
   private ByteBuf buffer;
+  private boolean pooled; // Whether this buffer owns a reference to pooled memory
 
   public BufferImpl() {
     this(0);
   }
 
   BufferImpl(int initialSizeHint) {
-    buffer = VertxByteBufAllocator.DEFAULT.heapBuffer(initialSizeHint, Integer.MAX_VALUE);
+    this(VertxByteBufAllocator.DEFAULT.heapBuffer(initialSizeHint, Integer.MAX_VALUE));
   }
 
   BufferImpl(byte[] bytes) {
-    buffer = VertxByteBufAllocator.DEFAULT.heapBuffer(bytes.length, Integer.MAX_VALUE).writeBytes(bytes);
+    this(VertxByteBufAllocator.DEFAULT.heapBuffer(bytes.length, Integer.MAX_VALUE).writeBytes(bytes));
   }
 
   BufferImpl(String str, String enc) {
@@ -89,7 +103,12 @@ public class BufferImpl implements Buffer {
   }
 
   BufferImpl(ByteBuf buffer) {
+    this(buffer, false);
+  }
+
+  private BufferImpl(ByteBuf buffer, boolean pooled) {
     this.buffer = buffer;
+    this.pooled = pooled;
   }
 
   public String toString() {
@@ -518,7 +537,67 @@ public class BufferImpl implements Buffer {
   }
 
   public Buffer copy() {
-    return buffer.isReadOnly() ? this : new BufferImpl(buffer.copy());
+    if (buffer.isReadOnly()) {
+      return this;
+    }
+    if (buffer.alloc() instanceof PooledByteBufAllocator) {
+      // Do not let the copy hold pooled memory
+      ByteBuf copy = VertxByteBufAllocator.DEFAULT.heapBuffer(buffer.readableBytes(), Integer.MAX_VALUE);
+      copy.writeBytes(buffer, buffer.readerIndex(), buffer.readableBytes());
+      return new BufferImpl(copy);
+    }
+    return new BufferImpl(buffer.copy());
+  }
+
+  @Override
+  public int indexOf(byte b, int from) {
+    int len = buffer.writerIndex();
+    from = Math.max(from, 0);
+    if (from >= len) {
+      return -1;
+    }
+    // Netty compares a long at a time
+    return buffer.indexOf(from, len, b);
+  }
+
+  @Override
+  public int indexOf(Buffer needle, int from) {
+    Objects.requireNonNull(needle);
+    ByteBuf buf = needle instanceof BufferImpl ? ((BufferImpl) needle).buffer : needle.getByteBuf();
+    return indexOf(buf, from);
+  }
+
+  @Override
+  public int indexOf(byte[] needle, int from) {
+    Objects.requireNonNull(needle);
+    return indexOf(Unpooled.wrappedBuffer(needle), from);
+  }
+
+  private int indexOf(ByteBuf needle, int from) {
+    int len = buffer.writerIndex();
+    int needleLen = needle.readableBytes();
+    from = Math.max(from, 0);
+    if (needleLen == 0) {
+      return Math.min(from, len);
+    }
+    if (needleLen == 1) {
+      return indexOf(needle.getByte(needle.readerIndex()), from);
+    }
+    if (len - from < needleLen) {
+      return -1;
+    }
+    int idx = ByteBufUtil.indexOf(needle, buffer.slice(from, len - from));
+    return idx < 0 ? -1 : from + idx;
+  }
+
+  @Override
+  public int lastIndexOf(byte b, int from) {
+    from = Math.min(from, buffer.writerIndex() - 1);
+    if (from < 0) {
+      return -1;
+    }
+    // Searches backward from from + 1 (exclusive)
+    return buffer.indexOf(from + 1, 0, b);
   }
 
   public Buffer slice() {
@@ -536,6 +615,16 @@ public class BufferImpl implements Buffer {
     return buffer;
   }
 
+  @Override
+  public boolean release() {
+    if (pooled) {
+      pooled = false;
+      buffer.release();
+      return true;
+    }
+    return false;
+  }
+
   public ByteBuf getByteBuf() {
     ByteBuf duplicate = buffer.slice();
     if (buffer.getClass() != VertxHeapByteBuf.class && buffer.getClass() != VertxUnsafeHeapByteBuf.class) {
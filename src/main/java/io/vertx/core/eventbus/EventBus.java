@@ -19,6 +19,7 @@ import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.eventbus.impl.DefaultSerializableChecker;
+import io.vertx.core.eventbus.impl.UnresolvedEventBusAddress;
 import io.vertx.core.metrics.Measured;
 
 import java.util.function.Function;
@@ -136,6 +137,22 @@ public interface EventBus extends Measured {
   @Fluent
   EventBus publish(String address, @Nullable Object message, DeliveryOptions options);
 
+  /**
+   * Resolve an address to send, request or publish messages to.
+   * <p>
+   * The returned address tracks the handlers registered at this address, which saves looking them up for each
+   * message, and caches the codec of system types.
+   * <p>
+   * The default implementation returns an address that is not resolved, it delegates each message to the methods
+   * of this event bus taking the address.
+   *
+   * @param address  the address
+   * @return the resolved address
+   */
+  default EventBusAddress address(String address) {
+    return new UnresolvedEventBusAddress(this, address);
+  }
+
   /**
    * Create a message consumer against the specified address.
    * <p>
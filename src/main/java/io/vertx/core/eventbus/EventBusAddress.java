@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.eventbus;
+
+import io.vertx.codegen.annotations.Fluent;
+import io.vertx.codegen.annotations.Nullable;
+import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.core.Future;
+
+/**
+ * An event-bus address resolved by {@link EventBus#address(String)}.
+ * <p>
+ * The address keeps track of the handlers registered locally at this address, so sending a message does not
+ * need to look up the handlers. The codec of system types such as {@code String} or {@code JsonObject} is
+ * also cached. When the event bus is clustered, the cluster still selects the node the message is sent to.
+ * <p>
+ * Resolved addresses live as long as the event bus, they should be used for a bounded set of addresses
+ * that are sent to frequently.
+ */
+@VertxGen
+public interface EventBusAddress {
+
+  /**
+   * @return the address
+   */
+  String address();
+
+  /**
+   * Like {@link EventBus#send(String, Object)} but for this address.
+   *
+   * @param message  the message, may be {@code null}
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  EventBusAddress send(@Nullable Object message);
+
+  /**
+   * Like {@link EventBus#send(String, Object, DeliveryOptions)} but for this address.
+   *
+   * @param message  the message, may be {@code null}
+   * @param options  delivery options
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  EventBusAddress send(@Nullable Object message, DeliveryOptions options);
+
+  /**
+   * Like {@link EventBus#request(String, Object)} but for this address.
+   *
+   * @param message  the message, may be {@code null}
+   * @return a future notified with the reply
+   */
+  <T> Future<Message<T>> request(@Nullable Object message);
+
+  /**
+   * Like {@link EventBus#request(String, Object, DeliveryOptions)} but for this address.
+   *
+   * @param message  the message, may be {@code null}
+   * @param options  delivery options
+   * @return a future notified with the reply
+   */
+  <T> Future<Message<T>> request(@Nullable Object message, DeliveryOptions options);
+
+  /**
+   * Like {@link EventBus#publish(String, Object)} but for this address.
+   *
+   * @param message  the message, may be {@code null}
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  EventBusAddress publish(@Nullable Object message);
+
+  /**
+   * Like {@link EventBus#publish(String, Object, DeliveryOptions)} but for this address.
+   *
+   * @param message  the message, may be {@code null}
+   * @param options  the delivery options
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  EventBusAddress publish(@Nullable Object message, DeliveryOptions options);
+}
@@ -61,10 +61,40 @@ public class EventBusOptions extends TCPSSLOptions {
    */
   public static final long DEFAULT_CLUSTER_PING_REPLY_INTERVAL = TimeUnit.SECONDS.toMillis(20);
 
+  /**
+   * The default maximum number of messages coalesced in a single cluster write = 1, which means no batching.
+   */
+  public static final int DEFAULT_CLUSTER_WRITE_BATCH_SIZE = 1;
+
+  /**
+   * The default maximum number of bytes coalesced in a single cluster write = 65536.
+   */
+  public static final int DEFAULT_CLUSTER_WRITE_BATCH_MAX_BYTES = 64 * 1024;
+
+  /**
+   * The default value of whether the compact encoding is negotiated with other nodes = false.
+   */
+  public static final boolean DEFAULT_CLUSTER_COMPACT_ENCODING = false;
+
+  /**
+   * The default number of messages a remote node can send before they are handled = 0, which means no flow control.
+   */
+  public static final int DEFAULT_CLUSTER_FLOW_CONTROL_WINDOW = 0;
+
+  /**
+   * The default maximum number of messages queued per address when a remote node has no credits left = 1000.
+   */
+  public static final int DEFAULT_CLUSTER_FLOW_CONTROL_MAX_PENDING = 1000;
+
   private String clusterPublicHost = DEFAULT_CLUSTER_PUBLIC_HOST;
   private int clusterPublicPort = DEFAULT_CLUSTER_PUBLIC_PORT;
   private long clusterPingInterval = DEFAULT_CLUSTER_PING_INTERVAL;
   private long clusterPingReplyInterval = DEFAULT_CLUSTER_PING_REPLY_INTERVAL;
+  private int clusterWriteBatchSize = DEFAULT_CLUSTER_WRITE_BATCH_SIZE;
+  private int clusterWriteBatchMaxBytes = DEFAULT_CLUSTER_WRITE_BATCH_MAX_BYTES;
+  private boolean clusterCompactEncoding = DEFAULT_CLUSTER_COMPACT_ENCODING;
+  private int clusterFlowControlWindow = DEFAULT_CLUSTER_FLOW_CONTROL_WINDOW;
+  private int clusterFlowControlMaxPending = DEFAULT_CLUSTER_FLOW_CONTROL_MAX_PENDING;
   private JsonObject clusterNodeMetadata;
 
   // Attributes used to configure the server of the event bus when the event bus is clustered.
@@ -142,6 +172,11 @@ public class EventBusOptions extends TCPSSLOptions {
     this.clusterPublicPort = other.clusterPublicPort;
     this.clusterPingInterval = other.clusterPingInterval;
     this.clusterPingReplyInterval = other.clusterPingReplyInterval;
+    this.clusterWriteBatchSize = other.clusterWriteBatchSize;
+    this.clusterWriteBatchMaxBytes = other.clusterWriteBatchMaxBytes;
+    this.clusterCompactEncoding = other.clusterCompactEncoding;
+    this.clusterFlowControlWindow = other.clusterFlowControlWindow;
+    this.clusterFlowControlMaxPending = other.clusterFlowControlMaxPending;
     this.clusterNodeMetadata = other.clusterNodeMetadata == null ? null : other.clusterNodeMetadata.copy();
 
     this.port = other.port;
@@ -542,6 +577,21 @@ public class EventBusOptions extends TCPSSLOptions {
     return (EventBusOptions) super.setSslHandshakeTimeoutUnit(sslHandshakeTimeoutUnit);
   }
 
+  @Override
+  public EventBusOptions setSessionCacheSize(long sessionCacheSize) {
+    return (EventBusOptions) super.setSessionCacheSize(sessionCacheSize);
+  }
+
+  @Override
+  public EventBusOptions setSessionTimeout(long sessionTimeout) {
+    return (EventBusOptions) super.setSessionTimeout(sessionTimeout);
+  }
+
+  @Override
+  public EventBusOptions setSessionTicketKeyRotationPeriod(long sessionTicketKeyRotationPeriod) {
+    return (EventBusOptions) super.setSessionTicketKeyRotationPeriod(sessionTicketKeyRotationPeriod);
+  }
+
   /**
    * Set whether all server certificates should be trusted.
    *
@@ -630,6 +680,134 @@ public class EventBusOptions extends TCPSSLOptions {
     return this;
   }
 
+  /**
+   * @return the maximum number of messages coalesced in a single write to a remote node
+   */
+  public int getClusterWriteBatchSize() {
+    return clusterWriteBatchSize;
+  }
+
+  /**
+   * Set the maximum number of messages coalesced in a single write to a remote node.
+   * <p>
+   * When this value is greater than {@code 1}, messages sent to the same node are not written immediately,
+   * they are accumulated and written with a single write and flush on the next event-loop tick, or as soon as the batch
+   * reaches this size or {@link #setClusterWriteBatchMaxBytes(int) the maximum number of bytes}.
+   * <p>
+   * The default value is {@code 1}, which means each message is written immediately.
+   *
+   * @param clusterWriteBatchSize the maximum number of messages per batch
+   * @return a reference to this, so the API can be used fluently
+   */
+  public EventBusOptions setClusterWriteBatchSize(int clusterWriteBatchSize) {
+    if (clusterWriteBatchSize < 1) {
+      throw new IllegalArgumentException("clusterWriteBatchSize must be greater than 0");
+    }
+    this.clusterWriteBatchSize = clusterWriteBatchSize;
+    return this;
+  }
+
+  /**
+   * @return the maximum number of bytes coalesced in a single write to a remote node
+   */
+  public int getClusterWriteBatchMaxBytes() {
+    return clusterWriteBatchMaxBytes;
+  }
+
+  /**
+   * Set the maximum number of bytes coalesced in a single write to a remote node, a batch is written as soon
+   * as it reaches this size. This is only used when {@link #setClusterWriteBatchSize(int)} is greater than {@code 1}.
+   *
+   * @param clusterWriteBatchMaxBytes the maximum number of bytes per batch
+   * @return a reference to this, so the API can be used fluently
+   */
+  public EventBusOptions setClusterWriteBatchMaxBytes(int clusterWriteBatchMaxBytes) {
+    if (clusterWriteBatchMaxBytes < 1) {
+      throw new IllegalArgumentException("clusterWriteBatchMaxBytes must be greater than 0");
+    }
+    this.clusterWriteBatchMaxBytes = clusterWriteBatchMaxBytes;
+    return this;
+  }
+
+  /**
+   * @return whether the compact encoding is negotiated with other nodes
+   */
+  public boolean isClusterCompactEncoding() {
+    return clusterCompactEncoding;
+  }
+
+  /**
+   * Set whether the compact encoding is negotiated when connecting to other nodes.
+   * <p>
+   * With the compact encoding, addresses, header names and sender identifiers are sent once per connection
+   * and then referenced with a small integer identifier. The encoding is negotiated when the connection is
+   * established, nodes that do not support it keep receiving the regular encoding.
+   *
+   * @param clusterCompactEncoding {@code true} to negotiate the compact encoding
+   * @return a reference to this, so the API can be used fluently
+   */
+  public EventBusOptions setClusterCompactEncoding(boolean clusterCompactEncoding) {
+    this.clusterCompactEncoding = clusterCompactEncoding;
+    return this;
+  }
+
+  /**
+   * @return the number of messages a remote node can send to an address of this node before they are handled
+   */
+  public int getClusterFlowControlWindow() {
+    return clusterFlowControlWindow;
+  }
+
+  /**
+   * Set the number of messages a remote node can send to an address of this node before they are handled.
+   * <p>
+   * When this value is greater than {@code 0}, flow control is negotiated when connecting to other nodes. A node
+   * grants credits to each connected node for each address, a credit is consumed for each message sent to the
+   * address and returned once the message has been handed to a consumer or discarded, replies are not flow
+   * controlled. Messages sent to an address without credits are queued by the sender, up to
+   * {@link #setClusterFlowControlMaxPending(int)}, and their write completes when they are actually written, so a
+   * producer waiting for its writes is paced by the remote consumers.
+   * <p>
+   * The default value is {@code 0}, which means no flow control.
+   *
+   * @param clusterFlowControlWindow the number of messages
+   * @return a reference to this, so the API can be used fluently
+   */
+  public EventBusOptions setClusterFlowControlWindow(int clusterFlowControlWindow) {
+    if (clusterFlowControlWindow < 0) {
+      throw new IllegalArgumentException("clusterFlowControlWindow must be >= 0");
+    }
+    this.clusterFlowControlWindow = clusterFlowControlWindow;
+    return this;
+  }
+
+  /**
+   * @return the maximum number of messages queued per address when a remote node has no credits left
+   */
+  public int getClusterFlowControlMaxPending() {
+    return clusterFlowControlMaxPending;
+  }
+
+  /**
+   * Set the maximum number of messages queued per address when a remote node has no credits left for this address,
+   * the messages sent when the queue is full fail with a {@link ReplyFailure#ERROR} failure.
+   * <p>
+   * When flow control is enabled, the messages queued per address while the connection to a remote node is
+   * established are bounded by the window plus this value.
+   * <p>
+   * The default value is {@code 1000}.
+   *
+   * @param clusterFlowControlMaxPending the maximum number of messages
+   * @return a reference to this, so the API can be used fluently
+   */
+  public EventBusOptions setClusterFlowControlMaxPending(int clusterFlowControlMaxPending) {
+    if (clusterFlowControlMaxPending < 0) {
+      throw new IllegalArgumentException("clusterFlowControlMaxPending must be >= 0");
+    }
+    this.clusterFlowControlMaxPending = clusterFlowControlMaxPending;
+    return this;
+  }
+
   /**
    * Get the public facing host to be used when clustering.
    *
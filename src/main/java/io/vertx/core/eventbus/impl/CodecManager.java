@@ -121,6 +121,14 @@ public class CodecManager {
     return codec;
   }
 
+  /**
+   * @return whether {@code codec} is selected for a body type regardless of the registered codecs and the configured checks
+   */
+  boolean isBuiltinCodec(MessageCodec codec) {
+    return codec.systemCodecID() != -1 && codec != REPLY_EXCEPTION_MESSAGE_CODEC
+      && codec != clusterSerializableCodec && codec != serializableCodec;
+  }
+
   public MessageCodec getCodec(String codecName) {
     return userCodecMap.get(codecName);
   }
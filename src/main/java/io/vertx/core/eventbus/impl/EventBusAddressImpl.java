@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.eventbus.impl;
+
+import io.vertx.core.Future;
+import io.vertx.core.eventbus.DeliveryOptions;
+import io.vertx.core.eventbus.EventBusAddress;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.eventbus.MessageCodec;
+import io.vertx.core.impl.utils.ConcurrentCyclicSequence;
+
+/**
+ * The resolved address keeps a reference on the handlers of the address, the reference is updated by the event bus
+ * when the handlers of the address change.
+ */
+class EventBusAddressImpl implements EventBusAddress {
+
+  static final ConcurrentCyclicSequence<HandlerHolder> UNRESOLVED = new ConcurrentCyclicSequence<>();
+
+  private static final DeliveryOptions DEFAULT_OPTIONS = new DeliveryOptions();
+
+  private final EventBusImpl bus;
+  private final String address;
+  volatile ConcurrentCyclicSequence<HandlerHolder> handlers = UNRESOLVED;
+  private volatile CachedCodec cachedCodec;
+
+  EventBusAddressImpl(EventBusImpl bus, String address) {
+    this.bus = bus;
+    this.address = address;
+  }
+
+  /**
+   * @return the handlers registered at this address or {@code null} when there are none
+   */
+  ConcurrentCyclicSequence<HandlerHolder> handlers() {
+    ConcurrentCyclicSequence<HandlerHolder> h = handlers;
+    if (h == UNRESOLVED) {
+      // Not yet resolved
+      h = bus.handlerMap.get(address);
+    }
+    return h;
+  }
+
+  @Override
+  public String address() {
+    return address;
+  }
+
+  @Override
+  public EventBusAddress send(Object message) {
+    return send(message, DEFAULT_OPTIONS);
+  }
+
+  @Override
+  public EventBusAddress send(Object message, DeliveryOptions options) {
+    bus.sendOrPubInternal(sendContext(createMessage(true, message, options), options, null));
+    return this;
+  }
+
+  @Override
+  public <T> Future<Message<T>> request(Object message) {
+    return request(message, DEFAULT_OPTIONS);
+  }
+
+  @Override
+  public <T> Future<Message<T>> request(Object message, DeliveryOptions options) {
+    MessageImpl msg = createMessage(true, message, options);
+    ReplyHandler<T> handler = bus.createReplyHandler(msg, true, options);
+    bus.sendOrPubInternal(sendContext(msg, options, handler));
+    return handler.result();
+  }
+
+  @Override
+  public EventBusAddress publish(Object message) {
+    return publish(message, DEFAULT_OPTIONS);
+  }
+
+  @Override
+  public EventBusAddress publish(Object message, DeliveryOptions options) {
+    bus.sendOrPubInternal(sendContext(createMessage(false, message, options), options, null));
+    return this;
+  }
+
+  private <T> OutboundDeliveryContext<T> sendContext(MessageImpl msg, DeliveryOptions options, ReplyHandler<T> handler) {
+    OutboundDeliveryContext<T> ctx = bus.newSendContext(msg, options, handler, null);
+    ctx.target = this;
+    return ctx;
+  }
+
+  private MessageImpl createMessage(boolean send, Object body, DeliveryOptions options) {
+    return bus.createMessage(send, address, options.getHeaders(), body, lookupCodec(body, options));
+  }
+
+  private MessageCodec lookupCodec(Object body, DeliveryOptions options) {
+    String codecName = options.getCodecName();
+    boolean localOnly = bus.isLocalOnly(options);
+    if (codecName != null || body == null) {
+      return bus.codecManager.lookupCodec(body, codecName, localOnly);
+    }
+    CachedCodec cached = cachedCodec;
+    if (cached != null && cached.type == body.getClass()) {
+      return cached.codec;
+    }
+    MessageCodec codec = bus.codecManager.lookupCodec(body, null, localOnly);
+    if (bus.codecManager.isBuiltinCodec(codec)) {
+      cachedCodec = new CachedCodec(body.getClass(), codec);
+    }
+    return codec;
+  }
+
+  private static class CachedCodec {
+
+    final Class<?> type;
+    final MessageCodec codec;
+
+    CachedCodec(Class<?> type, MessageCodec codec) {
+      this.type = type;
+      this.codec = codec;
+    }
+  }
+}
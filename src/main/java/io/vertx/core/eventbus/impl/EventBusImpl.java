@@ -46,6 +46,8 @@ public class EventBusImpl implements EventBusInternal, MetricsProvider {
   protected final VertxInternal vertx;
   protected final EventBusMetrics metrics;
   protected final ConcurrentMap<String, ConcurrentCyclicSequence<HandlerHolder>> handlerMap = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, EventBusAddressImpl> resolvedAddresses = new ConcurrentHashMap<>();
+  final ReplyRegistry replies = new ReplyRegistry();
   protected final CodecManager codecManager = new CodecManager();
   protected volatile boolean started;
 
@@ -128,6 +130,26 @@ public class EventBusImpl implements EventBusInternal, MetricsProvider {
     return handler.result();
   }
 
+  @Override
+  public EventBusAddress address(String address) {
+    Objects.requireNonNull(address, "address");
+    EventBusAddressImpl resolved = resolvedAddresses.get(address);
+    if (resolved == null) {
+      resolved = new EventBusAddressImpl(this, address);
+      EventBusAddressImpl prev = resolvedAddresses.putIfAbsent(address, resolved);
+      if (prev != null) {
+        return prev;
+      }
+      // Registration changes update the resolved address from now on, resolve the current handlers
+      EventBusAddressImpl r = resolved;
+      handlerMap.compute(address, (key, val) -> {
+        r.handlers = val;
+        return val;
+      });
+    }
+    return resolved;
+  }
+
   @Override
   public <T> MessageProducer<T> sender(String address) {
     Objects.requireNonNull(address, "address");
@@ -252,6 +274,10 @@ public class EventBusImpl implements EventBusInternal, MetricsProvider {
   public MessageImpl createMessage(boolean send, boolean localOnly, String address, MultiMap headers, Object body, String codecName) {
     Objects.requireNonNull(address, "no null address accepted");
     MessageCodec codec = codecManager.lookupCodec(body, codecName, localOnly);
+    return createMessage(send, address, headers, body, codec);
+  }
+
+  protected MessageImpl createMessage(boolean send, String address, MultiMap headers, Object body, MessageCodec codec) {
     @SuppressWarnings("unchecked")
     MessageImpl msg = new MessageImpl(address, headers, body, codec, send, this);
     return msg;
@@ -277,11 +303,11 @@ public class EventBusImpl implements EventBusInternal, MetricsProvider {
 
     HandlerHolder<T> holder = createHandlerHolder(registration, replyHandler, localOnly, context);
 
-    ConcurrentCyclicSequence<HandlerHolder> handlers = new ConcurrentCyclicSequence<HandlerHolder>().add(holder);
-    ConcurrentCyclicSequence<HandlerHolder> actualHandlers = handlerMap.merge(
-      address,
-      handlers,
-      (old, prev) -> old.add(prev.first()));
+    handlerMap.compute(address, (key, val) -> {
+      ConcurrentCyclicSequence<HandlerHolder> next = val == null ? new ConcurrentCyclicSequence<HandlerHolder>().add(holder) : val.add(holder);
+      handlersChanged(key, next);
+      return next;
+    });
 
     if (context.isDeployment()) {
       context.addCloseHook(registration);
@@ -310,13 +336,27 @@ public class EventBusImpl implements EventBusInternal, MetricsProvider {
         return null;
       }
       ConcurrentCyclicSequence<HandlerHolder> next = val.remove(holder);
-      return next.size() == 0 ? null : next;
+      if (next.size() == 0) {
+        next = null;
+      }
+      handlersChanged(key, next);
+      return next;
     });
     if (holder.setRemoved() && holder.getContext().deploymentID() != null) {
       holder.getContext().removeCloseHook(holder.getHandler());
     }
   }
 
+  /**
+   * Called within the atomic update of the handlers of {@code address} to update its resolved address.
+   */
+  private void handlersChanged(String address, ConcurrentCyclicSequence<HandlerHolder> handlers) {
+    EventBusAddressImpl resolved = resolvedAddresses.get(address);
+    if (resolved != null) {
+      resolved.handlers = handlers;
+    }
+  }
+
   protected <T> void sendReply(MessageImpl replyMessage, DeliveryOptions options, ReplyHandler<T> replyHandler) {
     if (replyMessage.address() == null) {
       throw new IllegalStateException("address not specified");
@@ -338,7 +378,14 @@ public class EventBusImpl implements EventBusInternal, MetricsProvider {
   }
 
   private <T> void sendLocally(OutboundDeliveryContext<T> sendContext) {
-    ReplyException failure = deliverMessageLocally(sendContext.message);
+    MessageImpl msg = sendContext.message;
+    EventBusAddressImpl target = sendContext.target;
+    ReplyException failure;
+    if (target != null) {
+      failure = deliverMessageLocally(msg, target.handlers());
+    } else {
+      failure = deliverMessageLocally(msg);
+    }
     if (failure != null) {
       sendContext.written(failure);
     } else {
@@ -351,7 +398,18 @@ public class EventBusImpl implements EventBusInternal, MetricsProvider {
   }
 
   protected ReplyException deliverMessageLocally(MessageImpl msg) {
-    ConcurrentCyclicSequence<HandlerHolder> handlers = handlerMap.get(msg.address());
+    ReplyHandler<?> replyHandler = replies.get(msg.address());
+    if (replyHandler != null) {
+      if (metrics != null) {
+        metrics.messageReceived(msg.address(), !msg.isSend(), isMessageLocal(msg), 1);
+      }
+      replyHandler.receive(msg.copyBeforeReceive());
+      return null;
+    }
+    return deliverMessageLocally(msg, handlerMap.get(msg.address()));
+  }
+
+  private ReplyException deliverMessageLocally(MessageImpl msg, ConcurrentCyclicSequence<HandlerHolder> handlers) {
     boolean messageLocal = isMessageLocal(msg);
     if (handlers != null) {
       if (msg.isSend()) {
@@ -395,17 +453,29 @@ public class EventBusImpl implements EventBusInternal, MetricsProvider {
     }
   }
 
-  protected String generateReplyAddress() {
-    return "__vertx.reply." + Long.toString(replySequence.incrementAndGet());
+  /**
+   * @param id the correlation identifier of the reply handler
+   * @return the reply address, it must start with the reply address prefix followed by the correlation identifier
+   */
+  protected String generateReplyAddress(long id) {
+    return ReplyRegistry.REPLY_ADDRESS_PREFIX + id;
+  }
+
+  /**
+   * @return whether {@code address} is a reply address
+   */
+  protected static boolean isReplyAddress(String address) {
+    return ReplyRegistry.correlationId(address) != 0;
   }
 
   <T> ReplyHandler<T> createReplyHandler(MessageImpl message,
                                                  boolean src,
                                                  DeliveryOptions options) {
     long timeout = options.getSendTimeout();
-    String replyAddress = generateReplyAddress();
+    long id = replySequence.incrementAndGet();
+    String replyAddress = generateReplyAddress(id);
     message.setReplyAddress(replyAddress);
-    ReplyHandler<T> handler = new ReplyHandler<>(this, vertx.getOrCreateContext(), replyAddress, message.address, src, timeout);
+    ReplyHandler<T> handler = new ReplyHandler<>(this, vertx.getOrCreateContext(), id, replyAddress, message.address, src, timeout);
     handler.register();
     return handler;
   }
@@ -488,7 +558,7 @@ public class EventBusImpl implements EventBusInternal, MetricsProvider {
     }
   }
 
-  private boolean isLocalOnly(DeliveryOptions options) {
+  boolean isLocalOnly(DeliveryOptions options) {
     if (vertx.isClustered()) {
       return options.isLocalOnly();
     }
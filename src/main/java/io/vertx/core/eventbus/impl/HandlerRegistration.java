@@ -27,7 +27,7 @@ public abstract class HandlerRegistration<T> implements Closeable {
   public final String address;
   public final boolean src;
   private HandlerHolder<T> registered;
-  private Object metric;
+  Object metric;
 
   HandlerRegistration(ContextInternal context,
                       EventBusImpl bus,
@@ -96,9 +96,11 @@ public abstract class HandlerRegistration<T> implements Closeable {
   void dispatch(Handler<Message<T>> theHandler, Message<T> message, ContextInternal context) {
     InboundDeliveryContext deliveryCtx = new InboundDeliveryContext((MessageImpl<?, T>) message, theHandler, context);
     deliveryCtx.dispatch();
+    ((MessageImpl<?, T>) message).consumed();
   }
 
   void discard(Message<T> msg) {
+    ((MessageImpl<?, T>) msg).consumed();
     if (bus.metrics != null) {
       bus.metrics.discardMessage(metric, ((MessageImpl)msg).isLocal(), msg);
     }
@@ -140,4 +140,10 @@ public class MessageImpl<U, V> implements Message<V> {
   protected boolean isLocal() {
     return true;
   }
+
+  /**
+   * Called when the message has been handed to a handler or discarded.
+   */
+  protected void consumed() {
+  }
 }
@@ -35,6 +35,7 @@ public class OutboundDeliveryContext<T> extends DeliveryContextBase<T> implement
 
   EventBusImpl bus;
   EventBusMetrics metrics;
+  EventBusAddressImpl target;
 
   OutboundDeliveryContext(ContextInternal ctx, MessageImpl message, DeliveryOptions options, ReplyHandler<T> replyHandler, Promise<Void> writePromise) {
     super(message, message.bus.outboundInterceptors(), ctx);
@@ -21,25 +21,33 @@ import io.vertx.core.impl.ContextInternal;
 import io.vertx.core.spi.tracing.TagExtractor;
 import io.vertx.core.spi.tracing.VertxTracer;
 
+/**
+ * A reply handler is not registered in the handler map, it is registered in the {@link ReplyRegistry} of the event bus
+ * with its correlation {@link #id}. The first of the reply, the failure or the timeout removes it from the registry.
+ * <p>
+ * The timeout is a timer of the requester context, so it uses the timer wheel of the context event loop when
+ * timer wheels are enabled.
+ */
 class ReplyHandler<T> extends HandlerRegistration<T> implements Handler<Long> {
 
+  final long id;
   private final EventBusImpl eventBus;
   private final ContextInternal context;
   private final Promise<Message<T>> result;
-  private final long timeoutID;
   private final long timeout;
   private final boolean src;
   private final String repliedAddress;
+  private long timeoutID;
   Object trace;
 
-  ReplyHandler(EventBusImpl eventBus, ContextInternal context, String address, String repliedAddress, boolean src, long timeout) {
+  ReplyHandler(EventBusImpl eventBus, ContextInternal context, long id, String address, String repliedAddress, boolean src, long timeout) {
     super(context, eventBus, address, src);
+    this.id = id;
     this.eventBus = eventBus;
     this.context = context;
     this.result = context.promise();
     this.src = src;
     this.repliedAddress = repliedAddress;
-    this.timeoutID = eventBus.vertx.setTimer(timeout, this);
     this.timeout = timeout;
   }
 
@@ -56,8 +64,7 @@ class ReplyHandler<T> extends HandlerRegistration<T> implements Handler<Long> {
   }
 
   void fail(ReplyException failure) {
-    if (eventBus.vertx.cancelTimer(timeoutID)) {
-      unregister();
+    if (remove()) {
       doFail(failure);
     }
   }
@@ -72,8 +79,10 @@ class ReplyHandler<T> extends HandlerRegistration<T> implements Handler<Long> {
 
   @Override
   public void handle(Long id) {
-    unregister();
-    doFail(new ReplyException(ReplyFailure.TIMEOUT, "Timed out after waiting " + timeout + "(ms) for a reply. address: " + address + ", repliedAddress: " + repliedAddress));
+    if (eventBus.replies.remove(this)) {
+      unregistered();
+      doFail(new ReplyException(ReplyFailure.TIMEOUT, "Timed out after waiting " + timeout + "(ms) for a reply. address: " + address + ", repliedAddress: " + repliedAddress));
+    }
   }
 
   @Override
@@ -83,13 +92,48 @@ class ReplyHandler<T> extends HandlerRegistration<T> implements Handler<Long> {
   }
 
   void register() {
-    register(repliedAddress, true, null);
+    if (eventBus.metrics != null) {
+      metric = eventBus.metrics.handlerRegistered(address, repliedAddress);
+    }
+    synchronized (this) {
+      eventBus.replies.add(this);
+      timeoutID = context.setTimer(timeout, this);
+    }
+  }
+
+  @Override
+  public boolean isRegistered() {
+    return eventBus.replies.get(address) == this;
+  }
+
+  @Override
+  public Future<Void> unregister() {
+    remove();
+    return context.succeededFuture();
+  }
+
+  private boolean remove() {
+    if (eventBus.replies.remove(this)) {
+      long t;
+      synchronized (this) {
+        t = timeoutID;
+      }
+      eventBus.vertx.cancelTimer(t);
+      unregistered();
+      return true;
+    }
+    return false;
+  }
+
+  private void unregistered() {
+    if (eventBus.metrics != null) {
+      eventBus.metrics.handlerUnregistered(metric);
+    }
   }
 
   @Override
   protected void dispatch(Message<T> reply, ContextInternal context, Handler<Message<T>> handler /* null */) {
-    if (eventBus.vertx.cancelTimer(timeoutID)) {
-      unregister();
+    if (remove()) {
       if (reply.body() instanceof ReplyException) {
         doFail((ReplyException) reply.body());
       } else {
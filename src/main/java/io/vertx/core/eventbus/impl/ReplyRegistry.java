@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.eventbus.impl;
+
+/**
+ * The reply handlers waiting for a reply, keyed by their correlation identifier.
+ * <p>
+ * Reply handlers are not registered in the handler map of the event bus, the registry is split in shards, each shard
+ * is an open addressing map of {@code long} to reply handler protected by its own lock.
+ */
+class ReplyRegistry {
+
+  /**
+   * The prefix of reply addresses, the correlation identifier follows.
+   */
+  static final String REPLY_ADDRESS_PREFIX = "__vertx.reply.";
+
+  private static final int SHARDS = 16;
+
+  private final Shard[] shards;
+
+  ReplyRegistry() {
+    shards = new Shard[SHARDS];
+    for (int i = 0;i < SHARDS;i++) {
+      shards[i] = new Shard();
+    }
+  }
+
+  /**
+   * Parse the correlation identifier of a reply address.
+   *
+   * @return the identifier or {@code 0} when {@code address} is not a reply address
+   */
+  static long correlationId(String address) {
+    int len = address.length();
+    int prefixLen = REPLY_ADDRESS_PREFIX.length();
+    if (len <= prefixLen || !address.startsWith(REPLY_ADDRESS_PREFIX)) {
+      return 0;
+    }
+    long id = 0;
+    for (int i = prefixLen;i < len;i++) {
+      char c = address.charAt(i);
+      if (c == '.') {
+        break;
+      }
+      if (c < '0' || c > '9' || id > (Long.MAX_VALUE - 9) / 10) {
+        return 0;
+      }
+      id = id * 10 + (c - '0');
+    }
+    return id;
+  }
+
+  void add(ReplyHandler<?> handler) {
+    shard(handler.id).put(handler.id, handler);
+  }
+
+  /**
+   * @return the reply handler registered at {@code address} or {@code null}
+   */
+  ReplyHandler<?> get(String address) {
+    long id = correlationId(address);
+    if (id == 0) {
+      return null;
+    }
+    ReplyHandler<?> handler = shard(id).get(id);
+    return handler != null && handler.address.equals(address) ? handler : null;
+  }
+
+  /**
+   * Remove the {@code handler}.
+   *
+   * @return {@code true} when this call removed the handler
+   */
+  boolean remove(ReplyHandler<?> handler) {
+    return shard(handler.id).remove(handler.id, handler);
+  }
+
+  private Shard shard(long id) {
+    return shards[(int) (id & (SHARDS - 1))];
+  }
+
+  /**
+   * Linear probing map, {@code 0} is not a valid key.
+   */
+  private static class Shard {
+
+    private long[] keys = new long[16];
+    private ReplyHandler<?>[] values = new ReplyHandler<?>[16];
+    private int size;
+
+    private static int hash(long key, int mask) {
+      long h = key * 0x9E3779B97F4A7C15L;
+      return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    synchronized ReplyHandler<?> get(long key) {
+      int mask = keys.length - 1;
+      for (int i = hash(key, mask);;i = (i + 1) & mask) {
+        long k = keys[i];
+        if (k == key) {
+          return values[i];
+        } else if (k == 0) {
+          return null;
+        }
+      }
+    }
+
+    synchronized void put(long key, ReplyHandler<?> value) {
+      if ((size + 1) * 2 > keys.length) {
+        resize();
+      }
+      int mask = keys.length - 1;
+      int i = hash(key, mask);
+      while (keys[i] != 0) {
+        i = (i + 1) & mask;
+      }
+      keys[i] = key;
+      values[i] = value;
+      size++;
+    }
+
+    synchronized boolean remove(long key, ReplyHandler<?> value) {
+      int mask = keys.length - 1;
+      int i = hash(key, mask);
+      while (keys[i] != key) {
+        if (keys[i] == 0) {
+          return false;
+        }
+        i = (i + 1) & mask;
+      }
+      if (values[i] != value) {
+        return false;
+      }
+      // Shift back the following entries of the cluster
+      int j = i;
+      while (true) {
+        j = (j + 1) & mask;
+        long k = keys[j];
+        if (k == 0) {
+          break;
+        }
+        int slot = hash(k, mask);
+        if (i <= j ? (i < slot && slot <= j) : (i < slot || slot <= j)) {
+          continue;
+        }
+        keys[i] = k;
+        values[i] = values[j];
+        i = j;
+      }
+      keys[i] = 0;
+      values[i] = null;
+      size--;
+      return true;
+    }
+
+    private void resize() {
+      long[] prevKeys = keys;
+      ReplyHandler<?>[] prevValues = values;
+      keys = new long[prevKeys.length * 2];
+      values = new ReplyHandler<?>[prevKeys.length * 2];
+      int mask = keys.length - 1;
+      for (int i = 0;i < prevKeys.length;i++) {
+        long k = prevKeys[i];
+        if (k != 0) {
+          int j = hash(k, mask);
+          while (keys[j] != 0) {
+            j = (j + 1) & mask;
+          }
+          keys[j] = k;
+          values[j] = prevValues[i];
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.eventbus.impl;
+
+import io.vertx.core.Future;
+import io.vertx.core.eventbus.DeliveryOptions;
+import io.vertx.core.eventbus.EventBus;
+import io.vertx.core.eventbus.EventBusAddress;
+import io.vertx.core.eventbus.Message;
+
+import java.util.Objects;
+
+/**
+ * An address that delegates each message to the event bus methods taking the address, returned by the event bus
+ * implementations that do not resolve addresses.
+ */
+public class UnresolvedEventBusAddress implements EventBusAddress {
+
+  private final EventBus bus;
+  private final String address;
+
+  public UnresolvedEventBusAddress(EventBus bus, String address) {
+    this.bus = Objects.requireNonNull(bus, "bus");
+    this.address = Objects.requireNonNull(address, "address");
+  }
+
+  @Override
+  public String address() {
+    return address;
+  }
+
+  @Override
+  public EventBusAddress send(Object message) {
+    bus.send(address, message);
+    return this;
+  }
+
+  @Override
+  public EventBusAddress send(Object message, DeliveryOptions options) {
+    bus.send(address, message, options);
+    return this;
+  }
+
+  @Override
+  public <T> Future<Message<T>> request(Object message) {
+    return bus.request(address, message);
+  }
+
+  @Override
+  public <T> Future<Message<T>> request(Object message, DeliveryOptions options) {
+    return bus.request(address, message, options);
+  }
+
+  @Override
+  public EventBusAddress publish(Object message) {
+    bus.publish(address, message);
+    return this;
+  }
+
+  @Override
+  public EventBusAddress publish(Object message, DeliveryOptions options) {
+    bus.publish(address, message, options);
+    return this;
+  }
+}
@@ -61,6 +61,9 @@ public class ClusteredEventBus extends EventBusImpl {
   private static final Logger log = LoggerFactory.getLogger(ClusteredEventBus.class);
 
   private static final Buffer PONG = Buffer.buffer(new byte[]{(byte) 1});
+  static final Buffer PONG_COMPACT = Buffer.buffer(new byte[]{(byte) 2});
+  static final String WIRE_PROTOCOL_HEADER = "__vertx.wire.protocol";
+  static final String FLOW_CONTROL_HEADER = "__vertx.flow.control";
 
   private final EventBusOptions options;
   private final ClusterManager clusterManager;
@@ -147,9 +150,7 @@ public class ClusteredEventBus extends EventBusImpl {
   }
 
   @Override
-  public MessageImpl createMessage(boolean send, boolean isLocal, String address, MultiMap headers, Object body, String codecName) {
-    Objects.requireNonNull(address, "no null address accepted");
-    MessageCodec codec = codecManager.lookupCodec(body, codecName, isLocal);
+  protected MessageImpl createMessage(boolean send, String address, MultiMap headers, Object body, MessageCodec codec) {
     @SuppressWarnings("unchecked")
     ClusteredMessage msg = new ClusteredMessage(nodeId, address, headers, body, codec, send, this);
     return msg;
@@ -230,9 +231,9 @@ public class ClusteredEventBus extends EventBusImpl {
   }
 
   @Override
-  protected String generateReplyAddress() {
-    // The address is a cryptographically secure id that can't be guessed
-    return "__vertx.reply." + UUID.randomUUID().toString();
+  protected String generateReplyAddress(long id) {
+    // The address ends with a cryptographically secure id that can't be guessed
+    return super.generateReplyAddress(id) + "." + UUID.randomUUID().toString();
   }
 
   @Override
@@ -296,8 +297,10 @@ public class ClusteredEventBus extends EventBusImpl {
   private Handler<NetSocket> getServerHandler() {
     return socket -> {
       RecordParser parser = RecordParser.newFixed(4);
+      SymbolTable symbols = new SymbolTable();
       Handler<Buffer> handler = new Handler<Buffer>() {
         int size = -1;
+        InboundFlow flow;
 
         public void handle(Buffer buff) {
           if (size == -1) {
@@ -305,7 +308,7 @@ public class ClusteredEventBus extends EventBusImpl {
             parser.fixedSizeMode(size);
           } else {
             ClusteredMessage received = new ClusteredMessage(ClusteredEventBus.this);
-            received.readFromWire(buff, codecManager);
+            received.readFromWire(buff, codecManager, symbols);
             if (metrics != null) {
               metrics.messageRead(received.address(), buff.length());
             }
@@ -313,9 +316,20 @@ public class ClusteredEventBus extends EventBusImpl {
             size = -1;
             if (received.hasFailure()) {
               received.internalError();
+              if (flow != null && isFlowControlled(received.address())) {
+                flow.release(received.address());
+              }
             } else if (received.codec() == CodecManager.PING_MESSAGE_CODEC) {
+              if (flow == null && requestsFlowControl(received)) {
+                // Grant the initial credits before the pong
+                flow = new InboundFlow(socket, options.getClusterFlowControlWindow());
+              }
               // Just send back pong directly on connection
-              socket.write(PONG);
+              socket.write(supportsCompactEncoding(received) ? PONG_COMPACT : PONG);
+            } else if (flow != null && isFlowControlled(received.address())) {
+              received.flow(flow);
+              deliverMessageLocally(received);
+              received.consumed();
             } else {
               deliverMessageLocally(received);
             }
@@ -327,6 +341,31 @@ public class ClusteredEventBus extends EventBusImpl {
     };
   }
 
+  static boolean supportsCompactEncoding(ClusteredMessage<?, ?> ping) {
+    String version = ping.headers().get(WIRE_PROTOCOL_HEADER);
+    if (version == null) {
+      return false;
+    }
+    try {
+      return Integer.parseInt(version) >= ClusteredMessage.COMPACT_WIRE_PROTOCOL_VERSION;
+    } catch (NumberFormatException e) {
+      // Fall back to the legacy encoding
+      log.debug("Invalid wire protocol version " + version);
+      return false;
+    }
+  }
+
+  /**
+   * @return whether the messages sent to {@code address} consume credits, replies are not flow controlled
+   */
+  static boolean isFlowControlled(String address) {
+    return !isReplyAddress(address);
+  }
+
+  private boolean requestsFlowControl(ClusteredMessage<?, ?> ping) {
+    return options.getClusterFlowControlWindow() > 0 && Boolean.parseBoolean(ping.headers().get(FLOW_CONTROL_HEADER));
+  }
+
   private <T> void sendToNode(OutboundDeliveryContext<T> sendContext, String nodeId) {
     if (nodeId != null && !nodeId.equals(this.nodeId)) {
       sendRemote(sendContext, nodeId, sendContext.message);
@@ -11,9 +11,12 @@
 
 package io.vertx.core.eventbus.impl.clustered;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
 import io.netty.util.CharsetUtil;
 import io.vertx.core.MultiMap;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.buffer.impl.BufferImpl;
 import io.vertx.core.eventbus.DeliveryOptions;
 import io.vertx.core.eventbus.MessageCodec;
 import io.vertx.core.eventbus.ReplyException;
@@ -26,6 +29,7 @@ import io.vertx.core.impl.logging.LoggerFactory;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * @author <a href="http://tfox.org">Tim Fox</a>
@@ -36,6 +40,11 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
 
   private static final byte WIRE_PROTOCOL_VERSION = 2;
 
+  /**
+   * The compact wire protocol version, only used when both ends of a connection support it.
+   */
+  static final byte COMPACT_WIRE_PROTOCOL_VERSION = 3;
+
   private String sender;
   private String repliedTo;
   private Buffer wireBuffer;
@@ -44,6 +53,8 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
   private boolean fromWire;
   private boolean toWire;
   private String failure;
+  private InboundFlow flow;
+  private AtomicInteger flowRefs;
 
   public ClusteredMessage(EventBusImpl bus) {
     super(bus);
@@ -64,6 +75,12 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
       this.headersPos = other.headersPos;
     }
     this.fromWire = other.fromWire;
+    if (other.flow != null) {
+      // The copies share the credit of the message read from the wire
+      this.flow = other.flow;
+      this.flowRefs = other.flowRefs;
+      flowRefs.incrementAndGet();
+    }
   }
 
   @Override
@@ -111,6 +128,56 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
     toWire = true;
     int length = 1024; // TODO make this configurable
     Buffer buffer = Buffer.buffer(length);
+    encodePrologue(buffer, null);
+    writeBody(buffer);
+    buffer.setInt(0, buffer.length() - 4);
+    return buffer;
+  }
+
+  /**
+   * Encode the message frame in a buffer allocated by {@code allocator}.
+   * <p>
+   * The body is always copied in the frame, including {@link Buffer} and {@code byte[]} bodies that are not
+   * wrapped: the frame is written asynchronously and the sender remains free to modify or release the body once the
+   * message is sent. The frame is sized from the body length, so the body is copied once into pooled direct memory
+   * instead of being copied into a heap buffer and then into a direct buffer by the transport.
+   *
+   * @param allocator the allocator of the frame buffer
+   * @param symbols the connection symbols when the compact wire protocol is used, otherwise {@code null}
+   * @return the encoded frame, the caller is responsible for releasing it
+   */
+  public ByteBuf encodeToWire(ByteBufAllocator allocator, SymbolTable symbols) {
+    toWire = true;
+    ByteBuf frame = allocator.directBuffer(256 + bodyLengthHint());
+    try {
+      Buffer buffer = BufferImpl.buffer(frame);
+      encodePrologue(buffer, symbols);
+      writeBody(buffer);
+      buffer.setInt(0, buffer.length() - 4);
+      return frame;
+    } catch (RuntimeException e) {
+      frame.release();
+      throw e;
+    }
+  }
+
+  /**
+   * @return the size of {@link Buffer} and {@code byte[]} bodies, so the frame is allocated once
+   */
+  private int bodyLengthHint() {
+    if (messageCodec == CodecManager.BUFFER_MESSAGE_CODEC) {
+      return ((Buffer) sentBody).length();
+    } else if (messageCodec == CodecManager.BYTE_ARRAY_MESSAGE_CODEC) {
+      return ((byte[]) sentBody).length;
+    }
+    return 0;
+  }
+
+  private void encodePrologue(Buffer buffer, SymbolTable symbols) {
+    if (symbols != null) {
+      encodeCompactPrologue(((BufferImpl) buffer).byteBuf(), symbols);
+      return;
+    }
     buffer.appendInt(0);
     buffer.appendByte(WIRE_PROTOCOL_VERSION);
     byte systemCodecID = messageCodec.systemCodecID();
@@ -128,15 +195,51 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
     }
     writeString(buffer, sender);
     encodeHeaders(buffer);
-    writeBody(buffer);
-    buffer.setInt(0, buffer.length() - 4);
-    return buffer;
+  }
+
+  private void encodeCompactPrologue(ByteBuf buffer, SymbolTable symbols) {
+    buffer.writeInt(0);
+    buffer.writeByte(COMPACT_WIRE_PROTOCOL_VERSION);
+    byte systemCodecID = messageCodec.systemCodecID();
+    buffer.writeByte(systemCodecID);
+    if (systemCodecID == -1) {
+      // User codec
+      symbols.writeSymbol(buffer, messageCodec.name());
+    }
+    buffer.writeByte(send ? (byte) 0 : (byte) 1);
+    symbols.writeSymbol(buffer, address);
+    // Reply addresses are unique, they are not worth a symbol
+    SymbolTable.writeString(buffer, replyAddress != null ? replyAddress : "");
+    symbols.writeSymbol(buffer, sender);
+    if (headers != null && !headers.isEmpty()) {
+      List<Map.Entry<String, String>> entries = headers.entries();
+      SymbolTable.writeVarInt(buffer, entries.size());
+      for (Map.Entry<String, String> entry: entries) {
+        symbols.writeSymbol(buffer, entry.getKey());
+        SymbolTable.writeString(buffer, entry.getValue());
+      }
+    } else {
+      SymbolTable.writeVarInt(buffer, 0);
+    }
   }
 
   public void readFromWire(Buffer buffer, CodecManager codecManager) {
+    readFromWire(buffer, codecManager, null);
+  }
+
+  /**
+   * Read the message from the wire.
+   *
+   * @param symbols the connection symbols, required to read frames of the compact wire protocol
+   */
+  public void readFromWire(Buffer buffer, CodecManager codecManager, SymbolTable symbols) {
     int pos = 0;
     // Overall Length already read when passed in here
     byte protocolVersion = buffer.getByte(pos);
+    if (protocolVersion == COMPACT_WIRE_PROTOCOL_VERSION && symbols != null) {
+      readCompactFromWire(buffer, codecManager, symbols);
+      return;
+    }
     if (protocolVersion > WIRE_PROTOCOL_VERSION) {
       setFailure("Invalid wire protocol version " + protocolVersion + " should be <= " + WIRE_PROTOCOL_VERSION);
     }
@@ -185,6 +288,62 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
     fromWire = true;
   }
 
+  private void readCompactFromWire(Buffer buffer, CodecManager codecManager, SymbolTable symbols) {
+    ByteBuf in = ((BufferImpl) buffer).byteBuf().duplicate();
+    in.readerIndex(1);
+    byte systemCodecCode = in.readByte();
+    if (systemCodecCode == -1) {
+      // User codec
+      String codecName = symbols.readSymbol(in);
+      messageCodec = codecManager.getCodec(codecName);
+      if (messageCodec == null) {
+        setFailure("No message codec registered with name " + codecName);
+      }
+    } else {
+      messageCodec = codecManager.systemCodecs()[systemCodecCode];
+    }
+    send = in.readByte() == 0;
+    address = symbols.readSymbol(in);
+    String reply = SymbolTable.readString(in);
+    if (!reply.isEmpty()) {
+      replyAddress = reply;
+    }
+    sender = symbols.readSymbol(in);
+    // Headers are decoded eagerly as symbols must be read in order
+    int numHeaders = SymbolTable.readVarInt(in);
+    if (numHeaders > 0) {
+      headers = MultiMap.caseInsensitiveMultiMap();
+      for (int i = 0; i < numHeaders; i++) {
+        String key = symbols.readSymbol(in);
+        String val = SymbolTable.readString(in);
+        headers.add(key, val);
+      }
+    }
+    bodyPos = in.readerIndex();
+    wireBuffer = buffer;
+    fromWire = true;
+  }
+
+  /**
+   * Bind the message to the flow of the connection it was read from, the credit is released once the message
+   * and all its copies have been consumed.
+   */
+  void flow(InboundFlow flow) {
+    this.flow = flow;
+    this.flowRefs = new AtomicInteger(1);
+  }
+
+  @Override
+  protected void consumed() {
+    InboundFlow f = flow;
+    if (f != null) {
+      flow = null;
+      if (flowRefs.decrementAndGet() == 0) {
+        f.release(address);
+      }
+    }
+  }
+
   private void setFailure(String s) {
     if (failure == null) {
       failure = s;
@@ -11,20 +11,36 @@
 
 package io.vertx.core.eventbus.impl.clustered;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.util.CharsetUtil;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
 import io.vertx.core.Promise;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.buffer.impl.VertxByteBufAllocator;
 import io.vertx.core.eventbus.EventBusOptions;
+import io.vertx.core.eventbus.ReplyException;
+import io.vertx.core.eventbus.ReplyFailure;
 import io.vertx.core.eventbus.impl.OutboundDeliveryContext;
 import io.vertx.core.eventbus.impl.codecs.PingMessageCodec;
 import io.vertx.core.impl.VertxInternal;
 import io.vertx.core.impl.logging.Logger;
 import io.vertx.core.impl.logging.LoggerFactory;
 import io.vertx.core.net.NetSocket;
+import io.vertx.core.net.impl.NetSocketInternal;
 import io.vertx.core.net.impl.ConnectionBase;
+import io.vertx.core.parsetools.RecordParser;
 import io.vertx.core.spi.cluster.NodeInfo;
 import io.vertx.core.spi.metrics.EventBusMetrics;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Queue;
 
 /**
@@ -40,9 +56,20 @@ class ConnectionHolder {
   private final String remoteNodeId;
   private final VertxInternal vertx;
   private final EventBusMetrics metrics;
+  private final int batchSize;
+  private final int batchMaxBytes;
+  private final int maxPending;
+  private final int maxConnectingPending; // Per flow controlled address, what a connected holder accepts at most
 
   private Queue<OutboundDeliveryContext<?>> pending;
-  private NetSocket socket;
+  private Map<String, Integer> pendingPerAddress;
+  private Map<String, OutboundFlow> flows;
+  private List<OutboundDeliveryContext<?>> batch;
+  private CompositeByteBuf batchBuffer;
+  private boolean batchFlushScheduled;
+  private NetSocketInternal socket;
+  private SymbolTable symbols;
+  private int window = -1; // -1 means no flow control
   private boolean connected;
   private long timeoutID = -1;
   private long pingTimeoutID = -1;
@@ -52,6 +79,11 @@ class ConnectionHolder {
     this.remoteNodeId = remoteNodeId;
     this.vertx = eventBus.vertx();
     this.metrics = eventBus.getMetrics();
+    this.batchSize = eventBus.options().getClusterWriteBatchSize();
+    this.batchMaxBytes = eventBus.options().getClusterWriteBatchMaxBytes();
+    this.maxPending = eventBus.options().getClusterFlowControlMaxPending();
+    int window = eventBus.options().getClusterFlowControlWindow();
+    this.maxConnectingPending = window > 0 ? window + maxPending : -1;
   }
 
   void connect() {
@@ -72,11 +104,7 @@ class ConnectionHolder {
   // TODO optimise this (contention on monitor)
   synchronized void writeMessage(OutboundDeliveryContext<?> ctx) {
     if (connected) {
-      Buffer data = ((ClusteredMessage) ctx.message).encodeToWire();
-      if (metrics != null) {
-        metrics.messageWritten(ctx.message.address(), data.length());
-      }
-      socket.write(data, ctx);
+      send(ctx);
     } else {
       if (pending == null) {
         if (log.isDebugEnabled()) {
@@ -84,7 +112,56 @@ class ConnectionHolder {
         }
         pending = new ArrayDeque<>();
       }
-      pending.add(ctx);
+      if (maxConnectingPending == -1 || queueConnecting(ctx.message.address())) {
+        pending.add(ctx);
+      } else {
+        ctx.written(new ReplyException(ReplyFailure.ERROR, "Too many messages pending for address " + ctx.message.address() + " of server " + remoteNodeId + " while connecting"));
+      }
+    }
+  }
+
+  /**
+   * Count a message queued while connecting, a flow controlled address queues at most its window and its
+   * pending messages, the messages beyond would fail once connected.
+   */
+  private boolean queueConnecting(String address) {
+    if (!ClusteredEventBus.isFlowControlled(address)) {
+      return true;
+    }
+    if (pendingPerAddress == null) {
+      pendingPerAddress = new HashMap<>();
+    }
+    int count = pendingPerAddress.getOrDefault(address, 0);
+    if (count >= maxConnectingPending) {
+      return false;
+    }
+    pendingPerAddress.put(address, count + 1);
+    return true;
+  }
+
+  /**
+   * Write the message when flow control is disabled or its address has credits left, otherwise queue it.
+   */
+  private void send(OutboundDeliveryContext<?> ctx) {
+    String address = ctx.message.address();
+    if (window == -1 || !ClusteredEventBus.isFlowControlled(address)) {
+      write(ctx);
+      return;
+    }
+    if (flows == null) {
+      flows = new HashMap<>();
+    }
+    OutboundFlow flow = flows.computeIfAbsent(address, a -> new OutboundFlow(window));
+    if (flow.credits > 0 && flow.pending.isEmpty()) {
+      flow.credits--;
+      write(ctx);
+    } else if (flow.pending.size() < maxPending) {
+      if (flow.pending.isEmpty() && log.isDebugEnabled()) {
+        log.debug("No credits left for address " + address + " of server " + remoteNodeId + " - starting queuing");
+      }
+      flow.pending.add(ctx);
+    } else {
+      ctx.written(new ReplyException(ReplyFailure.ERROR, "Too many messages pending for address " + address + " of server " + remoteNodeId));
     }
   }
 
@@ -106,6 +183,23 @@ class ConnectionHolder {
           msg.written(cause);
         }
       }
+      if (flows != null) {
+        for (OutboundFlow flow : flows.values()) {
+          while ((msg = flow.pending.poll()) != null) {
+            msg.written(cause);
+          }
+        }
+        flows = null;
+      }
+      if (batch != null) {
+        // The batch is not written anymore, release the encoded messages
+        batchBuffer.release();
+        for (OutboundDeliveryContext<?> ctx : batch) {
+          ctx.written(cause);
+        }
+        batch = null;
+        batchBuffer = null;
+      }
     }
     // The holder can be null or different if the target server is restarted with same nodeInfo
     // before the cleanup for the previous one has been processed
@@ -133,31 +227,215 @@ class ConnectionHolder {
   }
 
   private synchronized void connected(NetSocket socket) {
-    this.socket = socket;
-    connected = true;
+    this.socket = (NetSocketInternal) socket;
     socket.exceptionHandler(err -> {
       close(err);
     });
     socket.closeHandler(v -> close());
-    socket.handler(data -> {
-      // Got a pong back
-      vertx.cancelTimer(timeoutID);
-      schedulePing();
+    socket.handler(frameParser());
+    EventBusOptions options = eventBus.options();
+    if (options.isClusterCompactEncoding() || options.getClusterFlowControlWindow() > 0) {
+      negotiate(options);
+    } else {
+      ready();
+    }
+  }
+
+  /**
+   * @return the parser of the frames sent by the server: pongs, window and credits
+   */
+  private RecordParser frameParser() {
+    RecordParser parser = RecordParser.newFixed(1);
+    parser.handler(new Handler<Buffer>() {
+      byte frame = -1;
+      int credits = -1;
+
+      public void handle(Buffer buff) {
+        if (frame == InboundFlow.WINDOW_FRAME) {
+          frame = -1;
+          parser.fixedSizeMode(1);
+          window(buff.getInt(0));
+        } else if (frame == InboundFlow.CREDITS_FRAME) {
+          if (credits == -1) {
+            // The credits followed by the address length
+            int length = buff.getInt(4);
+            if (length > 0) {
+              credits = buff.getInt(0);
+              parser.fixedSizeMode(length);
+              return;
+            }
+            credited(buff.getInt(0), "");
+          } else {
+            credited(credits, buff.toString(CharsetUtil.UTF_8));
+          }
+        } else {
+          byte type = buff.getByte(0);
+          if (type == InboundFlow.WINDOW_FRAME) {
+            frame = type;
+            parser.fixedSizeMode(4);
+          } else if (type == InboundFlow.CREDITS_FRAME) {
+            frame = type;
+            parser.fixedSizeMode(8);
+          } else {
+            pong(type);
+          }
+        }
+      }
+
+      private void credited(int amount, String address) {
+        frame = -1;
+        credits = -1;
+        parser.fixedSizeMode(1);
+        granted(address, amount);
+      }
+    });
+    return parser;
+  }
+
+  private void pong(byte type) {
+    vertx.cancelTimer(timeoutID);
+    synchronized (this) {
+      if (!connected) {
+        // Negotiation pong
+        if (type == ClusteredEventBus.PONG_COMPACT.getByte(0)) {
+          symbols = new SymbolTable();
+        }
+        ready();
+        return;
+      }
+    }
+    schedulePing();
+  }
+
+  private synchronized void window(int window) {
+    this.window = window;
+  }
+
+  /**
+   * Credits returned by the server for {@code address}, the flow is discarded once all its credits are returned.
+   */
+  private synchronized void granted(String address, int amount) {
+    OutboundFlow flow = flows != null ? flows.get(address) : null;
+    if (flow == null) {
+      return;
+    }
+    flow.credits += amount;
+    OutboundDeliveryContext<?> ctx;
+    while (flow.credits > 0 && (ctx = flow.pending.poll()) != null) {
+      flow.credits--;
+      write(ctx);
+    }
+    if (flow.pending.isEmpty() && flow.credits >= window) {
+      flows.remove(address);
+    }
+  }
+
+  /**
+   * Negotiate the compact encoding and flow control with a ping, messages remain queued until the server pongs back.
+   * A server that does not support the compact encoding sends a regular pong, a server that does not support flow
+   * control does not grant credits before the pong.
+   */
+  private void negotiate(EventBusOptions options) {
+    timeoutID = vertx.setTimer(options.getClusterPingReplyInterval(), id -> {
+      log.warn("No pong from server " + remoteNodeId + " - will consider it dead");
+      close();
     });
+    MultiMap headers = MultiMap.caseInsensitiveMultiMap();
+    if (options.isClusterCompactEncoding()) {
+      headers.add(ClusteredEventBus.WIRE_PROTOCOL_HEADER, String.valueOf(ClusteredMessage.COMPACT_WIRE_PROTOCOL_VERSION));
+    }
+    if (options.getClusterFlowControlWindow() > 0) {
+      headers.add(ClusteredEventBus.FLOW_CONTROL_HEADER, "true");
+    }
+    ClusteredMessage pingMessage =
+      new ClusteredMessage<>(remoteNodeId, PING_ADDRESS, headers, null, new PingMessageCodec(), true, eventBus);
+    socket.write(pingMessage.encodeToWire());
+  }
+
+  private void ready() {
+    connected = true;
     // Start a pinger
     schedulePing();
     if (pending != null) {
       if (log.isDebugEnabled()) {
         log.debug("Draining the queue for server " + remoteNodeId);
       }
-      for (OutboundDeliveryContext<?> ctx : pending) {
-        Buffer data = ((ClusteredMessage<?, ?>)ctx.message).encodeToWire();
-        if (metrics != null) {
-          metrics.messageWritten(ctx.message.address(), data.length());
-        }
-        socket.write(data, ctx);
-      }
+      drainPending();
+    }
+  }
+
+  private void drainPending() {
+    OutboundDeliveryContext<?> ctx;
+    while ((ctx = pending.poll()) != null) {
+      send(ctx);
     }
     pending = null;
+    pendingPerAddress = null;
+  }
+
+  private void write(OutboundDeliveryContext<?> ctx) {
+    ByteBuf data = ((ClusteredMessage<?, ?>)ctx.message).encodeToWire(VertxByteBufAllocator.POOLED_ALLOCATOR, symbols);
+    if (metrics != null) {
+      metrics.messageWritten(ctx.message.address(), data.readableBytes());
+    }
+    if (batchSize > 1) {
+      addToBatch(ctx, data);
+    } else {
+      socket.writeMessage(data, ctx);
+    }
+  }
+
+  /**
+   * Add the encoded message to the current batch, the batch is written when it is full or on the next
+   * tick of the socket event-loop.
+   */
+  private void addToBatch(OutboundDeliveryContext<?> ctx, ByteBuf data) {
+    if (batch == null) {
+      batch = new ArrayList<>();
+      batchBuffer = Unpooled.compositeBuffer(batchSize);
+    }
+    batch.add(ctx);
+    batchBuffer.addComponent(true, data);
+    if (batch.size() >= batchSize || batchBuffer.readableBytes() >= batchMaxBytes) {
+      writeBatch();
+    } else if (!batchFlushScheduled) {
+      batchFlushScheduled = true;
+      socket.channelHandlerContext().executor().execute(() -> {
+        synchronized (ConnectionHolder.this) {
+          batchFlushScheduled = false;
+          writeBatch();
+        }
+      });
+    }
+  }
+
+  private void writeBatch() {
+    List<OutboundDeliveryContext<?>> contexts = batch;
+    if (contexts == null) {
+      return;
+    }
+    CompositeByteBuf buffer = batchBuffer;
+    batch = null;
+    batchBuffer = null;
+    socket.writeMessage(buffer, ar -> batchWritten(contexts, ar));
+  }
+
+  private static void batchWritten(List<OutboundDeliveryContext<?>> contexts, AsyncResult<Void> ar) {
+    for (OutboundDeliveryContext<?> ctx : contexts) {
+      ctx.handle(ar);
+    }
+  }
+
+  /**
+   * The credits left for an address of the server and the messages waiting for credits.
+   */
+  private static class OutboundFlow {
+
+    private final Queue<OutboundDeliveryContext<?>> pending = new ArrayDeque<>();
+    private int credits;
+
+    OutboundFlow(int credits) {
+      this.credits = credits;
+    }
   }
 }
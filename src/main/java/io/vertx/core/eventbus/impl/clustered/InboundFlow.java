@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.eventbus.impl.clustered;
+
+import io.netty.util.CharsetUtil;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.net.NetSocket;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The credits granted to a remote node connected to this node.
+ * <p>
+ * Credits are granted per address, so a slow consumer does not hold messages sent to other addresses. The remote
+ * node starts with a window of credits for each address and consumes a credit for each message it sends to this
+ * address, replies are not flow controlled. The credits of consumed messages are returned in batches of half the
+ * window, so the remote node is never starved as long as messages are consumed.
+ */
+class InboundFlow {
+
+  /**
+   * Type of the frame granting the initial window of credits of each address, followed by the window.
+   */
+  static final byte WINDOW_FRAME = 3;
+
+  /**
+   * Type of the frame returning credits for an address, followed by the number of credits and the address.
+   */
+  static final byte CREDITS_FRAME = 4;
+
+  private final NetSocket socket;
+  private final int threshold;
+  private final Map<String, Integer> consumed = new HashMap<>();
+
+  InboundFlow(NetSocket socket, int window) {
+    this.socket = socket;
+    this.threshold = Math.max(1, window / 2);
+    socket.write(Buffer.buffer(5).appendByte(WINDOW_FRAME).appendInt(window));
+  }
+
+  /**
+   * Signal a message of the remote node sent to {@code address} has been consumed.
+   */
+  void release(String address) {
+    int credits;
+    synchronized (this) {
+      credits = consumed.getOrDefault(address, 0) + 1;
+      if (credits < threshold) {
+        consumed.put(address, credits);
+        return;
+      }
+      consumed.remove(address);
+    }
+    socket.write(creditsFrame(address, credits));
+  }
+
+  private static Buffer creditsFrame(String address, int credits) {
+    byte[] bytes = address.getBytes(CharsetUtil.UTF_8);
+    return Buffer.buffer(9 + bytes.length)
+      .appendByte(CREDITS_FRAME)
+      .appendInt(credits)
+      .appendInt(bytes.length)
+      .appendBytes(bytes);
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.eventbus.impl.clustered;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.util.CharsetUtil;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per connection dictionary of the strings sent with the compact wire protocol, a repeated string
+ * travels as a small integer identifier.
+ * <p>
+ * The writer and the reader of a connection build the same dictionary since frames are decoded in the order they have
+ * been encoded. A symbol is encoded as a variable length integer {@code v}:
+ * <ul>
+ *   <li>{@code v == 0}: a literal string follows, it is not added to the dictionary</li>
+ *   <li>{@code v} is odd: reference to the symbol {@code v >>> 1}</li>
+ *   <li>{@code v} is even: definition of the symbol {@code v >>> 1}, its literal string follows</li>
+ * </ul>
+ * The reader returns the same {@code String} instance for every reference to a symbol.
+ * <p>
+ * A writer must only be used by a single thread at a time, the same applies to a reader.
+ */
+class SymbolTable {
+
+  /**
+   * Maximum number of symbols per connection, strings are sent as literal once reached.
+   */
+  static final int MAX_SYMBOLS = 4096;
+
+  private final Map<String, Integer> ids = new HashMap<>();
+  private final List<String> symbols = new ArrayList<>();
+
+  void writeSymbol(ByteBuf out, String s) {
+    Integer id = ids.get(s);
+    if (id != null) {
+      writeVarInt(out, (id << 1) | 1);
+    } else if (ids.size() < MAX_SYMBOLS) {
+      id = ids.size() + 1;
+      ids.put(s, id);
+      writeVarInt(out, id << 1);
+      writeString(out, s);
+    } else {
+      writeVarInt(out, 0);
+      writeString(out, s);
+    }
+  }
+
+  String readSymbol(ByteBuf in) {
+    int v = readVarInt(in);
+    if (v == 0) {
+      return readString(in);
+    }
+    int id = v >>> 1;
+    if ((v & 1) == 1) {
+      if (id > symbols.size()) {
+        throw new IllegalStateException("Unknown symbol " + id);
+      }
+      return symbols.get(id - 1);
+    }
+    if (id != symbols.size() + 1) {
+      throw new IllegalStateException("Out of order symbol definition " + id);
+    }
+    String s = readString(in);
+    symbols.add(s);
+    return s;
+  }
+
+  static void writeString(ByteBuf out, String s) {
+    writeVarInt(out, ByteBufUtil.utf8Bytes(s));
+    ByteBufUtil.writeUtf8(out, s);
+  }
+
+  static String readString(ByteBuf in) {
+    int length = readVarInt(in);
+    String s = in.toString(in.readerIndex(), length, CharsetUtil.UTF_8);
+    in.skipBytes(length);
+    return s;
+  }
+
+  static void writeVarInt(ByteBuf out, int value) {
+    while ((value & ~0x7F) != 0) {
+      out.writeByte((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    out.writeByte(value);
+  }
+
+  static int readVarInt(ByteBuf in) {
+    int value = 0;
+    int shift = 0;
+    while (true) {
+      byte b = in.readByte();
+      value |= (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+      shift += 7;
+      if (shift > 28) {
+        throw new IllegalStateException("Malformed variable length integer");
+      }
+    }
+  }
+}
@@ -49,9 +49,15 @@ public class FileSystemOptions {
    */
   public static final String DEFAULT_FILE_CACHING_DIR = System.getProperty(FileResolverImpl.CACHE_DIR_BASE_PROP_NAME, TMPDIR + File.separator + DEFAULT_CACHE_DIR_BASE);
 
+  /**
+   * The default behavior for running file system operations on virtual threads = {@code false}
+   */
+  public static final boolean DEFAULT_VIRTUAL_THREADS_ENABLED = false;
+
   private boolean classPathResolvingEnabled = DEFAULT_CLASS_PATH_RESOLVING_ENABLED;
   private boolean fileCachingEnabled = DEFAULT_FILE_CACHING_ENABLED;
   private String fileCacheDir = DEFAULT_FILE_CACHING_DIR;
+  private boolean virtualThreadsEnabled = DEFAULT_VIRTUAL_THREADS_ENABLED;
 
   /**
    * Default constructor
@@ -68,6 +74,7 @@ public class FileSystemOptions {
     this.classPathResolvingEnabled = other.isClassPathResolvingEnabled();
     this.fileCachingEnabled = other.isFileCachingEnabled();
     this.fileCacheDir = other.getFileCacheDir();
+    this.virtualThreadsEnabled = other.isVirtualThreadsEnabled();
   }
 
   /**
@@ -151,6 +158,28 @@ public class FileSystemOptions {
     return this;
   }
 
+  /**
+   * @return whether file system operations run on virtual threads
+   */
+  public boolean isVirtualThreadsEnabled() {
+    return virtualThreadsEnabled;
+  }
+
+  /**
+   * Set to {@code true} to run the blocking operations of the {@link io.vertx.core.file.FileSystem} on virtual
+   * threads instead of the internal blocking pool, the results are still delivered on the caller context.
+   * <p>
+   * Metadata operations like {@code props}, {@code exists} or {@code readDir} then do not compete with other users
+   * of the internal blocking pool. This requires a Java runtime supporting virtual threads, otherwise the
+   * internal blocking pool is used.
+   *
+   * @param virtualThreadsEnabled the value
+   * @return a reference to this, so the API can be used fluently
+   */
+  public FileSystemOptions setVirtualThreadsEnabled(boolean virtualThreadsEnabled) {
+    this.virtualThreadsEnabled = virtualThreadsEnabled;
+    return this;
+  }
 
   @Override
   public String toString() {
@@ -158,6 +187,7 @@ public class FileSystemOptions {
     "classPathResolvingEnabled=" + classPathResolvingEnabled +
     ", fileCachingEnabled=" + fileCachingEnabled +
     ", fileCacheDir=" + fileCacheDir +
+    ", virtualThreadsEnabled=" + virtualThreadsEnabled +
     '}';
   }
 }
@@ -40,6 +40,11 @@ public class OpenOptions {
    */
   public static final boolean DEFAULT_APPEND = false;
 
+  /**
+   * Whether the file should be memory mapped by default = false.
+   */
+  public static final boolean DEFAULT_MEMORY_MAPPED = false;
+
   private String perms = DEFAULT_PERMS;
   private boolean read = DEFAULT_READ;
   private boolean write = DEFAULT_WRITE;
@@ -51,6 +56,7 @@ public class OpenOptions {
   private boolean truncateExisting = DEFAULT_TRUNCATEEXISTING;
   private boolean sparse = DEFAULT_SPARSE;
   private boolean append = DEFAULT_APPEND;
+  private boolean memoryMapped = DEFAULT_MEMORY_MAPPED;
 
   /**
    * Default constructor
@@ -76,6 +82,7 @@ public class OpenOptions {
     this.truncateExisting = other.truncateExisting;
     this.sparse = other.sparse;
     this.append = other.append;
+    this.memoryMapped = other.memoryMapped;
   }
 
   /**
@@ -302,4 +309,30 @@ public class OpenOptions {
     this.append = append;
     return this;
   }
+
+  /**
+   * @return true if the file should be memory mapped, false otherwise
+   */
+  public boolean isMemoryMapped() {
+    return memoryMapped;
+  }
+
+  /**
+   * Whether the file should be memory mapped for read-only access. Defaults to {@code false}.
+   * <p>
+   * The content of the file is mapped when the file is opened and unmapped when the file is closed. The file read
+   * stream and {@link AsyncFile#read} copy directly from the mapped content on a worker thread instead of reading
+   * the file channel: {@link AsyncFile#read} copies into the given buffer and the read stream emits direct buffers,
+   * each chunk is copied once without a system call. This is intended for large files that do not change while they are open, the mapped size is
+   * the size of the file when it is opened.
+   * <p>
+   * The file must be opened for reading only.
+   *
+   * @param memoryMapped true to memory map the file, false otherwise
+   * @return a reference to this, so the API can be used fluently
+   */
+  public OpenOptions setMemoryMapped(boolean memoryMapped) {
+    this.memoryMapped = memoryMapped;
+    return this;
+  }
 }
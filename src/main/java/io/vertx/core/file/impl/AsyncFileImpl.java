@@ -12,11 +12,13 @@
 package io.vertx.core.file.impl;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.buffer.impl.BufferImpl;
 import io.vertx.core.file.AsyncFile;
 import io.vertx.core.file.AsyncFileLock;
 import io.vertx.core.file.FileSystemException;
@@ -63,6 +65,7 @@ public class AsyncFileImpl implements AsyncFile {
 
   private final VertxInternal vertx;
   private final AsynchronousFileChannel ch;
+  private final MappedFile mapped;
   private final ContextInternal context;
   private boolean closed;
   private Runnable closedDeferred;
@@ -84,6 +87,9 @@ public class AsyncFileImpl implements AsyncFile {
     if (!options.isRead() && !options.isWrite()) {
       throw new FileSystemException("Cannot open file for neither reading nor writing");
     }
+    if (options.isMemoryMapped() && options.isWrite()) {
+      throw new FileSystemException("Cannot memory map a file opened for writing");
+    }
     this.vertx = vertx;
     Path file = Paths.get(path);
     HashSet<OpenOption> opts = new HashSet<>();
@@ -107,6 +113,19 @@ public class AsyncFileImpl implements AsyncFile {
     } catch (IOException e) {
       throw new FileSystemException(FileSystemImpl.getFileAccessErrorMessage("open", path), e);
     }
+    if (options.isMemoryMapped()) {
+      try {
+        mapped = MappedFile.map(file);
+      } catch (IOException e) {
+        try {
+          ch.close();
+        } catch (IOException ignore) {
+        }
+        throw new FileSystemException(FileSystemImpl.getFileAccessErrorMessage("map", path), e);
+      }
+    } else {
+      mapped = null;
+    }
     this.context = context;
     this.queue = new InboundBuffer<>(context, 0);
     queue.handler(buff -> {
@@ -160,6 +179,22 @@ public class AsyncFileImpl implements AsyncFile {
     Arguments.require(position >= 0, "position must be >= 0");
     Arguments.require(length >= 0, "length must be >= 0");
     check();
+    if (mapped != null) {
+      int len = mapped.available(position, length);
+      if (len > 0) {
+        // Accessing the mapping might block on page faults
+        context.<Buffer>executeBlockingInternal(fut -> {
+          if (mapped.copy(position, buffer, offset, len)) {
+            fut.complete(buffer);
+          } else {
+            fut.fail(new IllegalStateException("File handle is closed"));
+          }
+        }).onComplete(promise);
+      } else {
+        promise.complete(buffer);
+      }
+      return promise.future();
+    }
     ByteBuffer bb = ByteBuffer.allocate(length);
     doRead(buffer, offset, bb, position, promise);
     return promise.future();
@@ -394,7 +429,55 @@ public class AsyncFileImpl implements AsyncFile {
   }
 
   private void doRead() {
-    doRead(ByteBuffer.allocate(readBufferSize));
+    if (mapped != null) {
+      doReadMapped();
+    } else {
+      doRead(ByteBuffer.allocate(readBufferSize));
+    }
+  }
+
+  /**
+   * Copy the next chunk from the mapping on a worker since accessing the mapping might block on page faults, the
+   * chunk is not emitted when the file has been closed in the meantime.
+   * <p>
+   * The chunk is copied once, into a direct buffer released by the garbage collector like a heap buffer, which
+   * the transport can write without another copy.
+   */
+  private synchronized void doReadMapped() {
+    long position = readPos;
+    int len = mapped.available(position, Math.min(readBufferSize, readLength));
+    context.<Buffer>executeBlockingInternal(fut -> {
+      if (len > 0) {
+        Buffer chunk = BufferImpl.buffer(Unpooled.wrappedBuffer(ByteBuffer.allocateDirect(len)));
+        if (mapped.copy(position, chunk, 0, len)) {
+          fut.complete(chunk);
+        } else {
+          fut.fail(new IllegalStateException("File handle is closed"));
+        }
+      } else {
+        fut.complete(null);
+      }
+    }).onComplete(ar -> {
+      Buffer buffer;
+      synchronized (AsyncFileImpl.this) {
+        if (closed) {
+          return;
+        }
+        if (ar.failed()) {
+          buffer = null;
+        } else {
+          // Empty buffer represents end of file
+          buffer = len > 0 ? ar.result() : Buffer.buffer();
+          readPos += len;
+          readLength -= len;
+        }
+      }
+      if (buffer == null) {
+        handleException(ar.cause());
+      } else if (queue.write(buffer) && buffer.length() > 0) {
+        doReadMapped();
+      }
+    });
   }
 
   private synchronized void doRead(ByteBuffer bb) {
@@ -560,6 +643,9 @@ public class AsyncFileImpl implements AsyncFile {
     context.executeBlockingInternal(res -> {
       try {
         ch.close();
+        if (mapped != null) {
+          mapped.unmap();
+        }
         res.complete(null);
       } catch (IOException e) {
         res.fail(e);
@@ -1162,10 +1162,10 @@ public class FileSystemImpl implements FileSystem {
     }
 
     /**
-     * Run the blocking action using a thread from the worker pool.
+     * Run the blocking action using a thread from the file system worker pool.
      */
     public Future<T> run() {
-      return context.executeBlockingInternal(this);
+      return context.executeBlockingInternal(this, vertx.getFileSystemWorkerPool());
     }
 
     @Override
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.file.impl;
+
+import io.netty.util.internal.PlatformDependent;
+import io.vertx.core.buffer.Buffer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * The read-only memory mapping of a file.
+ * <p>
+ * A mapped byte buffer cannot exceed {@code Integer.MAX_VALUE} bytes, the file is mapped in regions of 1GB.
+ * The mapped content is only accessed by {@link #copy(long, Buffer, int, int)} so no view over the regions escapes,
+ * this allows {@link #unmap()} to release the regions when the file is closed instead of waiting for them to be
+ * garbage collected. Copies hold a read lock, so they can run concurrently, and only {@link #unmap()} excludes them.
+ * <p>
+ * Accessing the mapped content can fault pages in from the disk, the copies should not be done on an event loop.
+ */
+class MappedFile {
+
+  private static final int REGION_SHIFT = 30;
+  private static final long REGION_SIZE = 1L << REGION_SHIFT;
+
+  /**
+   * Map the content of {@code file}.
+   */
+  static MappedFile map(Path file) throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      long size = channel.size();
+      ByteBuffer[] regions = new ByteBuffer[(int) ((size + REGION_SIZE - 1) >>> REGION_SHIFT)];
+      for (int i = 0;i < regions.length;i++) {
+        long position = (long) i << REGION_SHIFT;
+        regions[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(REGION_SIZE, size - position));
+      }
+      return new MappedFile(regions, size);
+    }
+  }
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private ByteBuffer[] regions;
+  private final long size;
+
+  private MappedFile(ByteBuffer[] regions, long size) {
+    this.regions = regions;
+    this.size = size;
+  }
+
+  /**
+   * @return the mapped size
+   */
+  long size() {
+    return size;
+  }
+
+  /**
+   * @return the number of bytes available at {@code position} up to {@code length}
+   */
+  int available(long position, long length) {
+    return (int) Math.max(0L, Math.min(length, size - position));
+  }
+
+  /**
+   * Copy {@code length} bytes at {@code position} to {@code target} at {@code index}, the bytes are copied directly
+   * from the mapping. The range must be within the mapped size.
+   *
+   * @return whether the bytes were copied, {@code false} when the file is unmapped
+   */
+  boolean copy(long position, Buffer target, int index, int length) {
+    lock.readLock().lock();
+    try {
+      if (regions == null) {
+        return false;
+      }
+      int regionIndex = (int) (position >>> REGION_SHIFT);
+      int offset = (int) (position & (REGION_SIZE - 1));
+      // The range can span several regions
+      while (length > 0) {
+        ByteBuffer region = regions[regionIndex++];
+        int len = Math.min(length, region.capacity() - offset);
+        target.setBytes(index, slice(region, offset, len));
+        index += len;
+        length -= len;
+        offset = 0;
+      }
+      return true;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Unmap the regions, subsequent copies return {@code false}.
+   */
+  void unmap() {
+    ByteBuffer[] list;
+    lock.writeLock().lock();
+    try {
+      list = regions;
+      regions = null;
+    } finally {
+      lock.writeLock().unlock();
+    }
+    if (list != null) {
+      for (ByteBuffer region : list) {
+        PlatformDependent.freeDirectBuffer(region);
+      }
+    }
+  }
+
+  private static ByteBuffer slice(ByteBuffer region, int offset, int length) {
+    ByteBuffer dup = region.duplicate();
+    dup.position(offset);
+    dup.limit(offset + length);
+    return dup.slice();
+  }
+}
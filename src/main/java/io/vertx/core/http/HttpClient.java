@@ -13,13 +13,16 @@ package io.vertx.core.http;
 
 import io.vertx.codegen.annotations.Fluent;
 import io.vertx.codegen.annotations.GenIgnore;
+import io.vertx.codegen.annotations.Nullable;
 import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.metrics.Measured;
 import io.vertx.core.net.SSLOptions;
+import io.vertx.core.net.SocketAddress;
 
 import java.util.List;
 import java.util.function.Function;
@@ -107,6 +110,31 @@ public interface HttpClient extends Measured {
     return request(new RequestOptions().setMethod(method).setURI(requestURI));
   }
 
+  /**
+   * Like {@link #send(RequestOptions, Buffer)} without a request body.
+   */
+  default Future<HttpClientResponse> send(RequestOptions options) {
+    return send(options, null);
+  }
+
+  /**
+   * Send a request to the server with a {@code body} and return a {@code Future} of the response.
+   *
+   * <p> When the {@code options} configure a {@link RequestOptions#setHedgingDelay(long) hedging delay} or a
+   * {@link RequestOptions#setHedgingPercentile(double) hedging percentile} and no response was received after
+   * the delay, a duplicate request is sent on another connection. The first response received completes the future
+   * and the other request is reset. Hedging is only allowed for idempotent requests.
+   *
+   * <p> The default implementation sends the request without hedging, the Vert.x client overrides it.
+   *
+   * @param options the request options
+   * @param body the request body or {@code null}
+   * @return a future notified with the response
+   */
+  default Future<HttpClientResponse> send(RequestOptions options, @Nullable Buffer body) {
+    return request(options).compose(req -> body != null ? req.send(body) : req.send());
+  }
+
   /**
    * Connect a WebSocket to the specified port, host and relative request URI
    * @param port  the port
@@ -253,6 +281,40 @@ public interface HttpClient extends Measured {
     }
   }
 
+  /**
+   * Establish {@code connections} connections to the {@code server} ahead of requests, so the first requests do not
+   * wait for the connection and TLS handshake. The connections are handed back to the pool idle and expire like any
+   * other connection, see {@link PoolOptions#setWarmSize(int)} to keep them established.
+   *
+   * <p> The pool reuses the idle connections it already has, the number of connections is capped by the maximum pool
+   * size.
+   *
+   * <p> The default implementation does not establish connections and returns a succeeded future, the connections are
+   * established by the first requests instead.
+   *
+   * @param server the server address
+   * @param connections the number of connections
+   * @return a future completed when the connections are established
+   */
+  default Future<Void> prewarm(SocketAddress server, int connections) {
+    return Future.succeededFuture();
+  }
+
+  /**
+   * Like {@link #prewarm(SocketAddress, int)} but supplying a handler that will be called when the connections are
+   * established (or have failed).
+   *
+   * @param server the server address
+   * @param connections the number of connections
+   * @param handler the handler
+   */
+  default void prewarm(SocketAddress server, int connections, Handler<AsyncResult<Void>> handler) {
+    Future<Void> fut = prewarm(server, connections);
+    if (handler != null) {
+      fut.onComplete(handler);
+    }
+  }
+
   /**
    * Set a connection handler for the client. This handler is called when a new connection is established.
    *
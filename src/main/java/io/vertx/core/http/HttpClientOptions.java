@@ -617,6 +617,24 @@ public class HttpClientOptions extends ClientOptionsBase {
     return this;
   }
 
+  @Override
+  public HttpClientOptions setSessionCacheSize(long sessionCacheSize) {
+    super.setSessionCacheSize(sessionCacheSize);
+    return this;
+  }
+
+  @Override
+  public HttpClientOptions setSessionTimeout(long sessionTimeout) {
+    super.setSessionTimeout(sessionTimeout);
+    return this;
+  }
+
+  @Override
+  public HttpClientOptions setSessionTicketKeyRotationPeriod(long sessionTicketKeyRotationPeriod) {
+    super.setSessionTicketKeyRotationPeriod(sessionTicketKeyRotationPeriod);
+    return this;
+  }
+
   /**
    * Get the maximum pool size for connections
    *
@@ -1265,6 +1283,11 @@ public class HttpClientOptions extends ClientOptionsBase {
     return (HttpClientOptions) super.setLocalAddress(localAddress);
   }
 
+  @Override
+  public HttpClientOptions setPooledBuffers(boolean pooledBuffers) {
+    return (HttpClientOptions) super.setPooledBuffers(pooledBuffers);
+  }
+
   @Override
   public HttpClientOptions setLogActivity(boolean logEnabled) {
     return (HttpClientOptions) super.setLogActivity(logEnabled);
@@ -186,6 +186,16 @@ public class HttpServerOptions extends NetServerOptions {
    */
   public static final boolean DEFAULT_REGISTER_WEBSOCKET_WRITE_HANDLERS = false;
 
+  /**
+   * Whether the server adds the {@code date} header to responses by default = false.
+   */
+  public static final boolean DEFAULT_DATE_HEADER_ENABLED = false;
+
+  /**
+   * Whether the server consolidates the flushes of pipelined HTTP/1.1 responses by default = false.
+   */
+  public static final boolean DEFAULT_PIPELINED_FLUSH_CONSOLIDATION = false;
+
   /**
    * HTTP/2 RST floods DDOS protection, max number of RST frame per time window allowed = 200.
    */
@@ -229,6 +239,8 @@ public class HttpServerOptions extends NetServerOptions {
   private int webSocketClosingTimeout;
   private TracingPolicy tracingPolicy;
   private boolean registerWebSocketWriteHandlers;
+  private boolean dateHeaderEnabled;
+  private boolean pipelinedFlushConsolidation;
   private int http2RstFloodMaxRstFramePerWindow;
   private int http2RstFloodWindowDuration;
   private TimeUnit http2RstFloodWindowDurationTimeUnit;
@@ -277,6 +289,8 @@ public class HttpServerOptions extends NetServerOptions {
     this.webSocketClosingTimeout = other.webSocketClosingTimeout;
     this.tracingPolicy = other.tracingPolicy;
     this.registerWebSocketWriteHandlers = other.registerWebSocketWriteHandlers;
+    this.dateHeaderEnabled = other.dateHeaderEnabled;
+    this.pipelinedFlushConsolidation = other.pipelinedFlushConsolidation;
     this.http2RstFloodMaxRstFramePerWindow = other.http2RstFloodMaxRstFramePerWindow;
     this.http2RstFloodWindowDuration = other.http2RstFloodWindowDuration;
     this.http2RstFloodWindowDurationTimeUnit = other.http2RstFloodWindowDurationTimeUnit;
@@ -332,6 +346,8 @@ public class HttpServerOptions extends NetServerOptions {
     webSocketClosingTimeout = DEFAULT_WEBSOCKET_CLOSING_TIMEOUT;
     tracingPolicy = DEFAULT_TRACING_POLICY;
     registerWebSocketWriteHandlers = DEFAULT_REGISTER_WEBSOCKET_WRITE_HANDLERS;
+    dateHeaderEnabled = DEFAULT_DATE_HEADER_ENABLED;
+    pipelinedFlushConsolidation = DEFAULT_PIPELINED_FLUSH_CONSOLIDATION;
     http2RstFloodMaxRstFramePerWindow = DEFAULT_HTTP2_RST_FLOOD_MAX_RST_FRAME_PER_WINDOW;
     http2RstFloodWindowDuration = DEFAULT_HTTP2_RST_FLOOD_WINDOW_DURATION;
     http2RstFloodWindowDurationTimeUnit = DEFAULT_HTTP2_RST_FLOOD_WINDOW_DURATION_TIME_UNIT;
@@ -575,6 +591,21 @@ public class HttpServerOptions extends NetServerOptions {
     return (HttpServerOptions) super.setSslHandshakeTimeoutUnit(sslHandshakeTimeoutUnit);
   }
 
+  @Override
+  public HttpServerOptions setSessionCacheSize(long sessionCacheSize) {
+    return (HttpServerOptions) super.setSessionCacheSize(sessionCacheSize);
+  }
+
+  @Override
+  public HttpServerOptions setSessionTimeout(long sessionTimeout) {
+    return (HttpServerOptions) super.setSessionTimeout(sessionTimeout);
+  }
+
+  @Override
+  public HttpServerOptions setSessionTicketKeyRotationPeriod(long sessionTicketKeyRotationPeriod) {
+    return (HttpServerOptions) super.setSessionTicketKeyRotationPeriod(sessionTicketKeyRotationPeriod);
+  }
+
   /**
    * @return {@code true} if the server supports gzip/deflate compression
    */
@@ -1179,6 +1210,11 @@ public class HttpServerOptions extends NetServerOptions {
     return false;
   }
 
+  @Override
+  public HttpServerOptions setPooledBuffers(boolean pooledBuffers) {
+    return (HttpServerOptions) super.setPooledBuffers(pooledBuffers);
+  }
+
   /**
    * Has no effect on HTTP server options.
    */
@@ -1209,6 +1245,52 @@ public class HttpServerOptions extends NetServerOptions {
     return this;
   }
 
+  /**
+   * @return {@code true} if the server adds the {@code date} header to responses, otherwise {@code false}
+   */
+  public boolean isDateHeaderEnabled() {
+    return dateHeaderEnabled;
+  }
+
+  /**
+   * Whether the server adds the {@code date} header to responses that do not have one.
+   * <p>
+   * The header value is formatted once per second and per event loop, so it can be up to a second late.
+   * <p>
+   * Defaults to {@code false}.
+   *
+   * @param dateHeaderEnabled true to add the {@code date} header
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setDateHeaderEnabled(boolean dateHeaderEnabled) {
+    this.dateHeaderEnabled = dateHeaderEnabled;
+    return this;
+  }
+
+  /**
+   * @return {@code true} if the server consolidates the flushes of pipelined HTTP/1.1 responses, otherwise {@code false}
+   */
+  public boolean isPipelinedFlushConsolidation() {
+    return pipelinedFlushConsolidation;
+  }
+
+  /**
+   * Whether the server consolidates the flushes of HTTP/1.1 responses while a connection has pipelined requests
+   * waiting to be processed.
+   * <p>
+   * Instead of flushing each response, the writes are flushed by a task executed later by the event loop, so the
+   * responses written by the same event loop task are sent to the socket together.
+   * <p>
+   * Defaults to {@code false}.
+   *
+   * @param pipelinedFlushConsolidation true to consolidate the flushes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setPipelinedFlushConsolidation(boolean pipelinedFlushConsolidation) {
+    this.pipelinedFlushConsolidation = pipelinedFlushConsolidation;
+    return this;
+  }
+
   /**
    * @return the max number of RST frame allowed per time window
    */
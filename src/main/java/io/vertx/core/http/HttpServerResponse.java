@@ -294,6 +294,23 @@ public interface HttpServerResponse extends WriteStream<Buffer> {
   @Override
   Future<Void> end(Buffer chunk);
 
+  /**
+   * Ends the response with a {@link StaticResponse}: the status code, headers and body of the static response are sent
+   * as the response.
+   * <p>
+   * When the head of the response has not been written and the response has no headers, an HTTP/1.1 response
+   * writes the encoded static response directly, otherwise this is the same as setting the status code, adding
+   * the headers and calling {@link #end(Buffer)} with the body.
+   *
+   * @param response  the static response
+   * @return a future completed with the body result
+   */
+  default Future<Void> end(StaticResponse response) {
+    setStatusCode(response.statusCode());
+    headers().addAll(response.headers());
+    return end(response.body());
+  }
+
   /**
    * Same as {@link #end(Buffer)} but with an {@code handler} called when the operation completes
    */
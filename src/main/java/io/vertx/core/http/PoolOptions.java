@@ -26,11 +26,47 @@ import static io.vertx.core.http.HttpClientOptions.*;
 @JsonGen(publicConverter = false)
 public class PoolOptions {
 
+  /**
+   * Whether the pool has a shard per event loop by default = false
+   */
+  public static final boolean DEFAULT_SHARDED = false;
+
+  /**
+   * Whether a sharded pool steals from the other shards by default = false
+   */
+  public static final boolean DEFAULT_SHARD_STEALING = false;
+
+  /**
+   * Whether the HTTP/1.x pool size adapts to the observed latencies by default = false
+   */
+  public static final boolean DEFAULT_ADAPTIVE_SIZING = false;
+
+  /**
+   * The default minimum pool size for HTTP/1.x connections when the pool size is adaptive = 1
+   */
+  public static final int DEFAULT_HTTP1_MIN_SIZE = 1;
+
+  /**
+   * Whether streams are spread across the HTTP/2 connections by default = false
+   */
+  public static final boolean DEFAULT_HTTP2_STREAM_STRIPING = false;
+
+  /**
+   * The default number of connections kept established per endpoint = 0
+   */
+  public static final int DEFAULT_WARM_SIZE = 0;
+
   private int http1MaxSize;
   private int http2MaxSize;
   private int cleanerPeriod;
   private int eventLoopSize;
   private int maxWaitQueueSize;
+  private boolean sharded;
+  private boolean shardStealing;
+  private boolean adaptiveSizing;
+  private int http1MinSize;
+  private boolean http2StreamStriping;
+  private int warmSize;
 
   /**
    * Default constructor
@@ -41,6 +77,12 @@ public class PoolOptions {
     cleanerPeriod = DEFAULT_POOL_CLEANER_PERIOD;
     eventLoopSize = DEFAULT_POOL_EVENT_LOOP_SIZE;
     maxWaitQueueSize = DEFAULT_MAX_WAIT_QUEUE_SIZE;
+    sharded = DEFAULT_SHARDED;
+    shardStealing = DEFAULT_SHARD_STEALING;
+    adaptiveSizing = DEFAULT_ADAPTIVE_SIZING;
+    http1MinSize = DEFAULT_HTTP1_MIN_SIZE;
+    http2StreamStriping = DEFAULT_HTTP2_STREAM_STRIPING;
+    warmSize = DEFAULT_WARM_SIZE;
   }
 
   /**
@@ -54,6 +96,12 @@ public class PoolOptions {
     this.cleanerPeriod = other.cleanerPeriod;
     this.eventLoopSize = other.eventLoopSize;
     this.maxWaitQueueSize = other.maxWaitQueueSize;
+    this.sharded = other.sharded;
+    this.shardStealing = other.shardStealing;
+    this.adaptiveSizing = other.adaptiveSizing;
+    this.http1MinSize = other.http1MinSize;
+    this.http2StreamStriping = other.http2StreamStriping;
+    this.warmSize = other.warmSize;
   }
 
   /**
@@ -176,6 +224,156 @@ public class PoolOptions {
     return maxWaitQueueSize;
   }
 
+  /**
+   * @return whether the pool has a shard per event loop
+   */
+  public boolean isSharded() {
+    return sharded;
+  }
+
+  /**
+   * Set whether the pool has a shard per event loop.
+   *
+   * <p> A sharded pool hands out the connections of the shard of the event loop requesting a connection, so
+   * event loops do not contend for a single pool and connections are created on the requesting event loop. The
+   * maximum pool sizes and the maximum wait queue size apply to each shard.
+   *
+   * <p> The default value is {@code false}.
+   *
+   * @param sharded whether the pool is sharded
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setSharded(boolean sharded) {
+    this.sharded = sharded;
+    return this;
+  }
+
+  /**
+   * @return whether a sharded pool steals from the other shards
+   */
+  public boolean isShardStealing() {
+    return shardStealing;
+  }
+
+  /**
+   * Set whether a sharded pool requests a connection from another shard when the shard of the requesting event loop
+   * has requests waiting for a connection. Only a shard without waiting requests that has an available connection,
+   * or can create one, is used.
+   *
+   * <p> The default value is {@code false}.
+   *
+   * @param shardStealing whether the pool steals from the other shards
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setShardStealing(boolean shardStealing) {
+    this.shardStealing = shardStealing;
+    return this;
+  }
+
+  /**
+   * @return whether the HTTP/1.x pool size adapts to the observed latencies
+   */
+  public boolean isAdaptiveSizing() {
+    return adaptiveSizing;
+  }
+
+  /**
+   * Set whether the HTTP/1.x pool size adapts to the observed latencies.
+   *
+   * <p> An adaptive pool starts with {@link #getHttp1MinSize()} connections and grows by one connection when
+   * requests wait for a connection, up to {@link #getHttp1MaxSize()}. When the connect or response latency grows
+   * beyond twice the smallest latency observed, the server is considered saturated and the pool size shrinks. The
+   * pool does not close connections when it shrinks, the connections beyond the size expire when they are idle.
+   *
+   * <p> The response latency is the time a connection is held by a request, from the moment the connection is
+   * acquired until it is recycled after the response has been fully read. It therefore includes the time taken to
+   * send the request body and to consume the response body, a slow consumer or a large body looks like a slow server.
+   *
+   * <p> The default value is {@code false}.
+   *
+   * @param adaptiveSizing whether the pool size is adaptive
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setAdaptiveSizing(boolean adaptiveSizing) {
+    this.adaptiveSizing = adaptiveSizing;
+    return this;
+  }
+
+  /**
+   * Get the minimum pool size for HTTP/1.x connections when the pool size is adaptive
+   *
+   * @return  the minimum pool size
+   */
+  public int getHttp1MinSize() {
+    return http1MinSize;
+  }
+
+  /**
+   * Set the minimum pool size for HTTP/1.x connections when the pool size is adaptive, the size is capped by
+   * {@link #getHttp1MaxSize()}.
+   *
+   * @param http1MinSize  the minimum pool size
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setHttp1MinSize(int http1MinSize) {
+    if (http1MinSize < 1) {
+      throw new IllegalArgumentException("http1MinSize must be > 0");
+    }
+    this.http1MinSize = http1MinSize;
+    return this;
+  }
+
+  /**
+   * @return whether streams are spread across the HTTP/2 connections
+   */
+  public boolean isHttp2StreamStriping() {
+    return http2StreamStriping;
+  }
+
+  /**
+   * Set whether streams are spread across the HTTP/2 connections of an endpoint.
+   *
+   * <p> When striping, a stream is sent on the connection with the fewest active streams and then with the largest
+   * flow control window. A new connection is created when every connection uses half of its concurrency or more, up to
+   * {@link #getHttp2MaxSize()} connections. Otherwise a connection is filled before another connection is created.
+   *
+   * <p> The default value is {@code false}.
+   *
+   * @param http2StreamStriping whether streams are spread across connections
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setHttp2StreamStriping(boolean http2StreamStriping) {
+    this.http2StreamStriping = http2StreamStriping;
+    return this;
+  }
+
+  /**
+   * @return the number of connections kept established per endpoint
+   */
+  public int getWarmSize() {
+    return warmSize;
+  }
+
+  /**
+   * Set the number of connections kept established per endpoint.
+   *
+   * <p> When an endpoint has fewer connections, the pool establishes connections in the background when it checks
+   * the expired connections, so the connections expiring with the keep alive timeout are replaced before requests need
+   * them. This requires a positive {@link #getCleanerPeriod() cleaner period} and keep alive timeout. The number of
+   * connections is capped by the maximum pool size.
+   *
+   * <p> The default value is {@code 0}.
+   *
+   * @param warmSize the number of connections
+   * @return a reference to this, so the API can be used fluently
+   * @see HttpClient#prewarm(io.vertx.core.net.SocketAddress, int)
+   */
+  public PoolOptions setWarmSize(int warmSize) {
+    Arguments.require(warmSize >= 0, "warmSize must be >= 0");
+    this.warmSize = warmSize;
+    return this;
+  }
+
   public JsonObject toJson() {
     JsonObject json = new JsonObject();
     PoolOptionsConverter.toJson(this, json);
@@ -16,6 +16,7 @@ import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.codegen.json.annotations.JsonGen;
 import io.vertx.core.MultiMap;
 import io.vertx.core.VertxException;
+import io.vertx.core.impl.Arguments;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.net.ProxyOptions;
 import io.vertx.core.net.SocketAddress;
@@ -92,6 +93,16 @@ public class RequestOptions {
    */
   public static final long DEFAULT_IDLE_TIMEOUT = -1L;
 
+  /**
+   * The default hedging delay = -1L (disabled)
+   */
+  public static final long DEFAULT_HEDGING_DELAY = -1L;
+
+  /**
+   * The default hedging percentile = 0 (disabled)
+   */
+  public static final double DEFAULT_HEDGING_PERCENTILE = 0D;
+
   private ProxyOptions proxyOptions;
   private SocketAddress server;
   private HttpMethod method;
@@ -104,6 +115,8 @@ public class RequestOptions {
   private long timeout;
   private long connectTimeout;
   private long idleTimeout;
+  private long hedgingDelay;
+  private double hedgingPercentile;
   private String traceOperation;
 
   /**
@@ -121,6 +134,8 @@ public class RequestOptions {
     timeout = DEFAULT_TIMEOUT;
     connectTimeout = DEFAULT_CONNECT_TIMEOUT;
     idleTimeout = DEFAULT_IDLE_TIMEOUT;
+    hedgingDelay = DEFAULT_HEDGING_DELAY;
+    hedgingPercentile = DEFAULT_HEDGING_PERCENTILE;
     traceOperation = null;
   }
 
@@ -141,6 +156,8 @@ public class RequestOptions {
     setTimeout(other.timeout);
     setIdleTimeout(other.idleTimeout);
     setConnectTimeout(other.connectTimeout);
+    setHedgingDelay(other.hedgingDelay);
+    setHedgingPercentile(other.hedgingPercentile);
     if (other.headers != null) {
       setHeaders(MultiMap.caseInsensitiveMultiMap().setAll(other.headers));
     }
@@ -418,6 +435,50 @@ public class RequestOptions {
     return this;
   }
 
+  /**
+   * @return the amount of time in milliseconds after which a duplicate request is sent when no response was received
+   */
+  public long getHedgingDelay() {
+    return hedgingDelay;
+  }
+
+  /**
+   * Sets the amount of time after which {@link HttpClient#send(RequestOptions)} sends a duplicate of the request
+   * when no response was received. The first response received completes the send, the other request is reset.
+   *
+   * <p/>A negative value disables hedging, the default value is {@code -1}. Only idempotent requests can be hedged.
+   *
+   * @param delay the amount of time in milliseconds
+   * @return a reference to this, so the API can be used fluently
+   */
+  public RequestOptions setHedgingDelay(long delay) {
+    this.hedgingDelay = delay;
+    return this;
+  }
+
+  /**
+   * @return the percentile of the recent response times of the server used as hedging delay
+   */
+  public double getHedgingPercentile() {
+    return hedgingPercentile;
+  }
+
+  /**
+   * Sets the percentile of the recent response times of the server used as hedging delay, e.g. {@code 95} sends
+   * a duplicate request when the response is slower than 95% of the recent responses. The {@link #getHedgingDelay()
+   * hedging delay} is used until enough response times are known.
+   *
+   * <p/>A value of {@code 0} disables the percentile, the default value is {@code 0}.
+   *
+   * @param percentile the percentile between {@code 0} and {@code 100}
+   * @return a reference to this, so the API can be used fluently
+   */
+  public RequestOptions setHedgingPercentile(double percentile) {
+    Arguments.require(percentile >= 0D && percentile < 100D, "hedgingPercentile must be >= 0 and < 100");
+    this.hedgingPercentile = percentile;
+    return this;
+  }
+
   private URL parseUrl(String surl) {
     // Note - parsing a URL this way is slower than specifying host, port and relativeURI
     try {
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.http;
+
+import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.impl.StaticResponseImpl;
+
+/**
+ * An immutable HTTP response encoded once and sent with {@link HttpServerResponse#end(StaticResponse)}.
+ * <p>
+ * The HTTP/1.1 encoding of the status line, headers and body is computed when the response is created, sending it
+ * over an HTTP/1.1 connection writes the encoded bytes without encoding the response again. This is intended for
+ * responses sent very often with the same content, e.g. health checks, {@code 304} responses or small constant bodies.
+ */
+@VertxGen
+public interface StaticResponse {
+
+  /**
+   * Create a static response, the {@code content-length} header is set when absent.
+   *
+   * @param statusCode the status code
+   * @param headers the response headers, copied
+   * @param body the response body, copied
+   * @return the static response
+   */
+  static StaticResponse create(int statusCode, MultiMap headers, Buffer body) {
+    return new StaticResponseImpl(statusCode, headers, body);
+  }
+
+  /**
+   * @return the status code
+   */
+  int statusCode();
+
+  /**
+   * @return a read-only view of the response headers
+   */
+  MultiMap headers();
+
+  /**
+   * @return the response body, it must not be modified
+   */
+  Buffer body();
+}
@@ -449,6 +449,11 @@ public class WebSocketClientOptions extends ClientOptionsBase {
     return (WebSocketClientOptions)super.setLocalAddress(localAddress);
   }
 
+  @Override
+  public WebSocketClientOptions setPooledBuffers(boolean pooledBuffers) {
+    return (WebSocketClientOptions)super.setPooledBuffers(pooledBuffers);
+  }
+
   @Override
   public WebSocketClientOptions setLogActivity(boolean logEnabled) {
     return (WebSocketClientOptions)super.setLogActivity(logEnabled);
@@ -627,6 +632,21 @@ public class WebSocketClientOptions extends ClientOptionsBase {
     return (WebSocketClientOptions)super.setSslHandshakeTimeoutUnit(sslHandshakeTimeoutUnit);
   }
 
+  @Override
+  public WebSocketClientOptions setSessionCacheSize(long sessionCacheSize) {
+    return (WebSocketClientOptions)super.setSessionCacheSize(sessionCacheSize);
+  }
+
+  @Override
+  public WebSocketClientOptions setSessionTimeout(long sessionTimeout) {
+    return (WebSocketClientOptions)super.setSessionTimeout(sessionTimeout);
+  }
+
+  @Override
+  public WebSocketClientOptions setSessionTicketKeyRotationPeriod(long sessionTicketKeyRotationPeriod) {
+    return (WebSocketClientOptions)super.setSessionTicketKeyRotationPeriod(sessionTicketKeyRotationPeriod);
+  }
+
   @Override
   public WebSocketClientOptions addNonProxyHost(String host) {
     return (WebSocketClientOptions)super.addNonProxyHost(host);
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.http.impl;
+
+import io.netty.channel.EventLoop;
+import io.netty.handler.codec.DateFormatter;
+import io.netty.util.AsciiString;
+import io.netty.util.concurrent.FastThreadLocal;
+
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The formatted {@code date} header value of an event loop, refreshed every second by a task scheduled on the
+ * event loop.
+ * <p>
+ * The servers adding the header are counted with {@link #serverStarted()} and {@link #serverClosed()}, the tasks are
+ * only scheduled while a server is counted and they are cancelled when the last of them is closed. Scheduling and
+ * cancelling the tasks are done under the class lock, so a task cannot be scheduled after the cancellation.
+ */
+final class DateHeader implements Runnable {
+
+  private static final FastThreadLocal<DateHeader> DATE_HEADER = new FastThreadLocal<>();
+  private static final Set<DateHeader> SCHEDULED = new HashSet<>();
+  private static int servers;
+
+  /**
+   * @return the current {@code date} header value
+   */
+  static CharSequence value(EventLoop eventLoop) {
+    if (!eventLoop.inEventLoop()) {
+      return format(System.currentTimeMillis());
+    }
+    DateHeader header = DATE_HEADER.get();
+    if (header == null || header.cancelled) {
+      header = schedule(eventLoop);
+      if (header == null) {
+        // No server is counted
+        return format(System.currentTimeMillis());
+      }
+    }
+    return header.value;
+  }
+
+  private static synchronized DateHeader schedule(EventLoop eventLoop) {
+    if (servers == 0) {
+      return null;
+    }
+    DateHeader header = new DateHeader();
+    long now = System.currentTimeMillis();
+    header.future = eventLoop.scheduleAtFixedRate(header, 1000 - now % 1000, 1000, TimeUnit.MILLISECONDS);
+    SCHEDULED.add(header);
+    DATE_HEADER.set(header);
+    return header;
+  }
+
+  /**
+   * Signal a server adding the header is started.
+   */
+  static synchronized void serverStarted() {
+    servers++;
+  }
+
+  /**
+   * Signal a server adding the header is closed, the refresh tasks are cancelled when no server remains.
+   */
+  static synchronized void serverClosed() {
+    if (--servers > 0) {
+      return;
+    }
+    for (DateHeader header : SCHEDULED) {
+      header.cancelled = true;
+      header.future.cancel(false);
+    }
+    SCHEDULED.clear();
+  }
+
+  // Visible for testing
+  static synchronized int scheduled() {
+    return SCHEDULED.size();
+  }
+
+  private static AsciiString format(long millis) {
+    return new AsciiString(DateFormatter.format(new Date(millis)));
+  }
+
+  private AsciiString value = format(System.currentTimeMillis());
+  private ScheduledFuture<?> future;
+  private volatile boolean cancelled;
+
+  @Override
+  public void run() {
+    value = format(System.currentTimeMillis());
+  }
+}
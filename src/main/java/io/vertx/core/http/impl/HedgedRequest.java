@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.http.impl;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.http.RequestOptions;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.impl.future.PromiseInternal;
+import io.vertx.core.net.impl.pool.Endpoint;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A request sent a second time when no response was received after a delay, the first response received wins and
+ * the other request is reset.
+ *
+ * <p> The response times used for the hedging percentile are kept by the endpoint of the server, so they are
+ * disposed with the endpoint.
+ */
+class HedgedRequest {
+
+  private final HttpClientImpl client;
+  private final ContextInternal context;
+  private final RequestOptions options;
+  private final Buffer body;
+  private final Promise<HttpClientResponse> promise;
+  private final List<HttpClientRequest> requests = new ArrayList<>(2);
+  private long timerID = -1L;
+  private int pending;
+  private boolean hedged;
+  private boolean completed;
+
+  HedgedRequest(HttpClientImpl client, ContextInternal context, RequestOptions options, Buffer body) {
+    this.client = client;
+    this.context = context;
+    this.options = options;
+    this.body = body;
+    this.promise = context.promise();
+  }
+
+  /**
+   * Send the request and schedule the hedged request, the delay is derived from the response times of the endpoint
+   * when a percentile is configured and enough response times are known.
+   */
+  Future<HttpClientResponse> send() {
+    synchronized (this) {
+      // No hedged request until the delay is known
+      hedged = true;
+    }
+    ResponseTimes responseTimes = sendRequest();
+    long delay = options.getHedgingDelay();
+    double percentile = options.getHedgingPercentile();
+    if (percentile > 0D && responseTimes != null) {
+      long value = responseTimes.percentile(percentile);
+      if (value >= 0L) {
+        delay = value;
+      }
+    }
+    if (delay >= 0L) {
+      synchronized (this) {
+        if (!completed) {
+          hedged = false;
+          timerID = context.setTimer(Math.max(delay, 1L), id -> hedge());
+        }
+      }
+    }
+    return promise.future();
+  }
+
+  private void hedge() {
+    synchronized (this) {
+      timerID = -1L;
+      if (completed || hedged) {
+        return;
+      }
+      hedged = true;
+    }
+    sendRequest();
+  }
+
+  /**
+   * @return the response times of the request endpoint or {@code null}
+   */
+  private ResponseTimes sendRequest() {
+    long start = System.nanoTime();
+    synchronized (this) {
+      pending++;
+    }
+    PromiseInternal<HttpClientRequest> requestPromise = context.promise();
+    Endpoint<?> endpoint = client.doRequest(options, requestPromise);
+    ResponseTimes responseTimes = endpoint instanceof SharedClientHttpStreamEndpoint ? ((SharedClientHttpStreamEndpoint) endpoint).responseTimes() : null;
+    requestPromise.future().onComplete(ar -> {
+      if (ar.succeeded()) {
+        HttpClientRequest request = ar.result();
+        synchronized (this) {
+          if (completed) {
+            request.reset();
+            return;
+          }
+          requests.add(request);
+        }
+        Future<HttpClientResponse> fut = body != null ? request.send(body) : request.send();
+        fut.onComplete(ar2 -> handleResponse(request, responseTimes, start, ar2));
+      } else {
+        handleResponse(null, responseTimes, start, Future.failedFuture(ar.cause()));
+      }
+    });
+    return responseTimes;
+  }
+
+  private void handleResponse(HttpClientRequest request, ResponseTimes responseTimes, long start, AsyncResult<HttpClientResponse> ar) {
+    List<HttpClientRequest> others;
+    boolean hedge;
+    synchronized (this) {
+      if (completed) {
+        return;
+      }
+      pending--;
+      if (ar.failed()) {
+        // Send the hedged request right away or fail when no other request can succeed
+        hedge = !hedged;
+        if (hedge) {
+          hedged = true;
+        } else if (pending == 0) {
+          completed = true;
+          cancelTimer();
+          promise.fail(ar.cause());
+        }
+        others = null;
+      } else {
+        hedge = false;
+        completed = true;
+        cancelTimer();
+        others = new ArrayList<>(requests);
+        others.remove(request);
+      }
+    }
+    if (hedge) {
+      sendRequest();
+    } else if (others != null) {
+      if (responseTimes != null) {
+        responseTimes.add(System.nanoTime() - start);
+      }
+      others.forEach(HttpClientRequest::reset);
+      promise.complete(ar.result());
+    }
+  }
+
+  private void cancelTimer() {
+    if (timerID >= 0L) {
+      context.owner().cancelTimer(timerID);
+      timerID = -1L;
+    }
+  }
+
+  /**
+   * The recent response times of a server endpoint.
+   */
+  static class ResponseTimes {
+
+    private static final int SIZE = 128;
+    private static final int MIN_SAMPLES = 16;
+
+    private final long[] samples = new long[SIZE];
+    private int count;
+    private int index;
+
+    synchronized void add(long nanos) {
+      samples[index] = nanos;
+      index = (index + 1) % SIZE;
+      if (count < SIZE) {
+        count++;
+      }
+    }
+
+    /**
+     * @return the {@code percentile} of the response times in milliseconds or {@code -1} when too few response times
+     *         are known
+     */
+    long percentile(double percentile) {
+      long[] copy;
+      synchronized (this) {
+        if (count < MIN_SAMPLES) {
+          return -1L;
+        }
+        copy = Arrays.copyOf(samples, count);
+      }
+      Arrays.sort(copy);
+      int idx = Math.max(0, (int) Math.ceil(percentile / 100D * copy.length) - 1);
+      return copy[idx] / 1_000_000L;
+    }
+  }
+}
@@ -429,6 +429,8 @@ public class Http1xClientConnection extends Http1xConnectionBase<WebSocketImpl>
                 handler.handle(buffer);
               }
             }
+          } else if (item instanceof Buffer) {
+            ((Buffer) item).release();
           }
         })
         .exceptionHandler(context::reportException);
@@ -720,6 +722,7 @@ public class Http1xClientConnection extends Http1xConnectionBase<WebSocketImpl>
       if (err != null) {
         handleException(err);
         promise.tryFail(err);
+        conn.releaseQueuedBuffers(queue);
       }
       if (!closed) {
         closed = true;
@@ -881,7 +884,7 @@ public class Http1xClientConnection extends Http1xConnectionBase<WebSocketImpl>
   }
 
   private void handleResponseChunk(Stream stream, ByteBuf chunk) {
-    Buffer buff = Buffer.buffer(VertxHandler.safeBuffer(chunk));
+    Buffer buff = inboundBuffer(chunk);
     int len = buff.length();
     receiveBytes(len);
     stream.bytesRead += len;
@@ -1282,6 +1285,12 @@ public class Http1xClientConnection extends Http1xConnectionBase<WebSocketImpl>
     return lastResponseReceivedTimestamp;
   }
 
+  @Override
+  public long sendWindowSize() {
+    // No flow control
+    return Long.MAX_VALUE;
+  }
+
   @Override
   public boolean isValid() {
     return expirationTimestamp == 0 || System.currentTimeMillis() <= expirationTimestamp;
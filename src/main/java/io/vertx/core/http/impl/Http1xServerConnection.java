@@ -106,6 +106,7 @@ public class Http1xServerConnection extends Http1xConnectionBase<ServerWebSocket
 
   final HttpServerMetrics metrics;
   final boolean handle100ContinueAutomatically;
+  final boolean pipelinedFlushConsolidation;
   final HttpServerOptions options;
 
   public Http1xServerConnection(Supplier<ContextInternal> streamContextSupplier,
@@ -122,6 +123,7 @@ public class Http1xServerConnection extends Http1xConnectionBase<ServerWebSocket
     this.sslChannelProvider = sslChannelProvider;
     this.metrics = metrics;
     this.handle100ContinueAutomatically = options.isHandle100ContinueAutomatically();
+    this.pipelinedFlushConsolidation = options.isPipelinedFlushConsolidation();
     this.tracingPolicy = options.getTracingPolicy();
     this.writable = true;
     this.keepAlive = true;
@@ -181,6 +183,10 @@ public class Http1xServerConnection extends Http1xConnectionBase<ServerWebSocket
     // Deferred until the current response completion
     responseInProgress.enqueue(req);
     req.pause();
+    if (pipelinedFlushConsolidation) {
+      // Flush the responses together until the pipelined requests are processed
+      consolidateFlush(true);
+    }
   }
 
   private void handleOther(Object msg) {
@@ -198,7 +204,7 @@ public class Http1xServerConnection extends Http1xConnectionBase<ServerWebSocket
       handleError(content);
       return;
     }
-    Buffer buffer = Buffer.buffer(VertxHandler.safeBuffer(content.content()));
+    Buffer buffer = inboundBuffer(content.content());
     Http1xServerRequest request;
     synchronized (this) {
       request = requestInProgress;
@@ -245,6 +251,8 @@ public class Http1xServerConnection extends Http1xConnectionBase<ServerWebSocket
           if (next != null) {
             // Handle pipelined request
             handleNext(next);
+          } else if (pipelinedFlushConsolidation) {
+            consolidateFlush(false);
           }
         } else {
           if (requestInProgress == request || webSocket != null) {
@@ -507,11 +515,13 @@ public class Http1xServerConnection extends Http1xConnectionBase<ServerWebSocket
     if (requestInProgress != null) {
       requestInProgress.context.execute(v -> {
         requestInProgress.handleException(HttpUtils.CONNECTION_CLOSED_EXCEPTION);
+        requestInProgress.releasePending();
       });
     }
     if (responseInProgress != null && responseInProgress != requestInProgress) {
       responseInProgress.context.execute(v -> {
         responseInProgress.handleException(HttpUtils.CONNECTION_CLOSED_EXCEPTION);
+        responseInProgress.releasePending();
       });
     }
     if (ws != null) {
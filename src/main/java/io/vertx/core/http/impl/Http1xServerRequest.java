@@ -138,6 +138,19 @@ public class Http1xServerRequest extends HttpServerRequestInternal implements io
     return pending;
   }
 
+  /**
+   * Release the pooled buffers still queued when the connection is closed.
+   */
+  void releasePending() {
+    InboundBuffer<Object> queue;
+    synchronized (conn) {
+      queue = pending;
+    }
+    if (queue != null) {
+      conn.releaseQueuedBuffers(queue);
+    }
+  }
+
   void handleContent(Buffer buffer) {
     InboundBuffer<Object> queue;
     synchronized (conn) {
@@ -564,6 +577,8 @@ public class Http1xServerRequest extends HttpServerRequestInternal implements io
     }
     if (handler != null) {
       eventHandler.handleChunk(data);
+    } else {
+      data.release();
     }
   }
 
@@ -35,6 +35,7 @@ import io.vertx.core.http.HttpClosedException;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.StaticResponse;
 import io.vertx.core.http.impl.headers.HeadersMultiMap;
 import io.vertx.core.impl.ContextInternal;
 import io.vertx.core.impl.VertxInternal;
@@ -417,6 +418,37 @@ public class Http1xServerResponse implements HttpServerResponse, HttpResponse {
     end(chunk, handler == null ? null : context.promise(handler));
   }
 
+  @Override
+  public Future<Void> end(StaticResponse response) {
+    PromiseInternal<Void> promise;
+    synchronized (conn) {
+      if (written) {
+        throw new IllegalStateException(RESPONSE_WRITTEN);
+      }
+      if (!(response instanceof StaticResponseImpl) || headWritten || head || version != HttpVersion.HTTP_1_1 || !keepAlive || !headers.isEmpty() || cookies != null
+        || trailers != null || headersEndHandler != null || conn.metrics != null || conn.options.isCompressionSupported()
+        || (conn.options.isDateHeaderEnabled() && !response.headers().contains(HttpHeaders.DATE))) {
+        // The response must be encoded
+        return HttpServerResponse.super.end(response);
+      }
+      StaticResponseImpl staticResponse = (StaticResponseImpl) response;
+      written = true;
+      headWritten = true;
+      status = HttpResponseStatus.valueOf(staticResponse.statusCode());
+      bytesWritten = staticResponse.body().length();
+      promise = context.promise();
+      conn.writeToChannel(staticResponse, promise);
+      conn.responseComplete();
+      if (bodyEndHandler != null) {
+        bodyEndHandler.handle(null);
+      }
+      if (!closed && endHandler != null) {
+        endHandler.handle(null);
+      }
+    }
+    return promise.future();
+  }
+
   private void end(Buffer chunk, PromiseInternal<Void> listener) {
     synchronized (conn) {
       if (written) {
@@ -741,6 +773,9 @@ public class Http1xServerResponse implements HttpServerResponse, HttpResponse {
         headers.set(HttpHeaders.CONTENT_LENGTH, value);
       }
     }
+    if (conn.options.isDateHeaderEnabled() && !headers.contains(HttpHeaders.DATE)) {
+      headers.set(HttpHeaders.DATE, DateHeader.value(context.nettyEventLoop()));
+    }
     if (headersEndHandler != null) {
       headersEndHandler.handle(null);
     }
@@ -180,6 +180,12 @@ class Http2ClientConnection extends Http2ConnectionBase implements HttpClientCon
     return 0L;
   }
 
+  @Override
+  public long sendWindowSize() {
+    Http2Connection conn = handler.connection();
+    return conn.remote().flowController().windowSize(conn.connectionStream());
+  }
+
   protected synchronized void onHeadersRead(int streamId, Http2Headers headers, StreamPriority streamPriority, boolean endOfStream) {
     Stream stream = (Stream) stream(streamId);
     if (!stream.stream.isTrailersReceived()) {
@@ -708,6 +714,7 @@ class Http2ClientConnection extends Http2ConnectionBase implements HttpClientCon
       .initialSettings(client.options().getInitialSettings())
       .connectionFactory(connHandler -> {
         Http2ClientConnection conn = new Http2ClientConnection(client, context, connHandler, metrics);
+        conn.pooledBuffers(options.isPooledBuffers());
         if (metrics != null) {
           Object m = socketMetric;
           conn.metric(m);
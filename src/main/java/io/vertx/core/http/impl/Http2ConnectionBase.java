@@ -31,6 +31,7 @@ import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.VertxException;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.buffer.impl.BufferImpl;
 import io.vertx.core.buffer.impl.VertxByteBufAllocator;
 import io.vertx.core.http.GoAway;
 import io.vertx.core.http.HttpClosedException;
@@ -311,8 +312,8 @@ abstract class Http2ConnectionBase extends ConnectionBase implements Http2FrameL
   public int onDataRead(ChannelHandlerContext ctx, int streamId, ByteBuf data, int padding, boolean endOfStream) {
     VertxHttp2Stream stream = stream(streamId);
     if (stream != null) {
-      data = safeBuffer(data);
-      Buffer buff = Buffer.buffer(data);
+      // The data is released after this callback returns
+      Buffer buff = pooledBuffers() ? BufferImpl.pooledBuffer(data.retain()) : Buffer.buffer(safeBuffer(data));
       stream.onData(buff);
       if (endOfStream) {
         stream.onEnd();
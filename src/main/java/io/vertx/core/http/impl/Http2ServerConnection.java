@@ -153,7 +153,7 @@ public class Http2ServerConnection extends Http2ConnectionBase implements HttpSe
 
   private void initStream(int streamId, Http2ServerStream vertxStream) {
     String contentEncoding = options.isCompressionSupported() ? determineContentEncoding(vertxStream.headers) : null;
-    Http2ServerRequest request = new Http2ServerRequest(vertxStream, serverOrigin, vertxStream.headers, contentEncoding);
+    Http2ServerRequest request = new Http2ServerRequest(vertxStream, serverOrigin, contentEncoding);
     vertxStream.request = request;
     vertxStream.isConnect = request.method() == HttpMethod.CONNECT;
     Http2Stream stream = handler.connection().stream(streamId);
@@ -16,7 +16,6 @@ import io.netty.handler.codec.http.*;
 import io.netty.handler.codec.http.multipart.Attribute;
 import io.netty.handler.codec.http.multipart.HttpPostRequestDecoder;
 import io.netty.handler.codec.http.multipart.InterfaceHttpData;
-import io.netty.handler.codec.http2.Http2Headers;
 import io.vertx.codegen.annotations.Nullable;
 import io.vertx.core.Context;
 import io.vertx.core.Future;
@@ -53,12 +52,13 @@ public class Http2ServerRequest extends HttpServerRequestInternal implements Htt
   protected final Http2ServerStream stream;
   protected final Http2ServerResponse response;
   private final String serverOrigin;
-  private final MultiMap headersMap;
 
   // Accessed on context thread
+  private MultiMap headersMap;
   private Charset paramsCharset = StandardCharsets.UTF_8;
   private MultiMap params;
   private String absoluteURI;
+  private String host;
   private MultiMap attributes;
   private HttpEventHandler eventHandler;
   private boolean ended;
@@ -70,13 +70,11 @@ public class Http2ServerRequest extends HttpServerRequestInternal implements Htt
 
   Http2ServerRequest(Http2ServerStream stream,
                      String serverOrigin,
-                     Http2Headers headers,
                      String contentEncoding) {
     this.context = stream.context;
     this.stream = stream;
     this.response = new Http2ServerResponse(stream.conn, stream, false, contentEncoding);
     this.serverOrigin = serverOrigin;
-    this.headersMap = new Http2HeadersAdaptor(headers);
   }
 
   private HttpEventHandler eventHandler(boolean create) {
@@ -146,6 +144,8 @@ public class Http2ServerRequest extends HttpServerRequestInternal implements Htt
     HttpEventHandler handler = eventHandler;
     if (handler != null) {
       handler.handleChunk(data);
+    } else {
+      data.release();
     }
   }
 
@@ -322,7 +322,10 @@ public class Http2ServerRequest extends HttpServerRequestInternal implements Htt
 
   @Override
   public String host() {
-    return stream.host;
+    if (host == null && stream.authority != null) {
+      host = stream.authority.toString();
+    }
+    return host;
   }
 
   @Override
@@ -342,6 +345,10 @@ public class Http2ServerRequest extends HttpServerRequestInternal implements Htt
 
   @Override
   public MultiMap headers() {
+    if (headersMap == null) {
+      // Created when needed, most requests are handled without it
+      headersMap = new Http2HeadersAdaptor(stream.headers);
+    }
     return headersMap;
   }
 
@@ -405,7 +412,7 @@ public class Http2ServerRequest extends HttpServerRequestInternal implements Htt
       expectMultipart = expect;
       if (expect) {
         if (postRequestDecoder == null) {
-          String contentType = headersMap.get(HttpHeaderNames.CONTENT_TYPE);
+          String contentType = headers().get(HttpHeaderNames.CONTENT_TYPE);
           if (contentType == null) {
             throw new IllegalStateException("Request must have a content-type header to decode a multipart request");
           }
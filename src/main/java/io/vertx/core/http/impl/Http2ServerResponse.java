@@ -519,6 +519,9 @@ public class Http2ServerResponse implements HttpServerResponse, HttpResponse {
     if (contentEncoding != null && headers.get(HttpHeaderNames.CONTENT_ENCODING) == null) {
       headers.set(HttpHeaderNames.CONTENT_ENCODING, contentEncoding);
     }
+    if (conn.options.isDateHeaderEnabled() && !headers.contains(HttpHeaderNames.DATE)) {
+      headers.set(HttpHeaderNames.DATE, DateHeader.value(stream.context.nettyEventLoop()));
+    }
     // Sanitize
     if (stream.method == HttpMethod.HEAD || status == HttpResponseStatus.NOT_MODIFIED) {
       headers.remove(HttpHeaders.TRANSFER_ENCODING);
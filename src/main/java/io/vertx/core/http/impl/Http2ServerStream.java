@@ -40,7 +40,6 @@ class Http2ServerStream extends VertxHttp2Stream<Http2ServerConnection> {
   protected final String scheme;
   protected final HttpMethod method;
   protected final String uri;
-  protected final String host; // deprecated
   protected final boolean hasAuthority;
   protected final HostAndPort authority;
   private final TracingPolicy tracingPolicy;
@@ -63,7 +62,6 @@ class Http2ServerStream extends VertxHttp2Stream<Http2ServerConnection> {
     this.method = method;
     this.uri = uri;
     this.scheme = null;
-    this.host = null;
     this.hasAuthority = false;
     this.authority = null;
     this.tracingPolicy = tracingPolicy;
@@ -86,7 +84,6 @@ class Http2ServerStream extends VertxHttp2Stream<Http2ServerConnection> {
     this.headers = headers;
     this.hasAuthority = hasAuthority;
     this.authority = authority;
-    this.host = authority != null ? authority.toString() : null;
     this.uri = uri;
     this.method = method;
     this.tracingPolicy = tracingPolicy;
@@ -107,6 +107,11 @@ public class Http2UpgradeClientConnection implements HttpClientConnection {
     return current.lastResponseReceivedTimestamp();
   }
 
+  @Override
+  public long sendWindowSize() {
+    return current.sendWindowSize();
+  }
+
   private static class DelegatingStream implements HttpClientStream {
 
     private final Http2UpgradeClientConnection connection;
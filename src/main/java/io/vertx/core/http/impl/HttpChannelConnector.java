@@ -190,6 +190,7 @@ public class HttpChannelConnector {
     VertxHandler<Http1xClientConnection> clientHandler = VertxHandler.create(chctx -> {
       HttpClientMetrics met = client.metrics();
       Http1xClientConnection conn = new Http1xClientConnection(upgrade ? HttpVersion.HTTP_1_1 : version, client, chctx, ssl, server, context, this.metrics);
+      conn.pooledBuffers(options.isPooledBuffers());
       if (met != null) {
         conn.metric(socketMetric);
         met.endpointConnected(metrics);
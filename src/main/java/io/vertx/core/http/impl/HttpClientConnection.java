@@ -99,4 +99,10 @@ public interface HttpClientConnection extends HttpConnection {
    */
   long lastResponseReceivedTimestamp();
 
+  /**
+   * @return the number of bytes the connection flow control window allows to send - this is used to spread streams
+   *         across connections
+   */
+  long sendWindowSize();
+
 }
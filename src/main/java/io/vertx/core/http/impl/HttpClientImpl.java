@@ -17,7 +17,9 @@ import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
 import io.vertx.core.Promise;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.*;
+import io.vertx.core.impl.Arguments;
 import io.vertx.core.impl.CloseFuture;
 import io.vertx.core.impl.ContextInternal;
 import io.vertx.core.impl.VertxInternal;
@@ -222,6 +224,24 @@ public class HttpClientImpl extends HttpClientBase implements HttpClientInternal
     return request(method, options.getDefaultPort(), options.getDefaultHost(), requestURI);
   }
 
+  @Override
+  public Future<HttpClientResponse> send(RequestOptions options, Buffer body) {
+    if (options.getHedgingDelay() < 0L && options.getHedgingPercentile() == 0D) {
+      return request(options).compose(req -> body != null ? req.send(body) : req.send());
+    }
+    ContextInternal ctx = vertx.getOrCreateContext();
+    HttpMethod method = options.getMethod();
+    if (!isIdempotent(method)) {
+      return ctx.failedFuture(new IllegalArgumentException("Cannot hedge a non idempotent " + method + " request"));
+    }
+    return new HedgedRequest(this, ctx, options, body).send();
+  }
+
+  private static boolean isIdempotent(HttpMethod method) {
+    return method == HttpMethod.GET || method == HttpMethod.HEAD || method == HttpMethod.OPTIONS ||
+      method == HttpMethod.TRACE || method == HttpMethod.PUT || method == HttpMethod.DELETE;
+  }
+
   @Override
   public void close(Promise<Void> completion) {
     synchronized (this) {
@@ -258,7 +278,12 @@ public class HttpClientImpl extends HttpClientBase implements HttpClientInternal
     return redirectHandler;
   }
 
-  private void doRequest(RequestOptions request, PromiseInternal<HttpClientRequest> promise) {
+  /**
+   * Create the request of the {@code request} options.
+   *
+   * @return the endpoint the request connection is obtained from
+   */
+  Endpoint<Lease<HttpClientConnection>> doRequest(RequestOptions request, PromiseInternal<HttpClientRequest> promise) {
     final String host = getHost(request);
     final int port = getPort(request);
     SocketAddress server = request.getServer();
@@ -322,7 +347,7 @@ public class HttpClientImpl extends HttpClientBase implements HttpClientInternal
     if (request.getIdleTimeout() >= 0L) {
       idleTimeout = request.getIdleTimeout();
     }
-    doRequest(method, server, host, port, useSSL, requestURI, headers, request.getTraceOperation(), connectTimeout, idleTimeout, followRedirects, proxyOptions, key, promise);
+    return doRequest(method, server, host, port, useSSL, requestURI, headers, request.getTraceOperation(), connectTimeout, idleTimeout, followRedirects, proxyOptions, key, promise);
   }
 
   private static SocketAddress peerAddress(SocketAddress remoteAddress, final String peerHost, int peerPort) {
@@ -332,7 +357,7 @@ public class HttpClientImpl extends HttpClientBase implements HttpClientInternal
     return SocketAddress.inetSocketAddress(peerPort, peerHost);
   }
 
-  private void doRequest(
+  private Endpoint<Lease<HttpClientConnection>> doRequest(
     HttpMethod method,
     SocketAddress server,
     String host,
@@ -348,24 +373,9 @@ public class HttpClientImpl extends HttpClientBase implements HttpClientInternal
     EndpointKey key,
     PromiseInternal<HttpClientRequest> requestPromise) {
     ContextInternal ctx = requestPromise.context();
-    EndpointProvider<Lease<HttpClientConnection>> provider = new EndpointProvider<Lease<HttpClientConnection>>() {
-      @Override
-      public Endpoint<Lease<HttpClientConnection>> create(ContextInternal ctx, Runnable dispose) {
-        int maxPoolSize = Math.max(poolOptions.getHttp1MaxSize(), poolOptions.getHttp2MaxSize());
-        ClientMetrics metrics = HttpClientImpl.this.metrics != null ? HttpClientImpl.this.metrics.createEndpointMetrics(key.serverAddr, maxPoolSize) : null;
-        HttpChannelConnector connector = new HttpChannelConnector(HttpClientImpl.this, netClient, proxyOptions, metrics, options.getProtocolVersion(), key.ssl, options.isUseAlpn(), key.peerAddr, key.serverAddr);
-        return new SharedClientHttpStreamEndpoint(
-          HttpClientImpl.this,
-          metrics,
-          poolOptions.getMaxWaitQueueSize(),
-          poolOptions.getHttp1MaxSize(),
-          poolOptions.getHttp2MaxSize(),
-          connector,
-          dispose);
-      }
-    };
+    EndpointProvider<Lease<HttpClientConnection>> provider = endpointProvider(key, proxyOptions);
     long now = System.currentTimeMillis();
-    httpCM.getConnection(ctx, key, provider, connectTimeout, ar1 -> {
+    return httpCM.getConnection(ctx, key, provider, connectTimeout, ar1 -> {
       if (ar1.succeeded()) {
         Lease<HttpClientConnection> lease = ar1.result();
         HttpClientConnection conn = lease.get();
@@ -400,6 +410,48 @@ public class HttpClientImpl extends HttpClientBase implements HttpClientInternal
     });
   }
 
+  private EndpointProvider<Lease<HttpClientConnection>> endpointProvider(EndpointKey key, ProxyOptions proxyOptions) {
+    return (ctx, dispose) -> {
+      int maxPoolSize = Math.max(poolOptions.getHttp1MaxSize(), poolOptions.getHttp2MaxSize());
+      ClientMetrics metrics = HttpClientImpl.this.metrics != null ? HttpClientImpl.this.metrics.createEndpointMetrics(key.serverAddr, maxPoolSize) : null;
+      HttpChannelConnector connector = new HttpChannelConnector(HttpClientImpl.this, netClient, proxyOptions, metrics, options.getProtocolVersion(), key.ssl, options.isUseAlpn(), key.peerAddr, key.serverAddr);
+      return new SharedClientHttpStreamEndpoint(
+        HttpClientImpl.this,
+        metrics,
+        poolOptions.getMaxWaitQueueSize(),
+        poolOptions.getHttp1MaxSize(),
+        poolOptions.getHttp2MaxSize(),
+        poolOptions.isSharded(),
+        poolOptions.isShardStealing(),
+        poolOptions.isAdaptiveSizing(),
+        poolOptions.getHttp1MinSize(),
+        poolOptions.isHttp2StreamStriping(),
+        poolOptions.getWarmSize(),
+        connector,
+        dispose);
+    };
+  }
+
+  @Override
+  public Future<Void> prewarm(SocketAddress server, int connections) {
+    Arguments.require(connections > 0, "connections must be > 0");
+    checkClosed();
+    ContextInternal ctx = vertx.getOrCreateContext();
+    PromiseInternal<Void> promise = ctx.promise();
+    boolean useSSL = options.isSsl();
+    ProxyOptions proxyOptions = resolveProxyOptions(null, server);
+    EndpointKey key;
+    if (proxyOptions != null && !useSSL && proxyOptions.getType() == ProxyType.HTTP) {
+      // Same endpoint as the requests sent to the server through the proxy
+      key = new EndpointKey(false, proxyOptions, SocketAddress.inetSocketAddress(proxyOptions.getPort(), proxyOptions.getHost()), server);
+      proxyOptions = null;
+    } else {
+      key = new EndpointKey(useSSL, proxyOptions, server, server);
+    }
+    httpCM.warm(ctx, key, endpointProvider(key, proxyOptions), connections, promise);
+    return promise.future();
+  }
+
   private void checkClosed() {
     if (closeFuture.isClosed()) {
       throw new IllegalStateException("Client is closed");
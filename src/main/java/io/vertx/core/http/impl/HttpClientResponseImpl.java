@@ -237,6 +237,8 @@ public class HttpClientResponseImpl implements HttpClientResponse  {
     }
     if (handler != null) {
       handler.handleChunk(data);
+    } else {
+      data.release();
     }
   }
 
@@ -46,12 +46,14 @@ class HttpEventHandler {
   }
 
   void handleChunk(Buffer chunk) {
+    if (body != null) {
+      body.appendBuffer(chunk);
+    }
     Handler<Buffer> handler = chunkHandler;
     if (handler != null) {
       context.dispatch(chunk, handler);
-    }
-    if (body != null) {
-      body.appendBuffer(chunk);
+    } else {
+      chunk.release();
     }
   }
 
@@ -56,6 +56,7 @@ public class HttpServerImpl extends TCPServerBase implements HttpServer, Closeab
   private Handler<HttpServerRequest> invalidRequestHandler;
   private Handler<HttpConnection> connectionHandler;
   private Handler<Throwable> exceptionHandler;
+  private boolean dateHeader; // Whether this server is counted by DateHeader
 
   public HttpServerImpl(VertxInternal vertx, HttpServerOptions options) {
     super(vertx, options);
@@ -173,7 +174,22 @@ public class HttpServerImpl extends TCPServerBase implements HttpServer, Closeab
     if (requestStream.handler() == null && wsStream.handler() == null) {
       throw new IllegalStateException("Set request or WebSocket handler first");
     }
-    return bind(address).map(this);
+    if (options.isDateHeaderEnabled() && !dateHeader) {
+      // Counted before binding, so a close happening before the bind completes releases it
+      dateHeader = true;
+      DateHeader.serverStarted();
+    }
+    return bind(address).<HttpServer>map(this).onFailure(err -> releaseDateHeader());
+  }
+
+  private void releaseDateHeader() {
+    synchronized (this) {
+      if (!dateHeader) {
+        return;
+      }
+      dateHeader = false;
+    }
+    DateHeader.serverClosed();
   }
 
   @Override
@@ -209,6 +225,9 @@ public class HttpServerImpl extends TCPServerBase implements HttpServer, Closeab
         }
       });
     }
+    if (dateHeader) {
+      completion.future().onComplete(ar -> releaseDateHeader());
+    }
     super.close(completion);
   }
 
@@ -262,6 +262,7 @@ public class HttpServerWorker implements BiConsumer<Channel, SslChannelProvider>
       .useUniformStreamByteDistributor(server.useH2UniformStreamByteDistributor)
       .connectionFactory(connHandler -> {
         Http2ServerConnection conn = new Http2ServerConnection(ctx, streamContextSupplier, serverOrigin, connHandler, encodingDetector, options, metrics);
+        conn.pooledBuffers(options.isPooledBuffers());
         if (metrics != null) {
           conn.metric(metrics.connected(conn.remoteAddress(), conn.remoteName()));
         }
@@ -324,6 +325,7 @@ public class HttpServerWorker implements BiConsumer<Channel, SslChannelProvider>
         context,
         serverOrigin,
         metrics);
+      conn.pooledBuffers(options.isPooledBuffers());
       return conn;
     });
     pipeline.addLast("handler", handler);
@@ -13,10 +13,12 @@ package io.vertx.core.http.impl;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
+import io.vertx.core.Promise;
 import io.vertx.core.http.HttpConnection;
 import io.vertx.core.http.HttpVersion;
 import io.vertx.core.impl.ContextInternal;
 import io.vertx.core.impl.NoStackTraceTimeoutException;
+import io.vertx.core.net.impl.pool.AdaptiveLimiter;
 import io.vertx.core.net.impl.pool.ConnectResult;
 import io.vertx.core.net.impl.pool.ConnectionPool;
 import io.vertx.core.net.impl.pool.PoolConnection;
@@ -25,6 +27,7 @@ import io.vertx.core.net.impl.pool.Lease;
 import io.vertx.core.net.impl.pool.PoolWaiter;
 import io.vertx.core.spi.metrics.ClientMetrics;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.BiFunction;
 
@@ -56,33 +59,123 @@ class SharedClientHttpStreamEndpoint extends ClientHttpEndpointBase<Lease<HttpCl
     return selected;
   };
 
+  /**
+   * Least loaded selector.
+   */
+  private static final BiFunction<PoolWaiter<HttpClientConnection>, List<PoolConnection<HttpClientConnection>>, PoolConnection<HttpClientConnection>> LEAST_LOADED_SELECTOR = (waiter, connections) -> leastLoaded(connections);
+
+  /**
+   * Striping selector, selects the least loaded connection unless it uses half of its concurrency or more so the pool
+   * creates a new connection when it can. No connection is created while another connection is being established.
+   */
+  private static final BiFunction<PoolWaiter<HttpClientConnection>, List<PoolConnection<HttpClientConnection>>, PoolConnection<HttpClientConnection>> STRIPING_SELECTOR = (waiter, connections) -> {
+    PoolConnection<HttpClientConnection> selected = leastLoaded(connections);
+    if (selected != null && selected.usage() * 2L >= selected.concurrency()) {
+      int size = connections.size();
+      for (int i = 0; i < size; i++) {
+        if (connections.get(i).get() == null) {
+          return selected;
+        }
+      }
+      return null;
+    }
+    return selected;
+  };
+
+  /**
+   * @return the available connection with the fewest active streams and then the largest send window
+   */
+  private static PoolConnection<HttpClientConnection> leastLoaded(List<PoolConnection<HttpClientConnection>> connections) {
+    int size = connections.size();
+    PoolConnection<HttpClientConnection> selected = null;
+    long window = 0L;
+    for (int i = 0; i < size; i++) {
+      PoolConnection<HttpClientConnection> pooled = connections.get(i);
+      if (pooled.available() > 0) {
+        long w = pooled.get().sendWindowSize();
+        if (selected == null || pooled.usage() < selected.usage() || (pooled.usage() == selected.usage() && w > window)) {
+          selected = pooled;
+          window = w;
+        }
+      }
+    }
+    return selected;
+  }
+
   private final HttpClientImpl client;
   private final HttpChannelConnector connector;
   private final ConnectionPool<HttpClientConnection> pool;
+  private final ClientMetrics metrics;
+  private final AdaptiveLimiter limiter; // Adapts the HTTP/1.x max size or null
+  private final int http1MaxSize;
+  private final int http2MaxSize;
+  private final int warmSize;
+  private final HedgedRequest.ResponseTimes responseTimes = new HedgedRequest.ResponseTimes();
 
   public SharedClientHttpStreamEndpoint(HttpClientImpl client,
                                         ClientMetrics metrics,
                                         int queueMaxSize,
                                         int http1MaxSize,
                                         int http2MaxSize,
+                                        boolean sharded,
+                                        boolean shardStealing,
+                                        boolean adaptiveSizing,
+                                        int http1MinSize,
+                                        boolean http2StreamStriping,
+                                        int warmSize,
                                         HttpChannelConnector connector,
                                         Runnable dispose) {
     super(metrics, dispose);
 
-    ConnectionPool<HttpClientConnection> pool = ConnectionPool.pool(this, new int[]{http1MaxSize, http2MaxSize}, queueMaxSize)
-      .connectionSelector(LIFO_SELECTOR).contextProvider(client.contextProvider());
+    int[] maxSizes = {http1MaxSize, http2MaxSize};
+    ConnectionPool<HttpClientConnection> pool = sharded ?
+      ConnectionPool.sharded(this, maxSizes, queueMaxSize, shardStealing) :
+      ConnectionPool.pool(this, maxSizes, queueMaxSize);
+    if (http2StreamStriping) {
+      pool.connectionSelector(STRIPING_SELECTOR).fallbackConnectionSelector(LEAST_LOADED_SELECTOR);
+    } else {
+      pool.connectionSelector(LIFO_SELECTOR);
+    }
+    pool.contextProvider(client.contextProvider());
+
+    AdaptiveLimiter limiter = null;
+    if (adaptiveSizing) {
+      limiter = new AdaptiveLimiter(Math.min(http1MinSize, http1MaxSize), http1MaxSize);
+      pool.maxSize(0, limiter.limit());
+      if (metrics != null) {
+        metrics.maxPoolSizeChanged(limiter.limit());
+      }
+    }
 
     this.client = client;
     this.connector = connector;
     this.pool = pool;
+    this.metrics = metrics;
+    this.limiter = limiter;
+    this.http1MaxSize = http1MaxSize;
+    this.http2MaxSize = http2MaxSize;
+    this.warmSize = warmSize;
+  }
+
+  private void limitChanged(int limit) {
+    if (limit > 0) {
+      pool.maxSize(0, limit);
+      if (metrics != null) {
+        metrics.maxPoolSizeChanged(limit);
+      }
+    }
   }
 
   @Override
   public void connect(ContextInternal context, Listener listener, Handler<AsyncResult<ConnectResult<HttpClientConnection>>> handler) {
+    long start = limiter != null ? System.nanoTime() : 0L;
     connector.httpConnect(context, ar -> {
       if (ar.succeeded()) {
         incRefCount();
         HttpClientConnection connection = ar.result();
+        if (limiter != null && connection instanceof Http1xClientConnection) {
+          limitChanged(limiter.onConnect(System.nanoTime() - start, pool.waiters()));
+        }
         connection.evictionHandler(v -> {
           decRefCount();
           listener.onRemove();
@@ -106,6 +199,13 @@ class SharedClientHttpStreamEndpoint extends ClientHttpEndpointBase<Lease<HttpCl
     });
   }
 
+  /**
+   * @return the recent response times of the hedged requests sent to this endpoint
+   */
+  HedgedRequest.ResponseTimes responseTimes() {
+    return responseTimes;
+  }
+
   @Override
   public boolean isValid(HttpClientConnection connection) {
     return connection.isValid();
@@ -116,6 +216,43 @@ class SharedClientHttpStreamEndpoint extends ClientHttpEndpointBase<Lease<HttpCl
       if (ar.succeeded()) {
         List<HttpClientConnection> lst = ar.result();
         lst.forEach(HttpConnection::close);
+        if (pool.size() < warmSize) {
+          // Replace the expired connections in the background
+          warm(client.vertx().getOrCreateContext(), warmSize, v -> {});
+        }
+      }
+    });
+  }
+
+  @Override
+  protected void warmConnections(ContextInternal ctx, int connections, Handler<AsyncResult<Void>> handler) {
+    // Acquire the connections at once so the pool creates a connection for each acquisition that does not find an
+    // idle connection, the acquisitions are capped to the pool size since they are recycled together
+    int kind;
+    int max;
+    if (client.options().getProtocolVersion() == HttpVersion.HTTP_2) {
+      kind = 1;
+      max = http2MaxSize;
+    } else {
+      kind = 0;
+      max = limiter != null ? limiter.limit() : http1MaxSize;
+    }
+    List<Future<Lease<HttpClientConnection>>> leases = new ArrayList<>();
+    for (int i = 0;i < Math.min(connections, max);i++) {
+      Promise<Lease<HttpClientConnection>> promise = ctx.promise();
+      pool.acquire(ctx, kind, promise);
+      leases.add(promise.future());
+    }
+    Future.join(leases).onComplete(ar -> {
+      for (Future<Lease<HttpClientConnection>> lease : leases) {
+        if (lease.succeeded()) {
+          lease.result().recycle();
+        }
+      }
+      if (ar.succeeded()) {
+        handler.handle(Future.succeededFuture());
+      } else {
+        handler.handle(Future.failedFuture(ar.cause()));
       }
     });
   }
@@ -159,6 +296,9 @@ class SharedClientHttpStreamEndpoint extends ClientHttpEndpointBase<Lease<HttpCl
       if (timerID >= 0) {
         context.owner().cancelTimer(timerID);
       }
+      if (limiter != null && ar.succeeded() && ar.result().get() instanceof Http1xClientConnection) {
+        ar = Future.succeededFuture(new SampledLease(ar.result()));
+      }
       handler.handle(ar);
     }
 
@@ -167,6 +307,32 @@ class SharedClientHttpStreamEndpoint extends ClientHttpEndpointBase<Lease<HttpCl
     }
   }
 
+  /**
+   * Samples the time a connection is leased to report the response latency to the limiter, this is the lease hold
+   * time which includes sending the request and consuming the response and not only waiting for the response.
+   */
+  private class SampledLease implements Lease<HttpClientConnection> {
+
+    private final Lease<HttpClientConnection> lease;
+    private final long start;
+
+    SampledLease(Lease<HttpClientConnection> lease) {
+      this.lease = lease;
+      this.start = System.nanoTime();
+    }
+
+    @Override
+    public HttpClientConnection get() {
+      return lease.get();
+    }
+
+    @Override
+    public void recycle() {
+      lease.recycle();
+      limitChanged(limiter.onResponse(System.nanoTime() - start, pool.waiters()));
+    }
+  }
+
   @Override
   public void requestConnection2(ContextInternal ctx, long timeout, Handler<AsyncResult<Lease<HttpClientConnection>>> handler) {
     Request request = new Request(ctx, client.options().getProtocolVersion(), timeout, handler);
@@ -15,6 +15,7 @@ import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.*;
 import io.vertx.core.impl.CloseFuture;
 import io.vertx.core.impl.ContextInternal;
@@ -149,6 +150,16 @@ public class SharedHttpClient implements HttpClientInternal {
     return delegate.updateSSLOptions(options, force);
   }
 
+  @Override
+  public Future<HttpClientResponse> send(RequestOptions options, Buffer body) {
+    return delegate.send(options, body);
+  }
+
+  @Override
+  public Future<Void> prewarm(SocketAddress server, int connections) {
+    return delegate.prewarm(server, connections);
+  }
+
   @Override
   public HttpClient connectionHandler(Handler<HttpConnection> handler) {
     return delegate.connectionHandler(handler);
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.http.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.util.CharsetUtil;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.StaticResponse;
+import io.vertx.core.http.impl.headers.HeadersMultiMap;
+import io.vertx.core.http.impl.headers.UnmodifiableMultiMap;
+
+import java.util.Objects;
+
+/**
+ * The static response keeps its HTTP/1.1 encoding in an unreleasable direct buffer, a duplicate of this buffer
+ * is written by {@link VertxHttpResponseEncoder} for each response.
+ */
+public class StaticResponseImpl implements StaticResponse {
+
+  private static final byte[] CRLF = { '\r', '\n' };
+
+  private final HttpResponseStatus status;
+  private final HeadersMultiMap headers;
+  private final MultiMap readOnlyHeaders;
+  private final Buffer body;
+  private final ByteBuf encoded;
+
+  public StaticResponseImpl(int statusCode, MultiMap headers, Buffer body) {
+    Objects.requireNonNull(headers, "headers");
+    Objects.requireNonNull(body, "body");
+    this.status = HttpResponseStatus.valueOf(statusCode);
+    this.headers = HeadersMultiMap.httpHeaders();
+    this.headers.addAll(headers);
+    this.body = body.copy();
+    if (statusCode == 204 || statusCode == 304 || statusCode < 200) {
+      if (body.length() > 0) {
+        throw new IllegalArgumentException("A " + statusCode + " response cannot have a body");
+      }
+    } else if (!this.headers.contains(HttpHeaders.CONTENT_LENGTH) && !this.headers.contains(HttpHeaders.TRANSFER_ENCODING)) {
+      this.headers.set(HttpHeaders.CONTENT_LENGTH, String.valueOf(body.length()));
+    }
+    this.readOnlyHeaders = new UnmodifiableMultiMap(this.headers);
+    this.encoded = encode();
+  }
+
+  private ByteBuf encode() {
+    ByteBuf buf = Unpooled.directBuffer(256 + body.length());
+    buf.writeCharSequence("HTTP/1.1 ", CharsetUtil.US_ASCII);
+    buf.writeCharSequence(status.codeAsText(), CharsetUtil.US_ASCII);
+    buf.writeByte(' ');
+    buf.writeCharSequence(status.reasonPhrase(), CharsetUtil.US_ASCII);
+    buf.writeBytes(CRLF);
+    headers.encode(buf);
+    buf.writeBytes(CRLF);
+    buf.writeBytes(body.getByteBuf());
+    return Unpooled.unreleasableBuffer(buf.asReadOnly());
+  }
+
+  /**
+   * @return a duplicate of the encoded response
+   */
+  ByteBuf encoded() {
+    return encoded.duplicate();
+  }
+
+  @Override
+  public int statusCode() {
+    return status.code();
+  }
+
+  @Override
+  public MultiMap headers() {
+    return readOnlyHeaders;
+  }
+
+  @Override
+  public Buffer body() {
+    return body;
+  }
+}
@@ -97,7 +97,10 @@ abstract class VertxHttp2Stream<C extends Http2ConnectionBase> {
   }
 
   void onReset(long code) {
-    context.emit(code, this::handleReset);
+    context.emit(code, c -> {
+      conn.releaseQueuedBuffers(pending);
+      handleReset(c);
+    });
   }
 
   void onPriorityChange(StreamPriority newPriority) {
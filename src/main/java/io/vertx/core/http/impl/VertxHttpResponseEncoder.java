@@ -24,6 +24,8 @@ import io.netty.handler.codec.http.HttpResponseEncoder;
 import io.netty.handler.codec.http.LastHttpContent;
 import io.vertx.core.http.impl.headers.HeadersMultiMap;
 
+import java.util.List;
+
 /**
  * {@link io.netty.handler.codec.http.HttpResponseEncoder} which forces the usage of direct buffers for max performance.
  *
@@ -57,13 +59,24 @@ final class VertxHttpResponseEncoder extends HttpResponseEncoder {
       msgClazz == AssembledHttpResponse.class ||
       msgClazz == DefaultHttpContent.class ||
       msgClazz == AssembledLastHttpContent.class ||
-      msgClazz == DefaultFileRegion.class) {
+      msgClazz == DefaultFileRegion.class ||
+      msgClazz == StaticResponseImpl.class) {
       return true;
     }
     // Netty slow-path
     return super.acceptOutboundMessage(msg);
   }
 
+  @Override
+  protected void encode(ChannelHandlerContext ctx, Object msg, List<Object> out) throws Exception {
+    if (msg instanceof StaticResponseImpl) {
+      // Already encoded
+      out.add(((StaticResponseImpl) msg).encoded());
+    } else {
+      super.encode(ctx, msg, out);
+    }
+  }
+
   @Override
   public void handlerAdded(ChannelHandlerContext ctx) throws Exception {
     super.handlerAdded(ctx);
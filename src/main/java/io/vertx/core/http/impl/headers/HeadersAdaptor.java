@@ -11,13 +11,18 @@
 
 package io.vertx.core.http.impl.headers;
 
+import io.netty.handler.codec.http.DefaultHttpHeaders;
 import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.util.AsciiString;
 import io.vertx.core.MultiMap;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.BiConsumer;
 
 /**
  * @author <a href="mailto:nmaurer@redhat.com">Norman Maurer</a>
@@ -153,6 +158,66 @@ public class HeadersAdaptor implements MultiMap {
     return headers.getAll(name);
   }
 
+  @Override
+  public CharSequence getCharSequence(CharSequence name) {
+    if (headers instanceof DefaultHttpHeaders) {
+      // Hashed lookup, the values are iterated from the most recently added one
+      CharSequence value = null;
+      Iterator<? extends CharSequence> it = headers.valueCharSequenceIterator(name);
+      while (it.hasNext()) {
+        value = it.next();
+      }
+      return value;
+    }
+    Iterator<Map.Entry<CharSequence, CharSequence>> it = headers.iteratorCharSequence();
+    while (it.hasNext()) {
+      Map.Entry<CharSequence, CharSequence> entry = it.next();
+      if (AsciiString.contentEqualsIgnoreCase(name, entry.getKey())) {
+        return entry.getValue();
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public List<CharSequence> getAllCharSequence(CharSequence name) {
+    List<CharSequence> values = null;
+    if (headers instanceof DefaultHttpHeaders) {
+      // Hashed lookup, the values are iterated from the most recently added one
+      Iterator<? extends CharSequence> it = headers.valueCharSequenceIterator(name);
+      while (it.hasNext()) {
+        if (values == null) {
+          values = new ArrayList<>();
+        }
+        values.add(it.next());
+      }
+      if (values != null) {
+        Collections.reverse(values);
+      }
+    } else {
+      Iterator<Map.Entry<CharSequence, CharSequence>> it = headers.iteratorCharSequence();
+      while (it.hasNext()) {
+        Map.Entry<CharSequence, CharSequence> entry = it.next();
+        if (AsciiString.contentEqualsIgnoreCase(name, entry.getKey())) {
+          if (values == null) {
+            values = new ArrayList<>();
+          }
+          values.add(entry.getValue());
+        }
+      }
+    }
+    return values == null ? Collections.emptyList() : Collections.unmodifiableList(values);
+  }
+
+  @Override
+  public void forEachCharSequence(BiConsumer<CharSequence, CharSequence> action) {
+    Iterator<Map.Entry<CharSequence, CharSequence>> it = headers.iteratorCharSequence();
+    while (it.hasNext()) {
+      Map.Entry<CharSequence, CharSequence> entry = it.next();
+      action.accept(entry.getKey(), entry.getValue());
+    }
+  }
+
   @Override
   public boolean contains(CharSequence name) {
     return headers.contains(name);
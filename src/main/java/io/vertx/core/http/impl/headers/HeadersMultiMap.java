@@ -150,7 +150,12 @@ public final class HeadersMultiMap extends HttpHeaders implements MultiMap {
 
   @Override
   public MultiMap addAll(MultiMap headers) {
-    return addAll(headers.entries());
+    if (headers == this) {
+      // Iterate over a snapshot, the entries would be iterated while being added
+      return addAll(headers.entries());
+    }
+    headers.forEachCharSequence(this::add);
+    return this;
   }
 
   @Override
@@ -328,6 +333,32 @@ public final class HeadersMultiMap extends HttpHeaders implements MultiMap {
     return getAll((CharSequence) name);
   }
 
+  @Override
+  public CharSequence getCharSequence(CharSequence name) {
+    Objects.requireNonNull(name, "name");
+    return get0(name);
+  }
+
+  @Override
+  public List<CharSequence> getAllCharSequence(CharSequence name) {
+    Objects.requireNonNull(name, "name");
+    LinkedList<CharSequence> values = null;
+    int h = AsciiString.hashCode(name);
+    int i = h & 0x0000000F;
+    HeadersMultiMap.MapEntry e = entries[i];
+    while (e != null) {
+      CharSequence key = e.key;
+      if (e.hash == h && (name == key || AsciiString.contentEqualsIgnoreCase(name, key))) {
+        if (values == null) {
+          values = new LinkedList<>();
+        }
+        values.addFirst(e.getValue());
+      }
+      e = e.next;
+    }
+    return values == null ? Collections.emptyList() : Collections.unmodifiableList(values);
+  }
+
   @Override
   public void forEach(Consumer<? super Map.Entry<String, String>> action) {
     HeadersMultiMap.MapEntry e = head.after;
@@ -346,6 +377,15 @@ public final class HeadersMultiMap extends HttpHeaders implements MultiMap {
     }
   }
 
+  @Override
+  public void forEachCharSequence(BiConsumer<CharSequence, CharSequence> action) {
+    HeadersMultiMap.MapEntry e = head.after;
+    while (e != head) {
+      action.accept(e.key, e.value);
+      e = e.after;
+    }
+  }
+
   @Override
   public List<Map.Entry<String, String>> entries() {
     return MultiMap.super.entries();
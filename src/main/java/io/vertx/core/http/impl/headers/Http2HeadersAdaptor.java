@@ -16,11 +16,13 @@ import io.vertx.core.MultiMap;
 import io.vertx.core.http.impl.HttpUtils;
 
 import java.util.AbstractList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
 /**
@@ -111,9 +113,14 @@ public class Http2HeadersAdaptor implements MultiMap {
 
   @Override
   public MultiMap addAll(MultiMap headers) {
-    for (Map.Entry<String, String> entry: headers.entries()) {
-      add(entry.getKey(), entry.getValue());
+    if (headers == this) {
+      // Iterate over a snapshot, the entries would be iterated while being added
+      for (Map.Entry<String, String> entry: headers.entries()) {
+        add(entry.getKey(), entry.getValue());
+      }
+      return this;
     }
+    headers.forEachCharSequence(this::add);
     return this;
   }
 
@@ -230,6 +237,23 @@ public class Http2HeadersAdaptor implements MultiMap {
     return all != null ? all.stream().map(CharSequence::toString).collect(Collectors.toList()) : null;
   }
 
+  @Override
+  public CharSequence getCharSequence(CharSequence name) {
+    return headers.get(HttpUtils.toLowerCase(name));
+  }
+
+  @Override
+  public List<CharSequence> getAllCharSequence(CharSequence name) {
+    return Collections.unmodifiableList(headers.getAll(HttpUtils.toLowerCase(name)));
+  }
+
+  @Override
+  public void forEachCharSequence(BiConsumer<CharSequence, CharSequence> action) {
+    for (Map.Entry<CharSequence, CharSequence> header : headers) {
+      action.accept(header.getKey(), header.getValue());
+    }
+  }
+
   @Override
   public boolean contains(CharSequence name) {
     return headers.contains(HttpUtils.toLowerCase(name));
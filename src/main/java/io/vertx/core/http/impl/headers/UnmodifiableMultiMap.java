@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.http.impl.headers;
+
+import io.vertx.core.MultiMap;
+
+import java.util.AbstractMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * A read-only view of a {@link MultiMap}, the mutating methods throw {@link UnsupportedOperationException}.
+ */
+public class UnmodifiableMultiMap implements MultiMap {
+
+  private final MultiMap map;
+
+  public UnmodifiableMultiMap(MultiMap map) {
+    this.map = map;
+  }
+
+  @Override
+  public String get(CharSequence name) {
+    return map.get(name);
+  }
+
+  @Override
+  public String get(String name) {
+    return map.get(name);
+  }
+
+  @Override
+  public List<String> getAll(String name) {
+    return map.getAll(name);
+  }
+
+  @Override
+  public List<String> getAll(CharSequence name) {
+    return map.getAll(name);
+  }
+
+  @Override
+  public CharSequence getCharSequence(CharSequence name) {
+    return map.getCharSequence(name);
+  }
+
+  @Override
+  public void forEach(BiConsumer<String, String> action) {
+    map.forEach(action);
+  }
+
+  @Override
+  public void forEachCharSequence(BiConsumer<CharSequence, CharSequence> action) {
+    map.forEachCharSequence(action);
+  }
+
+  @Override
+  public boolean contains(String name) {
+    return map.contains(name);
+  }
+
+  @Override
+  public boolean contains(CharSequence name) {
+    return map.contains(name);
+  }
+
+  @Override
+  public boolean contains(String name, String value, boolean caseInsensitive) {
+    return map.contains(name, value, caseInsensitive);
+  }
+
+  @Override
+  public boolean contains(CharSequence name, CharSequence value, boolean caseInsensitive) {
+    return map.contains(name, value, caseInsensitive);
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return map.isEmpty();
+  }
+
+  @Override
+  public Set<String> names() {
+    return map.names();
+  }
+
+  @Override
+  public int size() {
+    return map.size();
+  }
+
+  @Override
+  public Iterator<Map.Entry<String, String>> iterator() {
+    Iterator<Map.Entry<String, String>> it = map.iterator();
+    return new Iterator<Map.Entry<String, String>>() {
+      @Override
+      public boolean hasNext() {
+        return it.hasNext();
+      }
+      @Override
+      public Map.Entry<String, String> next() {
+        // The entries of the underlying map might be mutable
+        Map.Entry<String, String> next = it.next();
+        return new AbstractMap.SimpleImmutableEntry<>(next.getKey(), next.getValue());
+      }
+    };
+  }
+
+  @Override
+  public MultiMap add(String name, String value) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public MultiMap add(CharSequence name, CharSequence value) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public MultiMap add(String name, Iterable<String> values) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public MultiMap add(CharSequence name, Iterable<CharSequence> values) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public MultiMap addAll(MultiMap map) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public MultiMap addAll(Map<String, String> headers) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public MultiMap set(String name, String value) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public MultiMap set(CharSequence name, CharSequence value) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public MultiMap set(String name, Iterable<String> values) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public MultiMap set(CharSequence name, Iterable<CharSequence> values) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public MultiMap setAll(MultiMap map) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public MultiMap setAll(Map<String, String> headers) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public MultiMap remove(String name) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public MultiMap remove(CharSequence name) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public MultiMap clear() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public String toString() {
+    return map.toString();
+  }
+}
@@ -126,6 +126,11 @@ public final class ContextImpl extends ContextBase implements ContextInternal {
     return executeBlocking(this, action, internalWorkerPool, ordered ? internalOrderedTasks : null);
   }
 
+  @Override
+  public <T> Future<T> executeBlockingInternal(Handler<Promise<T>> action, WorkerPool workerPool) {
+    return executeBlocking(this, action, workerPool, internalOrderedTasks);
+  }
+
   @Override
   public <T> Future<T> executeBlocking(Handler<Promise<T>> blockingCodeHandler, boolean ordered) {
     return executeBlocking(this, blockingCodeHandler, workerPool, ordered ? orderedTasks : null);
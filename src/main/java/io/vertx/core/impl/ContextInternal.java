@@ -179,6 +179,11 @@ public interface ContextInternal extends Context {
 
   <T> Future<T> executeBlockingInternal(Callable<T> action, boolean ordered);
 
+  /**
+   * Like {@link #executeBlockingInternal(Handler)} but the action is executed by the given {@code workerPool}
+   */
+  <T> Future<T> executeBlockingInternal(Handler<Promise<T>> action, WorkerPool workerPool);
+
   /**
    * @return the deployment associated with this context or {@code null}
    */
@@ -136,6 +136,11 @@ final class DuplicatedContext extends ContextBase implements ContextInternal {
     return ContextImpl.executeBlocking(this, action, delegate.internalWorkerPool, ordered ? delegate.internalOrderedTasks : null);
   }
 
+  @Override
+  public final <T> Future<T> executeBlockingInternal(Handler<Promise<T>> action, WorkerPool workerPool) {
+    return ContextImpl.executeBlocking(this, action, workerPool, delegate.internalOrderedTasks);
+  }
+
   @Override
   public final <T> Future<T> executeBlocking(Handler<Promise<T>> action, boolean ordered) {
     return ContextImpl.executeBlocking(this, action, delegate.workerPool, ordered ? delegate.orderedTasks : null);
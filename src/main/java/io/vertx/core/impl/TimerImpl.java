@@ -14,25 +14,48 @@ import io.netty.util.concurrent.FutureListener;
 import io.vertx.core.Timer;
 import io.vertx.core.impl.future.FutureImpl;
 
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+
 /**
  * A timer task as a vertx future.
  *
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
  */
-class TimerImpl extends FutureImpl<Void> implements FutureListener<Void>, Timer {
+class TimerImpl extends FutureImpl<Void> implements FutureListener<Void>, Runnable, Timer {
 
   private final io.netty.util.concurrent.ScheduledFuture<Void> delegate;
+  private final TimerWheel.Timeout timeout;
 
   TimerImpl(ContextInternal ctx, io.netty.util.concurrent.ScheduledFuture<Void> delegate) {
     super(ctx);
     this.delegate = delegate;
+    this.timeout = null;
+  }
+
+  TimerImpl(ContextInternal ctx, TimerWheel wheel, long delay, TimeUnit unit) {
+    super(ctx);
+    this.delegate = null;
+    this.timeout = wheel.schedule(this, delay, 0L, unit);
   }
 
   @Override
   public boolean cancel() {
+    if (timeout != null) {
+      if (timeout.cancel()) {
+        tryFail(new CancellationException());
+        return true;
+      }
+      return false;
+    }
     return delegate.cancel(false);
   }
 
+  @Override
+  public void run() {
+    tryComplete(null);
+  }
+
   @Override
   public void operationComplete(io.netty.util.concurrent.Future<Void> future) {
     if (future.isSuccess()) {
@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.impl;
+
+import io.netty.channel.EventLoop;
+import io.vertx.core.impl.logging.Logger;
+import io.vertx.core.impl.logging.LoggerFactory;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * A hashed timer wheel owned by an event loop.
+ * <p>
+ * The wheel state is only accessed from the event loop thread, scheduling or cancelling from another thread hands
+ * the operation to the event loop. Each bucket is a doubly linked list of timeouts, so inserting and removing a
+ * timeout are constant time operations. The wheel ticks with a task scheduled on the event loop that is only armed
+ * while the wheel holds timeouts.
+ */
+class TimerWheel {
+
+  private static final Logger log = LoggerFactory.getLogger(TimerWheel.class);
+
+  private static final int WHEEL_SIZE = 512;
+  private static final int MASK = WHEEL_SIZE - 1;
+
+  private final EventLoop eventLoop;
+  private final long tickNanos;
+  private final long startTime;
+  private final Timeout[] heads = new Timeout[WHEEL_SIZE];
+  private final Timeout[] tails = new Timeout[WHEEL_SIZE];
+  private final Runnable ticker = this::tick;
+  private long tick;
+  private int size;
+  private boolean ticking;
+
+  TimerWheel(EventLoop eventLoop, long tickNanos) {
+    this.eventLoop = eventLoop;
+    this.tickNanos = tickNanos;
+    this.startTime = System.nanoTime();
+  }
+
+  /**
+   * Schedule a {@code task} after {@code delay} and then every {@code period} when the {@code period} is greater
+   * than {@code 0}.
+   *
+   * @return the timeout to cancel the task
+   */
+  Timeout schedule(Runnable task, long delay, long period, TimeUnit unit) {
+    Timeout timeout = new Timeout(this, task, System.nanoTime() + unit.toNanos(delay), unit.toNanos(period));
+    if (eventLoop.inEventLoop()) {
+      add(timeout);
+    } else {
+      eventLoop.execute(() -> add(timeout));
+    }
+    return timeout;
+  }
+
+  private void add(Timeout timeout) {
+    if (timeout.state != Timeout.PENDING) {
+      // Cancelled before the event loop got the timeout
+      return;
+    }
+    if (!ticking) {
+      // Skip the buckets elapsed while the wheel was idle
+      tick = currentTick(System.nanoTime()) + 1;
+    }
+    link(timeout, tick);
+    if (!ticking) {
+      ticking = true;
+      scheduleTick(System.nanoTime());
+    }
+  }
+
+  private void link(Timeout timeout, long minTick) {
+    long deadlineTick = -Math.floorDiv(startTime - timeout.deadline, tickNanos);
+    timeout.tick = Math.max(deadlineTick, minTick);
+    int bucket = (int) (timeout.tick & MASK);
+    Timeout tail = tails[bucket];
+    if (tail == null) {
+      heads[bucket] = timeout;
+    } else {
+      tail.next = timeout;
+      timeout.prev = tail;
+    }
+    tails[bucket] = timeout;
+    timeout.linked = true;
+    size++;
+  }
+
+  private void unlink(Timeout timeout) {
+    int bucket = (int) (timeout.tick & MASK);
+    if (timeout.prev == null) {
+      heads[bucket] = timeout.next;
+    } else {
+      timeout.prev.next = timeout.next;
+    }
+    if (timeout.next == null) {
+      tails[bucket] = timeout.prev;
+    } else {
+      timeout.next.prev = timeout.prev;
+    }
+    timeout.prev = null;
+    timeout.next = null;
+    timeout.linked = false;
+    size--;
+  }
+
+  private void remove(Timeout timeout) {
+    if (timeout.linked) {
+      unlink(timeout);
+    }
+  }
+
+  /**
+   * Cancel the pending timeouts, this must be called after the event loop has terminated.
+   */
+  void close() {
+    for (int i = 0;i < WHEEL_SIZE;i++) {
+      for (Timeout timeout = heads[i];timeout != null;timeout = timeout.next) {
+        if (Timeout.STATE_UPDATER.compareAndSet(timeout, Timeout.PENDING, Timeout.CANCELLED) && timeout.task instanceof TimerImpl) {
+          ((TimerImpl) timeout.task).tryFail(new CancellationException());
+        }
+      }
+      heads[i] = null;
+      tails[i] = null;
+    }
+    size = 0;
+  }
+
+  private long currentTick(long now) {
+    return Math.floorDiv(now - startTime, tickNanos);
+  }
+
+  private void scheduleTick(long now) {
+    long delay = startTime + tick * tickNanos - now;
+    eventLoop.schedule(ticker, Math.max(delay, 0L), TimeUnit.NANOSECONDS);
+  }
+
+  private void tick() {
+    long now = System.nanoTime();
+    long target = currentTick(now);
+    while (tick <= target && size > 0) {
+      expire((int) (tick & MASK));
+      tick++;
+    }
+    if (size > 0) {
+      scheduleTick(System.nanoTime());
+    } else {
+      ticking = false;
+    }
+  }
+
+  private void expire(int bucket) {
+    Timeout timeout = heads[bucket];
+    while (timeout != null) {
+      Timeout next = timeout.next;
+      if (timeout.tick <= tick) {
+        unlink(timeout);
+        if (timeout.expire()) {
+          try {
+            timeout.task.run();
+          } catch (Throwable t) {
+            log.warn("A timer task raised an exception", t);
+          }
+          if (timeout.period > 0 && timeout.state == Timeout.PENDING) {
+            timeout.deadline += timeout.period;
+            // Never in the bucket being expired
+            link(timeout, tick + 1);
+          }
+          if (next != null && !next.linked) {
+            // The task cancelled the next timeout
+            next = heads[bucket];
+          }
+        }
+      }
+      timeout = next;
+    }
+  }
+
+  /**
+   * A task scheduled on the wheel.
+   */
+  static final class Timeout {
+
+    private static final int PENDING = 0;
+    private static final int CANCELLED = 1;
+    private static final int EXPIRED = 2;
+
+    private static final AtomicIntegerFieldUpdater<Timeout> STATE_UPDATER = AtomicIntegerFieldUpdater.newUpdater(Timeout.class, "state");
+
+    private final TimerWheel wheel;
+    private final Runnable task;
+    private final long period;
+    private volatile int state;
+    private long deadline;
+    private long tick;
+    private boolean linked;
+    private Timeout prev;
+    private Timeout next;
+
+    private Timeout(TimerWheel wheel, Runnable task, long deadline, long period) {
+      this.wheel = wheel;
+      this.task = task;
+      this.deadline = deadline;
+      this.period = period;
+    }
+
+    private boolean expire() {
+      return period > 0 ? state == PENDING : STATE_UPDATER.compareAndSet(this, PENDING, EXPIRED);
+    }
+
+    /**
+     * Cancel the timeout.
+     *
+     * @return {@code true} when the timeout was cancelled, {@code false} when the task has run already or the timeout
+     *         was cancelled before
+     */
+    boolean cancel() {
+      if (!STATE_UPDATER.compareAndSet(this, PENDING, CANCELLED)) {
+        return false;
+      }
+      if (wheel.eventLoop.inEventLoop()) {
+        wheel.remove(this);
+      } else {
+        wheel.eventLoop.execute(() -> wheel.remove(this));
+      }
+      return true;
+    }
+  }
+}
@@ -13,6 +13,7 @@ package io.vertx.core.impl;
 
 import io.vertx.core.*;
 import io.vertx.core.impl.transports.EpollTransport;
+import io.vertx.core.impl.transports.IOUringTransport;
 import io.vertx.core.impl.transports.JDKTransport;
 import io.vertx.core.impl.transports.KQueueTransport;
 import io.vertx.core.spi.file.FileResolver;
@@ -373,11 +374,27 @@ public class VertxBuilder {
     }
   }
 
+  /**
+   * The system property to set to {@code true} to use the io_uring transport instead of the epoll transport as
+   * native transport.
+   */
+  public static final String PREFER_IO_URING_PROP_NAME = "vertx.preferIOUring";
+
   /**
    * The native transport, it may be {@code null} or failed.
    */
   public static Transport nativeTransport() {
     Transport transport = null;
+    if (Boolean.getBoolean(PREFER_IO_URING_PROP_NAME)) {
+      try {
+        Transport ioUring = new IOUringTransport();
+        if (ioUring.isAvailable()) {
+          return ioUring;
+        }
+      } catch (Throwable ignore) {
+        // Jar not here
+      }
+    }
     try {
       Transport epoll = new EpollTransport();
       if (epoll.isAvailable()) {
@@ -31,6 +31,7 @@ import io.vertx.core.eventbus.impl.EventBusImpl;
 import io.vertx.core.eventbus.impl.EventBusInternal;
 import io.vertx.core.eventbus.impl.clustered.ClusteredEventBus;
 import io.vertx.core.file.FileSystem;
+import io.vertx.core.file.FileSystemOptions;
 import io.vertx.core.http.*;
 import io.vertx.core.http.impl.*;
 import io.vertx.core.impl.btc.BlockedThreadChecker;
@@ -95,7 +96,8 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
 
   private static final String CLUSTER_MAP_NAME = "__vertx.haInfo";
   private static final String NETTY_IO_RATIO_PROPERTY_NAME = "vertx.nettyIORatio";
-  private static final int NETTY_IO_RATIO = Integer.getInteger(NETTY_IO_RATIO_PROPERTY_NAME, 50);
+  public static final int DEFAULT_NETTY_IO_RATIO = 50;
+  private static final int NETTY_IO_RATIO = Integer.getInteger(NETTY_IO_RATIO_PROPERTY_NAME, DEFAULT_NETTY_IO_RATIO);
 
   // Not cached for graalvm
   private static ThreadFactory virtualThreadFactory() {
@@ -127,6 +129,8 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
   private final VertxMetrics metrics;
   private final ConcurrentMap<Long, InternalTimerHandler> timeouts = new ConcurrentHashMap<>();
   private final AtomicLong timeoutCounter = new AtomicLong(0);
+  private final long timerWheelTickNanos;
+  private final ConcurrentMap<EventLoop, TimerWheel> timerWheels = new ConcurrentHashMap<>();
   private final ClusterManager clusterManager;
   private final NodeSelector nodeSelector;
   private final DeploymentManager deploymentManager;
@@ -138,6 +142,7 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
   final WorkerPool workerPool;
   final WorkerPool internalWorkerPool;
   final WorkerPool virtualThreaWorkerPool;
+  private final WorkerPool fileSystemWorkerPool;
   private final VertxThreadFactory threadFactory;
   private final ExecutorServiceFactory executorServiceFactory;
   private final ThreadFactory eventLoopThreadFactory;
@@ -205,10 +210,17 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     internalWorkerPool = new WorkerPool(internalWorkerExec, internalBlockingPoolMetrics);
     namedWorkerPools = new HashMap<>();
     workerPool = new WorkerPool(workerExec, workerPoolMetrics);
+    FileSystemOptions fileSystemOptions = options.getFileSystemOptions();
+    boolean fileSystemOnVirtualThreads = fileSystemOptions != null && fileSystemOptions.isVirtualThreadsEnabled();
+    if (fileSystemOnVirtualThreads && virtualThreaWorkerPool == null) {
+      log.warn("File system operations cannot run on virtual threads, this Java runtime does not support virtual threads");
+    }
+    fileSystemWorkerPool = fileSystemOnVirtualThreads && virtualThreaWorkerPool != null ? virtualThreaWorkerPool : internalWorkerPool;
     defaultWorkerPoolSize = options.getWorkerPoolSize();
     maxWorkerExecTime = maxWorkerExecuteTime;
     maxWorkerExecTimeUnit = maxWorkerExecuteTimeUnit;
     disableTCCL = options.getDisableTCCL();
+    timerWheelTickNanos = options.getTimerWheelTickDurationUnit().toNanos(options.getTimerWheelTickDuration());
     this.checker = checker;
     this.useDaemonThread = useDaemonThread;
     this.executorServiceFactory = executorServiceFactory;
@@ -455,6 +467,10 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
       throw new IllegalArgumentException("Invalid delay: " + delay);
     }
     ContextInternal ctx = getOrCreateContext();
+    TimerWheel wheel = timerWheel(ctx.nettyEventLoop());
+    if (wheel != null) {
+      return new TimerImpl(ctx, wheel, delay, unit);
+    }
     io.netty.util.concurrent.ScheduledFuture<Void> fut = ctx.nettyEventLoop().schedule(() -> null, delay, unit);
     TimerImpl promise = new TimerImpl(ctx, fut);
     fut.addListener(promise);
@@ -495,6 +511,11 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     return internalWorkerPool;
   }
 
+  @Override
+  public WorkerPool getFileSystemWorkerPool() {
+    return fileSystemWorkerPool;
+  }
+
   public EventLoopGroup getEventLoopGroup() {
     return eventLoopGroup;
   }
@@ -659,7 +680,10 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
       context.addCloseHook(task);
     }
     EventLoop el = context.nettyEventLoop();
-    if (periodic) {
+    TimerWheel wheel = timerWheel(el);
+    if (wheel != null) {
+      task.timeout = wheel.schedule(task, periodic ? initialDelay : delay, periodic ? delay : 0L, timeUnit);
+    } else if (periodic) {
       task.future = el.scheduleAtFixedRate(task, initialDelay, delay, timeUnit);
     } else {
       task.future = el.schedule(task, delay, timeUnit);
@@ -676,6 +700,20 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     return scheduleTimeout(context, periodic, delay, delay, timeUnit, addCloseHook, handler);
   }
 
+  /**
+   * @return the timer wheel of the event loop {@code el} or {@code null} when timer wheels are disabled
+   */
+  private TimerWheel timerWheel(EventLoop el) {
+    if (timerWheelTickNanos == 0L) {
+      return null;
+    }
+    TimerWheel wheel = timerWheels.get(el);
+    if (wheel == null) {
+      wheel = timerWheels.computeIfAbsent(el, loop -> new TimerWheel(loop, timerWheelTickNanos));
+    }
+    return wheel;
+  }
+
   public ContextInternal getContext() {
     ContextInternal context = ContextInternal.current();
     if (context != null && context.owner() == this) {
@@ -989,6 +1027,7 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
               if (!future.isSuccess()) {
                 log.warn("Failure in shutting down event loop group", future.cause());
               }
+              timerWheels.values().forEach(TimerWheel::close);
               if (metrics != null) {
                 metrics.close();
               }
@@ -1023,6 +1062,9 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
    * <p/>
    * This class does not rely on the internal {@link #future} for the termination to handle the worker case
    * since the actual timer {@link #handler} execution is scheduled when the {@link #future} executes.
+   * <p/>
+   * When timer wheels are enabled, the timer is scheduled with the {@link #timeout} of the event loop wheel
+   * instead of the {@link #future}.
    */
   class InternalTimerHandler implements Handler<Void>, Closeable, Runnable {
 
@@ -1032,6 +1074,7 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     private final ContextInternal context;
     private final AtomicBoolean disposed = new AtomicBoolean();
     private volatile java.util.concurrent.Future<?> future;
+    private volatile TimerWheel.Timeout timeout;
 
     InternalTimerHandler(long id, Handler<Long> runnable, boolean periodic, ContextInternal context) {
       this.context = context;
@@ -1074,7 +1117,11 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     private boolean tryCancel() {
       if  (disposed.compareAndSet(false, true)) {
         timeouts.remove(id);
-        future.cancel(false);
+        if (timeout != null) {
+          timeout.cancel();
+        } else {
+          future.cancel(false);
+        }
         return true;
       } else {
         return false;
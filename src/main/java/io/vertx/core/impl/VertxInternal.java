@@ -75,6 +75,12 @@ public interface VertxInternal extends Vertx {
 
   WorkerPool getInternalWorkerPool();
 
+  /**
+   * @return the worker pool executing the file system operations, either the internal worker pool or a virtual
+   *         thread pool
+   */
+  WorkerPool getFileSystemWorkerPool();
+
   Map<ServerID, HttpServerImpl> sharedHttpServers();
 
   Map<ServerID, NetServerImpl> sharedNetServers();
@@ -320,6 +320,11 @@ public abstract class VertxWrapper implements VertxInternal {
     return delegate.getInternalWorkerPool();
   }
 
+  @Override
+  public WorkerPool getFileSystemWorkerPool() {
+    return delegate.getFileSystemWorkerPool();
+  }
+
   @Override
   public Map<ServerID, HttpServerImpl> sharedHttpServers() {
     return delegate.sharedHttpServers();
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.impl.transports;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFactory;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.ServerChannel;
+import io.netty.channel.socket.DatagramChannel;
+import io.netty.channel.socket.InternetProtocolFamily;
+import io.netty.channel.unix.UnixChannelOption;
+import io.netty.incubator.channel.uring.IOUring;
+import io.netty.incubator.channel.uring.IOUringChannelOption;
+import io.netty.incubator.channel.uring.IOUringDatagramChannel;
+import io.netty.incubator.channel.uring.IOUringEventLoopGroup;
+import io.netty.incubator.channel.uring.IOUringServerSocketChannel;
+import io.netty.incubator.channel.uring.IOUringSocketChannel;
+import io.vertx.core.datagram.DatagramSocketOptions;
+import io.vertx.core.impl.VertxImpl;
+import io.vertx.core.impl.logging.Logger;
+import io.vertx.core.impl.logging.LoggerFactory;
+import io.vertx.core.net.ClientOptionsBase;
+import io.vertx.core.net.NetServerOptions;
+import io.vertx.core.spi.transport.Transport;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Linux io_uring transport based on the Netty incubator.
+ *
+ * <p> This transport is not selected by default as native transport, it is used instead of the epoll transport when
+ * the {@code vertx.preferIOUring} system property is {@code true}.
+ *
+ * <p> Domain sockets and file regions are not supported by the incubator channels, Vert.x falls back to
+ * regular writes when sending files.
+ */
+public class IOUringTransport implements Transport {
+
+  private static final Logger log = LoggerFactory.getLogger(IOUringTransport.class);
+
+  private static volatile int pendingFastOpenRequestsThreshold = 256;
+
+  /**
+   * Return the number of of pending TFO connections in SYN-RCVD state for TCP_FASTOPEN.
+   *
+   * {@see #setPendingFastOpenRequestsThreshold}
+   */
+  public static int getPendingFastOpenRequestsThreshold() {
+    return pendingFastOpenRequestsThreshold;
+  }
+
+  /**
+   * Set the number of of pending TFO connections in SYN-RCVD state for TCP_FASTOPEN
+   * <p/>
+   * If this value goes over a certain limit the server disables all TFO connections.
+   */
+  public static void setPendingFastOpenRequestsThreshold(int value) {
+    if (value < 0) {
+      throw new IllegalArgumentException("Invalid " + value);
+    }
+    pendingFastOpenRequestsThreshold = value;
+  }
+
+  public IOUringTransport() {
+  }
+
+  @Override
+  public boolean supportFileRegion() {
+    return false;
+  }
+
+  @Override
+  public boolean isAvailable() {
+    return IOUring.isAvailable();
+  }
+
+  @Override
+  public Throwable unavailabilityCause() {
+    return IOUring.unavailabilityCause();
+  }
+
+  @Override
+  public EventLoopGroup eventLoopGroup(int type, int nThreads, ThreadFactory threadFactory, int ioRatio) {
+    if (ioRatio != VertxImpl.DEFAULT_NETTY_IO_RATIO) {
+      // The io_uring event loop runs all its pending tasks after processing the completions
+      log.warn("The io_uring transport does not support the io ratio, ignoring io ratio " + ioRatio);
+    }
+    return new IOUringEventLoopGroup(nThreads, threadFactory);
+  }
+
+  @Override
+  public DatagramChannel datagramChannel() {
+    return new IOUringDatagramChannel();
+  }
+
+  @Override
+  public DatagramChannel datagramChannel(InternetProtocolFamily family) {
+    return new IOUringDatagramChannel(family);
+  }
+
+  @Override
+  public ChannelFactory<? extends Channel> channelFactory(boolean domainSocket) {
+    if (domainSocket) {
+      throw new IllegalArgumentException("Domain sockets are not supported by the io_uring transport");
+    }
+    return IOUringSocketChannel::new;
+  }
+
+  @Override
+  public ChannelFactory<? extends ServerChannel> serverChannelFactory(boolean domainSocket) {
+    if (domainSocket) {
+      throw new IllegalArgumentException("Domain sockets are not supported by the io_uring transport");
+    }
+    return IOUringServerSocketChannel::new;
+  }
+
+  @Override
+  public void configure(DatagramChannel channel, DatagramSocketOptions options) {
+    channel.config().setOption(UnixChannelOption.SO_REUSEPORT, options.isReusePort());
+    Transport.super.configure(channel, options);
+  }
+
+  @Override
+  public void configure(NetServerOptions options, boolean domainSocket, ServerBootstrap bootstrap) {
+    if (!domainSocket) {
+      bootstrap.option(UnixChannelOption.SO_REUSEPORT, options.isReusePort());
+      if (options.isTcpFastOpen()) {
+        bootstrap.option(ChannelOption.TCP_FASTOPEN, options.isTcpFastOpen() ? pendingFastOpenRequestsThreshold : 0);
+      }
+      bootstrap.childOption(IOUringChannelOption.TCP_QUICKACK, options.isTcpQuickAck());
+      bootstrap.childOption(IOUringChannelOption.TCP_CORK, options.isTcpCork());
+    }
+    Transport.super.configure(options, domainSocket, bootstrap);
+  }
+
+  @Override
+  public void configure(ClientOptionsBase options, boolean domainSocket, Bootstrap bootstrap) {
+    if (!domainSocket) {
+      if (options.isTcpFastOpen()) {
+        bootstrap.option(ChannelOption.TCP_FASTOPEN_CONNECT, options.isTcpFastOpen());
+      }
+      bootstrap.option(IOUringChannelOption.TCP_USER_TIMEOUT, options.getTcpUserTimeout());
+      bootstrap.option(IOUringChannelOption.TCP_QUICKACK, options.isTcpQuickAck());
+      bootstrap.option(IOUringChannelOption.TCP_CORK, options.isTcpCork());
+    }
+    Transport.super.configure(options, domainSocket, bootstrap);
+  }
+}
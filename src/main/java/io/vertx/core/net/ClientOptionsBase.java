@@ -45,12 +45,18 @@ public abstract class ClientOptionsBase extends TCPSSLOptions {
    */
   public static final String DEFAULT_METRICS_NAME = "";
 
+  /**
+   * The default value of whether inbound buffers are pooled = false
+   */
+  public static final boolean DEFAULT_POOLED_BUFFERS = false;
+
   private int connectTimeout;
   private boolean trustAll;
   private String metricsName;
   private ProxyOptions proxyOptions;
   private String localAddress;
   private List<String> nonProxyHosts;
+  private boolean pooledBuffers;
 
   /**
    * Default constructor
@@ -73,6 +79,7 @@ public abstract class ClientOptionsBase extends TCPSSLOptions {
     this.proxyOptions = other.proxyOptions != null ? new ProxyOptions(other.proxyOptions) : null;
     this.localAddress = other.localAddress;
     this.nonProxyHosts = other.nonProxyHosts != null ? new ArrayList<>(other.nonProxyHosts) : null;
+    this.pooledBuffers = other.pooledBuffers;
   }
 
   /**
@@ -103,6 +110,7 @@ public abstract class ClientOptionsBase extends TCPSSLOptions {
     this.metricsName = DEFAULT_METRICS_NAME;
     this.proxyOptions = null;
     this.localAddress = null;
+    this.pooledBuffers = DEFAULT_POOLED_BUFFERS;
   }
 
   /**
@@ -239,6 +247,29 @@ public abstract class ClientOptionsBase extends TCPSSLOptions {
     return this;
   }
 
+  /**
+   * @return {@code true} when the buffers received from connections are pooled, otherwise {@code false}
+   */
+  public boolean isPooledBuffers() {
+    return pooledBuffers;
+  }
+
+  /**
+   * Whether the buffers received from connections are handed to the application without being copied.
+   * <p>
+   * Such buffers are backed by pooled memory, the application must call {@link io.vertx.core.buffer.Buffer#release()}
+   * once it is done with a buffer instead of relying on the garbage collector. Buffers aggregated by the client,
+   * such as a response body, are still copied. Buffers still queued by a paused stream when its connection is closed
+   * are released and not delivered.
+   *
+   * @param pooledBuffers true to pool inbound buffers
+   * @return a reference to this, so the API can be used fluently
+   */
+  public ClientOptionsBase setPooledBuffers(boolean pooledBuffers) {
+    this.pooledBuffers = pooledBuffers;
+    return this;
+  }
+
   @Override
   public ClientOptionsBase setLogActivity(boolean logEnabled) {
     return (ClientOptionsBase) super.setLogActivity(logEnabled);
@@ -433,6 +433,11 @@ public class NetClientOptions extends ClientOptionsBase {
     return (NetClientOptions) super.setLocalAddress(localAddress);
   }
 
+  @Override
+  public NetClientOptions setPooledBuffers(boolean pooledBuffers) {
+    return (NetClientOptions) super.setPooledBuffers(pooledBuffers);
+  }
+
   @Override
   public NetClientOptions setEnabledSecureTransportProtocols(Set<String> enabledSecureTransportProtocols) {
     return (NetClientOptions) super.setEnabledSecureTransportProtocols(enabledSecureTransportProtocols);
@@ -446,6 +451,21 @@ public class NetClientOptions extends ClientOptionsBase {
     return (NetClientOptions) super.setSslHandshakeTimeoutUnit(sslHandshakeTimeoutUnit);
   }
 
+  @Override
+  public NetClientOptions setSessionCacheSize(long sessionCacheSize) {
+    return (NetClientOptions) super.setSessionCacheSize(sessionCacheSize);
+  }
+
+  @Override
+  public NetClientOptions setSessionTimeout(long sessionTimeout) {
+    return (NetClientOptions) super.setSessionTimeout(sessionTimeout);
+  }
+
+  @Override
+  public NetClientOptions setSessionTicketKeyRotationPeriod(long sessionTicketKeyRotationPeriod) {
+    return (NetClientOptions) super.setSessionTicketKeyRotationPeriod(sessionTicketKeyRotationPeriod);
+  }
+
   @Override
   public JsonObject toJson() {
     JsonObject json = super.toJson();
@@ -80,6 +80,11 @@ public class NetServerOptions extends TCPSSLOptions {
    */
   public static final boolean DEFAULT_REGISTER_WRITE_HANDLER = false;
 
+  /**
+   * Whether inbound buffers are pooled by default = false.
+   */
+  public static final boolean DEFAULT_POOLED_BUFFERS = false;
+
   private int port;
   private String host;
   private int acceptBacklog;
@@ -89,6 +94,7 @@ public class NetServerOptions extends TCPSSLOptions {
   private long proxyProtocolTimeout;
   private TimeUnit proxyProtocolTimeoutUnit;
   private boolean registerWriteHandler;
+  private boolean pooledBuffers;
   private TrafficShapingOptions trafficShapingOptions;
 
   /**
@@ -117,6 +123,7 @@ public class NetServerOptions extends TCPSSLOptions {
       other.getProxyProtocolTimeoutUnit() :
       DEFAULT_PROXY_PROTOCOL_TIMEOUT_TIME_UNIT;
     this.registerWriteHandler = other.registerWriteHandler;
+    this.pooledBuffers = other.pooledBuffers;
     this.trafficShapingOptions = other.getTrafficShapingOptions();
   }
 
@@ -357,6 +364,21 @@ public class NetServerOptions extends TCPSSLOptions {
     return (NetServerOptions) super.setSslHandshakeTimeoutUnit(sslHandshakeTimeoutUnit);
   }
 
+  @Override
+  public NetServerOptions setSessionCacheSize(long sessionCacheSize) {
+    return (NetServerOptions) super.setSessionCacheSize(sessionCacheSize);
+  }
+
+  @Override
+  public NetServerOptions setSessionTimeout(long sessionTimeout) {
+    return (NetServerOptions) super.setSessionTimeout(sessionTimeout);
+  }
+
+  @Override
+  public NetServerOptions setSessionTicketKeyRotationPeriod(long sessionTicketKeyRotationPeriod) {
+    return (NetServerOptions) super.setSessionTicketKeyRotationPeriod(sessionTicketKeyRotationPeriod);
+  }
+
   /**
    * @return the value of accept backlog
    */
@@ -541,6 +563,7 @@ public class NetServerOptions extends TCPSSLOptions {
     this.proxyProtocolTimeout = DEFAULT_PROXY_PROTOCOL_TIMEOUT;
     this.proxyProtocolTimeoutUnit = DEFAULT_PROXY_PROTOCOL_TIMEOUT_TIME_UNIT;
     this.registerWriteHandler = DEFAULT_REGISTER_WRITE_HANDLER;
+    this.pooledBuffers = DEFAULT_POOLED_BUFFERS;
   }
 
   /**
@@ -563,4 +586,29 @@ public class NetServerOptions extends TCPSSLOptions {
     this.registerWriteHandler = registerWriteHandler;
     return this;
   }
+
+  /**
+   * @return {@code true} when the buffers received from connections are pooled, otherwise {@code false}
+   */
+  public boolean isPooledBuffers() {
+    return pooledBuffers;
+  }
+
+  /**
+   * Whether the buffers received from connections are handed to the application without being copied.
+   * <p>
+   * Such buffers are backed by pooled memory, the application must call {@link io.vertx.core.buffer.Buffer#release()}
+   * once it is done with a buffer instead of relying on the garbage collector. Buffers aggregated by the server,
+   * such as a request body, are still copied. Buffers still queued by a paused stream when its connection is closed
+   * are released and not delivered.
+   * <p>
+   * Defaults to {@code false}.
+   *
+   * @param pooledBuffers true to pool inbound buffers
+   * @return a reference to this, so the API can be used fluently
+   */
+  public NetServerOptions setPooledBuffers(boolean pooledBuffers) {
+    this.pooledBuffers = pooledBuffers;
+    return this;
+  }
 }
@@ -58,6 +58,21 @@ public class SSLOptions {
    */
   public static final List<String> DEFAULT_ENABLED_SECURE_TRANSPORT_PROTOCOLS = Collections.unmodifiableList(Arrays.asList("TLSv1.2", "TLSv1.3"));
 
+  /**
+   * The default size of the TLS session cache = 0 (the SSL engine default)
+   */
+  public static final long DEFAULT_SESSION_CACHE_SIZE = 0L;
+
+  /**
+   * The default timeout of the cached TLS sessions = 0 (the SSL engine default)
+   */
+  public static final long DEFAULT_SESSION_TIMEOUT = 0L;
+
+  /**
+   * The default session ticket key rotation period = 0 (no rotation)
+   */
+  public static final long DEFAULT_SESSION_TICKET_KEY_ROTATION_PERIOD = 0L;
+
   private long sslHandshakeTimeout;
   private TimeUnit sslHandshakeTimeoutUnit;
   private KeyCertOptions keyCertOptions;
@@ -67,6 +82,9 @@ public class SSLOptions {
   private ArrayList<Buffer> crlValues;
   private boolean useAlpn;
   private Set<String> enabledSecureTransportProtocols;
+  private long sessionCacheSize;
+  private long sessionTimeout;
+  private long sessionTicketKeyRotationPeriod;
 
   /**
    * Create options from JSON
@@ -100,6 +118,9 @@ public class SSLOptions {
     this.crlValues = new ArrayList<>(other.getCrlValues());
     this.useAlpn = other.useAlpn;
     this.enabledSecureTransportProtocols = other.getEnabledSecureTransportProtocols() == null ? new LinkedHashSet<>() : new LinkedHashSet<>(other.getEnabledSecureTransportProtocols());
+    this.sessionCacheSize = other.sessionCacheSize;
+    this.sessionTimeout = other.sessionTimeout;
+    this.sessionTicketKeyRotationPeriod = other.sessionTicketKeyRotationPeriod;
   }
 
 
@@ -111,6 +132,9 @@ public class SSLOptions {
     crlValues = new ArrayList<>();
     useAlpn = DEFAULT_USE_ALPN;
     enabledSecureTransportProtocols = new LinkedHashSet<>(DEFAULT_ENABLED_SECURE_TRANSPORT_PROTOCOLS);
+    sessionCacheSize = DEFAULT_SESSION_CACHE_SIZE;
+    sessionTimeout = DEFAULT_SESSION_TIMEOUT;
+    sessionTicketKeyRotationPeriod = DEFAULT_SESSION_TICKET_KEY_ROTATION_PERIOD;
   }
 
   /**
@@ -326,6 +350,74 @@ public class SSLOptions {
     return this;
   }
 
+  /**
+   * @return the maximum number of cached TLS sessions, {@code 0} means the SSL engine default
+   */
+  public long getSessionCacheSize() {
+    return sessionCacheSize;
+  }
+
+  /**
+   * Set the maximum number of TLS sessions cached for resumption, {@code 0} means the SSL engine default.
+   *
+   * @param sessionCacheSize the session cache size
+   * @return a reference to this, so the API can be used fluently
+   */
+  public SSLOptions setSessionCacheSize(long sessionCacheSize) {
+    if (sessionCacheSize < 0) {
+      throw new IllegalArgumentException("sessionCacheSize must be >= 0");
+    }
+    this.sessionCacheSize = sessionCacheSize;
+    return this;
+  }
+
+  /**
+   * @return the timeout of the cached TLS sessions in seconds, {@code 0} means the SSL engine default
+   */
+  public long getSessionTimeout() {
+    return sessionTimeout;
+  }
+
+  /**
+   * Set the timeout in seconds after which a cached TLS session cannot be resumed anymore, {@code 0} means the
+   * SSL engine default.
+   *
+   * @param sessionTimeout the session timeout, in seconds
+   * @return a reference to this, so the API can be used fluently
+   */
+  public SSLOptions setSessionTimeout(long sessionTimeout) {
+    if (sessionTimeout < 0) {
+      throw new IllegalArgumentException("sessionTimeout must be >= 0");
+    }
+    this.sessionTimeout = sessionTimeout;
+    return this;
+  }
+
+  /**
+   * @return the period in seconds after which a server rotates its session ticket key, {@code 0} means no rotation
+   */
+  public long getSessionTicketKeyRotationPeriod() {
+    return sessionTicketKeyRotationPeriod;
+  }
+
+  /**
+   * Set the period in seconds after which a server replaces the key encrypting its session tickets by a new random
+   * key, {@code 0} disables the rotation.
+   * <p>
+   * The previous key is kept to resume the sessions of the tickets it encrypted. This only applies to the OpenSSL
+   * engine, the JDK engine manages its ticket keys.
+   *
+   * @param sessionTicketKeyRotationPeriod the rotation period, in seconds
+   * @return a reference to this, so the API can be used fluently
+   */
+  public SSLOptions setSessionTicketKeyRotationPeriod(long sessionTicketKeyRotationPeriod) {
+    if (sessionTicketKeyRotationPeriod < 0) {
+      throw new IllegalArgumentException("sessionTicketKeyRotationPeriod must be >= 0");
+    }
+    this.sessionTicketKeyRotationPeriod = sessionTicketKeyRotationPeriod;
+    return this;
+  }
+
   @Override
   public boolean equals(Object obj) {
     if (obj == this) {
@@ -340,7 +432,10 @@ public class SSLOptions {
          Objects.equals(crlPaths, that.crlPaths) &&
          Objects.equals(crlValues, that.crlValues) &&
          useAlpn == that.useAlpn &&
-         Objects.equals(enabledSecureTransportProtocols, that.enabledSecureTransportProtocols);
+         Objects.equals(enabledSecureTransportProtocols, that.enabledSecureTransportProtocols) &&
+         sessionCacheSize == that.sessionCacheSize &&
+         sessionTimeout == that.sessionTimeout &&
+         sessionTicketKeyRotationPeriod == that.sessionTicketKeyRotationPeriod;
     }
     return false;
   }
@@ -117,6 +117,21 @@ public abstract class TCPSSLOptions extends NetworkOptions {
    */
   public static final TimeUnit DEFAULT_SSL_HANDSHAKE_TIMEOUT_TIME_UNIT = SSLOptions.DEFAULT_SSL_HANDSHAKE_TIMEOUT_TIME_UNIT;
 
+  /**
+   * See {@link SSLOptions#DEFAULT_SESSION_CACHE_SIZE}
+   */
+  public static final long DEFAULT_SESSION_CACHE_SIZE = SSLOptions.DEFAULT_SESSION_CACHE_SIZE;
+
+  /**
+   * See {@link SSLOptions#DEFAULT_SESSION_TIMEOUT}
+   */
+  public static final long DEFAULT_SESSION_TIMEOUT = SSLOptions.DEFAULT_SESSION_TIMEOUT;
+
+  /**
+   * See {@link SSLOptions#DEFAULT_SESSION_TICKET_KEY_ROTATION_PERIOD}
+   */
+  public static final long DEFAULT_SESSION_TICKET_KEY_ROTATION_PERIOD = SSLOptions.DEFAULT_SESSION_TICKET_KEY_ROTATION_PERIOD;
+
   private boolean tcpNoDelay;
   private boolean tcpKeepAlive;
   private int soLinger;
@@ -837,6 +852,63 @@ public abstract class TCPSSLOptions extends NetworkOptions {
     return sslOptions.getSslHandshakeTimeoutUnit();
   }
 
+  /**
+   * @return the maximum number of cached TLS sessions, {@code 0} means the SSL engine default
+   */
+  public long getSessionCacheSize() {
+    return sslOptions.getSessionCacheSize();
+  }
+
+  /**
+   * Set the maximum number of TLS sessions cached for resumption, {@code 0} means the SSL engine default.
+   *
+   * @param sessionCacheSize the session cache size
+   * @return a reference to this, so the API can be used fluently
+   */
+  public TCPSSLOptions setSessionCacheSize(long sessionCacheSize) {
+    sslOptions.setSessionCacheSize(sessionCacheSize);
+    return this;
+  }
+
+  /**
+   * @return the timeout of the cached TLS sessions in seconds, {@code 0} means the SSL engine default
+   */
+  public long getSessionTimeout() {
+    return sslOptions.getSessionTimeout();
+  }
+
+  /**
+   * Set the timeout in seconds after which a cached TLS session cannot be resumed anymore, {@code 0} means the
+   * SSL engine default.
+   *
+   * @param sessionTimeout the session timeout, in seconds
+   * @return a reference to this, so the API can be used fluently
+   */
+  public TCPSSLOptions setSessionTimeout(long sessionTimeout) {
+    sslOptions.setSessionTimeout(sessionTimeout);
+    return this;
+  }
+
+  /**
+   * @return the period in seconds after which a server rotates its session ticket key, {@code 0} means no rotation
+   */
+  public long getSessionTicketKeyRotationPeriod() {
+    return sslOptions.getSessionTicketKeyRotationPeriod();
+  }
+
+  /**
+   * Set the period in seconds after which a server replaces the key encrypting its session tickets, {@code 0}
+   * disables the rotation. This only applies to the OpenSSL engine.
+   *
+   * @param sessionTicketKeyRotationPeriod the rotation period, in seconds
+   * @return a reference to this, so the API can be used fluently
+   * @see SSLOptions#setSessionTicketKeyRotationPeriod(long)
+   */
+  public TCPSSLOptions setSessionTicketKeyRotationPeriod(long sessionTicketKeyRotationPeriod) {
+    sslOptions.setSessionTicketKeyRotationPeriod(sessionTicketKeyRotationPeriod);
+    return this;
+  }
+
   @Override
   public TCPSSLOptions setLogActivity(boolean logEnabled) {
     return (TCPSSLOptions) super.setLogActivity(logEnabled);
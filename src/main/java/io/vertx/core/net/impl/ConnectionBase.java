@@ -23,6 +23,8 @@ import io.netty.util.ReferenceCountUtil;
 import io.netty.util.concurrent.EventExecutor;
 import io.netty.util.concurrent.FutureListener;
 import io.vertx.core.*;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.buffer.impl.BufferImpl;
 import io.vertx.core.impl.ContextInternal;
 import io.vertx.core.impl.future.PromiseInternal;
 import io.vertx.core.impl.VertxInternal;
@@ -31,6 +33,7 @@ import io.vertx.core.impl.logging.LoggerFactory;
 import io.vertx.core.net.SocketAddress;
 import io.vertx.core.spi.metrics.NetworkMetrics;
 import io.vertx.core.spi.metrics.TCPMetrics;
+import io.vertx.core.streams.impl.InboundBuffer;
 
 import javax.net.ssl.SSLPeerUnverifiedException;
 import javax.net.ssl.SSLSession;
@@ -91,6 +94,10 @@ public abstract class ConnectionBase {
   private boolean read;
   private boolean needsFlush;
   private boolean closed;
+  private boolean consolidateFlush;
+  private boolean pooledBuffers;
+  private boolean flushScheduled;
+  private final Runnable flushTask = this::scheduledFlush;
 
   protected ConnectionBase(ContextInternal context, ChannelHandlerContext chctx) {
     this.vertx = context.owner();
@@ -148,6 +155,63 @@ public abstract class ConnectionBase {
     }
   }
 
+  /**
+   * Set whether the flush of a write happening outside of a read is deferred to a task executed later by the
+   * event loop, so the writes performed until then are flushed together.
+   * <p>
+   * This method must be called on the event-loop thread.
+   */
+  protected final void consolidateFlush(boolean consolidate) {
+    consolidateFlush = consolidate;
+  }
+
+  /**
+   * Set whether the inbound buffers are handed to the application as is instead of being copied to unpooled heap
+   * buffers, the application is then responsible for releasing them.
+   * <p>
+   * This method must be called on the event-loop thread.
+   */
+  public final void pooledBuffers(boolean pooled) {
+    pooledBuffers = pooled;
+  }
+
+  public final boolean pooledBuffers() {
+    return pooledBuffers;
+  }
+
+  /**
+   * @return a buffer owning the inbound {@code buf} when pooled buffers are enabled, otherwise a buffer wrapping
+   *         a safe copy of it
+   */
+  protected final Buffer inboundBuffer(ByteBuf buf) {
+    return pooledBuffers ? BufferImpl.pooledBuffer(buf) : Buffer.buffer(VertxHandler.safeBuffer(buf));
+  }
+
+  /**
+   * Release the pooled buffers waiting in the {@code queue}, they will never be delivered since the connection or
+   * the stream is gone. This does nothing when pooled buffers are disabled, the queued buffers can still be read.
+   * <p>
+   * This method must be called on the context of the queue.
+   */
+  public final void releaseQueuedBuffers(InboundBuffer<Object> queue) {
+    if (pooledBuffers) {
+      Object item;
+      while ((item = queue.read()) != null) {
+        if (item instanceof Buffer) {
+          ((Buffer) item).release();
+        }
+      }
+    }
+  }
+
+  private void scheduledFlush() {
+    flushScheduled = false;
+    if (needsFlush) {
+      needsFlush = false;
+      chctx.flush();
+    }
+  }
+
   /**
    * This method is exclusively called by {@code VertxHandler} to read a message on the event-loop thread.
    */
@@ -173,6 +237,13 @@ public abstract class ConnectionBase {
     boolean writeAndFlush;
     if (flush == null) {
       writeAndFlush = !read;
+      if (writeAndFlush && consolidateFlush) {
+        writeAndFlush = false;
+        if (!flushScheduled) {
+          flushScheduled = true;
+          chctx.executor().execute(flushTask);
+        }
+      }
     } else {
       writeAndFlush = flush;
     }
@@ -102,6 +102,8 @@ public class NetSocketImpl extends ConnectionBase implements NetSocketInternal {
         Handler<Buffer> handler = handler();
         if (handler != null) {
           handler.handle((Buffer) msg);
+        } else {
+          ((Buffer) msg).release();
         }
       }
     });
@@ -379,7 +381,10 @@ public class NetSocketImpl extends ConnectionBase implements NetSocketInternal {
 
   @Override
   protected void handleClosed() {
-    context.emit(InboundBuffer.END_SENTINEL, pending::write);
+    context.emit(InboundBuffer.END_SENTINEL, sentinel -> {
+      releaseQueuedBuffers(pending);
+      pending.write(sentinel);
+    });
     super.handleClosed();
   }
 
@@ -406,9 +411,7 @@ public class NetSocketImpl extends ConnectionBase implements NetSocketInternal {
     @Override
     public void handle(Object msg) {
       if (msg instanceof ByteBuf) {
-        msg = VertxHandler.safeBuffer((ByteBuf) msg);
-        ByteBuf byteBuf = (ByteBuf) msg;
-        Buffer buffer = Buffer.buffer(byteBuf);
+        Buffer buffer = inboundBuffer((ByteBuf) msg);
         if (!pending.write(buffer)) {
           doPause();
         }
@@ -171,6 +171,9 @@ public class SSLHelper {
         trustManagerFactory,
         trustManagerMapper,
         crls,
+        sslOptions.getSessionCacheSize(),
+        sslOptions.getSessionTimeout(),
+        sslOptions.getSessionTicketKeyRotationPeriod(),
         supplier);
     }
   }
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.net.impl;
+
+import io.netty.handler.ssl.OpenSslSessionContext;
+import io.netty.handler.ssl.OpenSslSessionTicketKey;
+
+import java.security.SecureRandom;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The session ticket keys shared by the OpenSSL server contexts of a {@link SslContextProvider}.
+ * <p>
+ * The keys are rotated lazily: when the rotation period has elapsed, the next {@link #checkRotation()} call generates
+ * a new key used to encrypt tickets and keeps the previous key to decrypt the tickets it encrypted.
+ */
+class SessionTicketKeys {
+
+  private static final SecureRandom RANDOM = new SecureRandom();
+
+  private final long periodNanos;
+  private final List<OpenSslSessionContext> contexts = new CopyOnWriteArrayList<>();
+  private OpenSslSessionTicketKey[] keys;
+  private volatile long deadline;
+
+  SessionTicketKeys(long period, TimeUnit unit) {
+    this.periodNanos = unit.toNanos(period);
+    this.keys = new OpenSslSessionTicketKey[] { generateKey() };
+    this.deadline = System.nanoTime() + periodNanos;
+  }
+
+  /**
+   * Register a server session context, the context uses the current keys and the keys of future rotations.
+   */
+  synchronized void register(OpenSslSessionContext context) {
+    contexts.add(context);
+    context.setTicketKeys(keys);
+  }
+
+  /**
+   * Rotate the keys when the rotation period has elapsed.
+   */
+  void checkRotation() {
+    if (System.nanoTime() - deadline < 0L) {
+      return;
+    }
+    synchronized (this) {
+      long now = System.nanoTime();
+      if (now - deadline < 0L) {
+        return;
+      }
+      deadline = now + periodNanos;
+      keys = new OpenSslSessionTicketKey[] { generateKey(), keys[0] };
+      for (OpenSslSessionContext context : contexts) {
+        context.setTicketKeys(keys);
+      }
+    }
+  }
+
+  // Visible for testing
+  synchronized OpenSslSessionTicketKey[] keys() {
+    return keys.clone();
+  }
+
+  private static OpenSslSessionTicketKey generateKey() {
+    byte[] name = new byte[OpenSslSessionTicketKey.NAME_SIZE];
+    byte[] hmacKey = new byte[OpenSslSessionTicketKey.HMAC_KEY_SIZE];
+    byte[] aesKey = new byte[OpenSslSessionTicketKey.AES_KEY_SIZE];
+    RANDOM.nextBytes(name);
+    RANDOM.nextBytes(hmacKey);
+    RANDOM.nextBytes(aesKey);
+    return new OpenSslSessionTicketKey(name, hmacKey, aesKey);
+  }
+}
@@ -144,6 +144,7 @@ public class SslChannelProvider {
   }
 
   public ChannelHandler createServerHandler() {
+    sslContextProvider.checkSessionTicketKeys();
     if (sni) {
       return createSniHandler();
     } else {
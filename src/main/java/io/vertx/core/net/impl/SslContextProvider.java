@@ -10,6 +10,8 @@
  */
 package io.vertx.core.net.impl;
 
+import io.netty.handler.ssl.OpenSslSessionContext;
+import io.netty.handler.ssl.OpenSslSessionTicketKey;
 import io.netty.handler.ssl.SslContext;
 import io.vertx.core.VertxException;
 import io.vertx.core.http.ClientAuth;
@@ -20,6 +22,7 @@ import java.security.cert.CRL;
 import java.security.cert.CertificateException;
 import java.security.cert.X509Certificate;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -41,6 +44,9 @@ public class SslContextProvider {
   private final TrustManagerFactory trustManagerFactory;
   private final Function<String, KeyManagerFactory> keyManagerFactoryMapper;
   private final Function<String, TrustManager[]> trustManagerMapper;
+  private final long sessionCacheSize;
+  private final long sessionTimeout;
+  private final SessionTicketKeys sessionTicketKeys;
 
   public SslContextProvider(ClientAuth clientAuth,
                             String endpointIdentificationAlgorithm,
@@ -52,6 +58,9 @@ public class SslContextProvider {
                             TrustManagerFactory trustManagerFactory,
                             Function<String, TrustManager[]> trustManagerMapper,
                             List<CRL> crls,
+                            long sessionCacheSize,
+                            long sessionTimeout,
+                            long sessionTicketKeyRotationPeriod,
                             Supplier<SslContextFactory> provider) {
     this.provider = provider;
     this.clientAuth = clientAuth;
@@ -64,6 +73,9 @@ public class SslContextProvider {
     this.keyManagerFactoryMapper = keyManagerFactoryMapper;
     this.trustManagerMapper = trustManagerMapper;
     this.crls = crls;
+    this.sessionCacheSize = sessionCacheSize;
+    this.sessionTimeout = sessionTimeout;
+    this.sessionTicketKeys = sessionTicketKeyRotationPeriod > 0 ? new SessionTicketKeys(sessionTicketKeyRotationPeriod, TimeUnit.SECONDS) : null;
   }
 
   public VertxSslContext createContext(boolean server,
@@ -101,7 +113,9 @@ public class SslContextProvider {
         .useAlpn(useAlpn)
         .forClient(true)
         .enabledCipherSuites(enabledCipherSuites)
-        .applicationProtocols(applicationProtocols);
+        .applicationProtocols(applicationProtocols)
+        .sessionCacheSize(sessionCacheSize)
+        .sessionTimeout(sessionTimeout);
       if (keyManagerFactory != null) {
         factory.keyMananagerFactory(keyManagerFactory);
       }
@@ -130,7 +144,9 @@ public class SslContextProvider {
         .useAlpn(useAlpn)
         .forClient(false)
         .enabledCipherSuites(enabledCipherSuites)
-        .applicationProtocols(applicationProtocols);
+        .applicationProtocols(applicationProtocols)
+        .sessionCacheSize(sessionCacheSize)
+        .sessionTimeout(sessionTimeout);
       factory.clientAuth(SSLHelper.CLIENT_AUTH_MAPPING.get(clientAuth));
       if (serverName != null) {
         factory.serverName(serverName);
@@ -143,6 +159,9 @@ public class SslContextProvider {
         factory.trustManagerFactory(tmf);
       }
       SslContext context = factory.create();
+      if (sessionTicketKeys != null && context.sessionContext() instanceof OpenSslSessionContext) {
+        sessionTicketKeys.register((OpenSslSessionContext) context.sessionContext());
+      }
       return new VertxSslContext(context) {
         @Override
         protected void initEngine(SSLEngine engine) {
@@ -154,6 +173,21 @@ public class SslContextProvider {
     }
   }
 
+  /**
+   * Rotate the session ticket keys of the server contexts when the rotation period has elapsed, this is cheap
+   * and can be called for each accepted connection.
+   */
+  public void checkSessionTicketKeys() {
+    if (sessionTicketKeys != null) {
+      sessionTicketKeys.checkRotation();
+    }
+  }
+
+  // Visible for testing
+  public OpenSslSessionTicketKey[] sessionTicketKeys() {
+    return sessionTicketKeys != null ? sessionTicketKeys.keys() : null;
+  }
+
   public TrustManager[] defaultTrustManagers() {
     return trustManagerFactory != null ? trustManagerFactory.getTrustManagers() : null;
   }
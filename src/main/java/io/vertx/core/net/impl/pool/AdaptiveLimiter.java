@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.net.impl.pool;
+
+/**
+ * Computes the size of a pool from the observed latencies and the wait queue depth, in the manner of an AIMD
+ * limiter with a Vegas style congestion signal.
+ *
+ * <p> The smallest latency observed is the latency of the unloaded peer. A latency exceeding this latency by a
+ * {@link #TOLERANCE} factor signals the peer is queueing requests, the limit is then decreased multiplicatively.
+ * Otherwise, when requests are waiting for a connection the limit is increased additively. The smallest latency is
+ * reset every {@link #PROBE_INTERVAL} samples to the smallest latency of these samples to follow the changes of the
+ * peer.
+ *
+ * <p> Connect and response latencies are tracked separately.
+ */
+public class AdaptiveLimiter {
+
+  private static final double TOLERANCE = 2.0D;
+  private static final double BACKOFF = 0.9D;
+  private static final int PROBE_INTERVAL = 1000;
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final Latency connectLatency = new Latency();
+  private final Latency responseLatency = new Latency();
+  private int limit;
+
+  public AdaptiveLimiter(int minLimit, int maxLimit) {
+    if (minLimit < 1 || minLimit > maxLimit) {
+      throw new IllegalArgumentException("Invalid limits " + minLimit + " / " + maxLimit);
+    }
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.limit = minLimit;
+  }
+
+  /**
+   * @return the current limit
+   */
+  public synchronized int limit() {
+    return limit;
+  }
+
+  /**
+   * Report the latency of a connection establishment.
+   *
+   * @param nanos the latency in nanoseconds
+   * @param waiters the number of requests waiting for a connection
+   * @return the new limit or {@code -1} when the limit did not change
+   */
+  public synchronized int onConnect(long nanos, int waiters) {
+    return update(connectLatency, nanos, waiters);
+  }
+
+  /**
+   * Report the latency of a response.
+   *
+   * @param nanos the latency in nanoseconds
+   * @param waiters the number of requests waiting for a connection
+   * @return the new limit or {@code -1} when the limit did not change
+   */
+  public synchronized int onResponse(long nanos, int waiters) {
+    return update(responseLatency, nanos, waiters);
+  }
+
+  private int update(Latency latency, long nanos, int waiters) {
+    int next;
+    if (latency.sample(nanos)) {
+      next = Math.max(minLimit, Math.min(limit - 1, (int) (limit * BACKOFF)));
+    } else if (waiters > 0) {
+      next = Math.min(maxLimit, limit + 1);
+    } else {
+      next = limit;
+    }
+    if (next == limit) {
+      return -1;
+    }
+    limit = next;
+    return next;
+  }
+
+  private static class Latency {
+
+    private long min = Long.MAX_VALUE;
+    private long intervalMin = Long.MAX_VALUE; // Smallest latency of the current interval
+    private int samples;
+
+    /**
+     * @return whether the sample signals congestion
+     */
+    boolean sample(long nanos) {
+      if (nanos < intervalMin) {
+        intervalMin = nanos;
+      }
+      if (++samples == PROBE_INTERVAL) {
+        samples = 0;
+        min = intervalMin;
+        intervalMin = Long.MAX_VALUE;
+      }
+      if (nanos < min) {
+        min = nanos;
+        return false;
+      }
+      return nanos > min * TOLERANCE;
+    }
+  }
+}
@@ -40,15 +40,37 @@ public class ConnectionManager<K, C> {
     getConnection(ctx, key, provider, 0, handler);
   }
 
-  public void getConnection(ContextInternal ctx,
-                            K key,
-                            EndpointProvider<C> provider,
-                            long timeout,
-                            Handler<AsyncResult<C>> handler) {
+  /**
+   * Get a connection from the endpoint of the {@code key}.
+   *
+   * @return the endpoint the connection is requested from
+   */
+  public Endpoint<C> getConnection(ContextInternal ctx,
+                                   K key,
+                                   EndpointProvider<C> provider,
+                                   long timeout,
+                                   Handler<AsyncResult<C>> handler) {
     Runnable dispose = () -> endpointMap.remove(key);
     while (true) {
       Endpoint<C> endpoint = endpointMap.computeIfAbsent(key, k -> provider.create(ctx, dispose));
       if (endpoint.getConnection(ctx, timeout, handler)) {
+        return endpoint;
+      }
+    }
+  }
+
+  /**
+   * Establish {@code connections} connections to the endpoint of the {@code key} ahead of requests.
+   */
+  public void warm(ContextInternal ctx,
+                   K key,
+                   EndpointProvider<C> provider,
+                   int connections,
+                   Handler<AsyncResult<Void>> handler) {
+    Runnable dispose = () -> endpointMap.remove(key);
+    while (true) {
+      Endpoint<C> endpoint = endpointMap.computeIfAbsent(key, k -> provider.create(ctx, dispose));
+      if (endpoint.warm(ctx, connections, handler)) {
         break;
       }
     }
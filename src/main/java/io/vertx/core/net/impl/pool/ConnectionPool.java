@@ -48,6 +48,15 @@ public interface ConnectionPool<C> {
     return new SimpleConnectionPool<>(connector, maxSizes, maxWaiters);
   }
 
+  /**
+   * Create a pool with a shard per event loop, the {@code maxSizes} and {@code maxWaiters} apply to each shard.
+   *
+   * @param stealing whether an acquisition on a shard with waiters can be performed on another shard
+   */
+  static <C> ConnectionPool<C> sharded(PoolConnector<C> connector, int[] maxSizes, int maxWaiters, boolean stealing) {
+    return new ShardedConnectionPool<>(connector, maxSizes, maxWaiters, stealing);
+  }
+
   /**
    * Set a {@code selector} function that decides the best connection to use.
    *
@@ -62,6 +71,18 @@ public interface ConnectionPool<C> {
    */
   ConnectionPool<C> connectionSelector(BiFunction<PoolWaiter<C>, List<PoolConnection<C>>, PoolConnection<C>> selector);
 
+  /**
+   * Set a {@code selector} function that decides the connection to use when the {@link #connectionSelector(BiFunction) selector}
+   * did not find a suitable connection and the pool cannot create a new connection.
+   *
+   * <p> The selector must return a connection with a positive {@link PoolConnection#available()} or {@code null}, then
+   * the waiter is queued. The default selector returns the first available connection.
+   *
+   * @param selector the selector function
+   * @return a reference to this, so the API can be used fluently
+   */
+  ConnectionPool<C> fallbackConnectionSelector(BiFunction<PoolWaiter<C>, List<PoolConnection<C>>, PoolConnection<C>> selector);
+
   /**
    * Set a function that provides an event-loop context out of the specified context. The pool will use the provider
    * when an event-loop context is required for creating a new connection.
@@ -73,6 +94,18 @@ public interface ConnectionPool<C> {
    */
   ConnectionPool<C> contextProvider(Function<ContextInternal, ContextInternal> contextProvider);
 
+  /**
+   * Limit the number of connections of the pool to {@code size} connections of the given {@code kind}, the limit
+   * cannot exceed the max size provided when constructing the pool.
+   *
+   * <p> Connections of this kind are not created beyond the limit, existing connections remain in the pool until they
+   * are removed or evicted. The limit does not apply to the other kinds of connection.
+   *
+   * @param kind the connection kind which is an index in the max size array provided when constructing the pool
+   * @param size the maximum number of connections
+   */
+  void maxSize(int kind, int size);
+
   /**
    * Acquire a connection from the pool.
    *
@@ -11,6 +11,7 @@
 package io.vertx.core.net.impl.pool;
 
 import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.impl.ContextInternal;
 
@@ -38,7 +39,29 @@ public abstract class Endpoint<C> {
       }
       pendingRequestCount++;
     }
-    requestConnection(ctx, timeout, ar -> {
+    requestConnection(ctx, timeout, pendingRequestHandler(handler));
+    return true;
+  }
+
+  /**
+   * Establish connections ahead of requests, the endpoint counts as a pending request until the {@code handler}
+   * is called.
+   *
+   * @return {@code false} when the endpoint is disposed
+   */
+  public boolean warm(ContextInternal ctx, int connections, Handler<AsyncResult<Void>> handler) {
+    synchronized (this) {
+      if (disposed) {
+        return false;
+      }
+      pendingRequestCount++;
+    }
+    warmConnections(ctx, connections, pendingRequestHandler(handler));
+    return true;
+  }
+
+  private <T> Handler<AsyncResult<T>> pendingRequestHandler(Handler<AsyncResult<T>> handler) {
+    return ar -> {
       boolean dispose;
       synchronized (Endpoint.this) {
         pendingRequestCount--;
@@ -50,12 +73,18 @@ public abstract class Endpoint<C> {
         disposeInternal();
       }
       handler.handle(ar);
-    });
-    return true;
+    };
   }
 
   public abstract void requestConnection(ContextInternal ctx, long timeout, Handler<AsyncResult<C>> handler);
 
+  /**
+   * Establish up to {@code connections} connections, the default implementation does nothing.
+   */
+  protected void warmConnections(ContextInternal ctx, int connections, Handler<AsyncResult<Void>> handler) {
+    handler.handle(Future.succeededFuture());
+  }
+
   protected boolean incRefCount() {
     synchronized (this) {
       refCount++;
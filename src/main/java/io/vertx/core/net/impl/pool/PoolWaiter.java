@@ -46,6 +46,7 @@ public class PoolWaiter<C> {
 
   final PoolWaiter.Listener<C> listener;
   final ContextInternal context;
+  final int kind;
   final int capacity;
   final Handler<AsyncResult<Lease<C>>> handler;
   PoolWaiter<C> prev;
@@ -53,9 +54,10 @@ public class PoolWaiter<C> {
   boolean disposed;
   boolean queued;
 
-  PoolWaiter(PoolWaiter.Listener<C> listener, ContextInternal context, final int capacity, Handler<AsyncResult<Lease<C>>> handler) {
+  PoolWaiter(PoolWaiter.Listener<C> listener, ContextInternal context, final int kind, final int capacity, Handler<AsyncResult<Lease<C>>> handler) {
     this.listener = listener;
     this.context = context;
+    this.kind = kind;
     this.capacity = capacity;
     this.handler = handler;
   }
@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.net.impl.pool;
+
+import io.netty.channel.EventLoop;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.impl.ContextInternal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A pool made of one {@link SimpleConnectionPool} shard per event loop.
+ *
+ * <p> A connection is acquired from the shard of the event loop of the acquiring context, so acquisitions performed
+ * by different event loops never contend on the same pool executor and connections are created on the event loop
+ * of the caller. The max sizes and the max waiters apply to each shard.
+ *
+ * <p> When stealing is enabled, an acquisition on a shard that already has waiters is performed on another shard
+ * without waiters that can serve it, i.e. that has an available connection or can create one. The shard state is
+ * read without synchronization, so the choice is approximate.
+ *
+ * <p> Shards are created and the pool is closed under the pool lock, so a shard cannot be created once the pool is
+ * closed and escape the close.
+ */
+public class ShardedConnectionPool<C> implements ConnectionPool<C> {
+
+  private final PoolConnector<C> connector;
+  private final int[] maxSizes;
+  private final int maxWaiters;
+  private final boolean stealing;
+  private final ConcurrentMap<EventLoop, SimpleConnectionPool<C>> shards = new ConcurrentHashMap<>();
+  private volatile BiFunction<PoolWaiter<C>, List<PoolConnection<C>>, PoolConnection<C>> selector;
+  private volatile BiFunction<PoolWaiter<C>, List<PoolConnection<C>>, PoolConnection<C>> fallbackSelector;
+  private volatile Function<ContextInternal, ContextInternal> contextProvider;
+  private volatile int[] limits; // the size applied to the shards per kind, 0 when the kind is not limited
+  private volatile boolean closed;
+
+  ShardedConnectionPool(PoolConnector<C> connector, int[] maxSizes, int maxWaiters, boolean stealing) {
+    this.connector = connector;
+    this.maxSizes = maxSizes.clone();
+    this.maxWaiters = maxWaiters;
+    this.stealing = stealing;
+  }
+
+  /**
+   * @return the shard of the event loop, or {@code null} when the pool is closed
+   */
+  private SimpleConnectionPool<C> shard(EventLoop eventLoop) {
+    SimpleConnectionPool<C> shard = shards.get(eventLoop);
+    if (shard != null) {
+      return shard;
+    }
+    synchronized (this) {
+      if (closed) {
+        return null;
+      }
+      return shards.computeIfAbsent(eventLoop, el -> createShard());
+    }
+  }
+
+  private SimpleConnectionPool<C> createShard() {
+    SimpleConnectionPool<C> shard = new SimpleConnectionPool<>(connector, maxSizes, maxWaiters);
+    if (selector != null) {
+      shard.connectionSelector(selector);
+    }
+    if (fallbackSelector != null) {
+      shard.fallbackConnectionSelector(fallbackSelector);
+    }
+    if (contextProvider != null) {
+      shard.contextProvider(contextProvider);
+    }
+    int[] l = limits;
+    if (l != null) {
+      for (int kind = 0;kind < l.length;kind++) {
+        if (l[kind] > 0) {
+          shard.maxSize(kind, l[kind]);
+        }
+      }
+    }
+    return shard;
+  }
+
+  @Override
+  public ConnectionPool<C> connectionSelector(BiFunction<PoolWaiter<C>, List<PoolConnection<C>>, PoolConnection<C>> selector) {
+    this.selector = selector;
+    shards.values().forEach(shard -> shard.connectionSelector(selector));
+    return this;
+  }
+
+  @Override
+  public ConnectionPool<C> fallbackConnectionSelector(BiFunction<PoolWaiter<C>, List<PoolConnection<C>>, PoolConnection<C>> selector) {
+    this.fallbackSelector = selector;
+    shards.values().forEach(shard -> shard.fallbackConnectionSelector(selector));
+    return this;
+  }
+
+  @Override
+  public ConnectionPool<C> contextProvider(Function<ContextInternal, ContextInternal> contextProvider) {
+    this.contextProvider = contextProvider;
+    shards.values().forEach(shard -> shard.contextProvider(contextProvider));
+    return this;
+  }
+
+  @Override
+  public synchronized void maxSize(int kind, int size) {
+    int[] l = limits != null ? limits.clone() : new int[maxSizes.length];
+    l[kind] = size;
+    limits = l;
+    shards.values().forEach(shard -> shard.maxSize(kind, size));
+  }
+
+  @Override
+  public void acquire(ContextInternal context, int kind, Handler<AsyncResult<Lease<C>>> handler) {
+    acquire(context, PoolWaiter.NULL_LISTENER, kind, handler);
+  }
+
+  @Override
+  public void acquire(ContextInternal context, PoolWaiter.Listener<C> listener, int kind, Handler<AsyncResult<Lease<C>>> handler) {
+    if (closed) {
+      context.emit(SimpleConnectionPool.POOL_CLOSED, handler);
+      return;
+    }
+    SimpleConnectionPool<C> shard = shard(context.nettyEventLoop());
+    if (shard == null) {
+      context.emit(SimpleConnectionPool.POOL_CLOSED, handler);
+      return;
+    }
+    if (stealing && shard.waiters() > 0) {
+      for (SimpleConnectionPool<C> other : shards.values()) {
+        if (other.waiters() == 0 && other.canServe(kind)) {
+          shard = other;
+          break;
+        }
+      }
+    }
+    shard.acquire(context, listener, kind, handler);
+  }
+
+  @Override
+  public void cancel(PoolWaiter<C> waiter, Handler<AsyncResult<Boolean>> handler) {
+    for (SimpleConnectionPool<C> shard : shards.values()) {
+      if (shard.isOwner(waiter)) {
+        shard.cancel(waiter, handler);
+        return;
+      }
+    }
+    handler.handle(Future.succeededFuture(false));
+  }
+
+  @Override
+  public void evict(Predicate<C> predicate, Handler<AsyncResult<List<C>>> handler) {
+    List<Future<List<C>>> futures = new ArrayList<>();
+    for (SimpleConnectionPool<C> shard : shards.values()) {
+      Promise<List<C>> promise = Promise.promise();
+      shard.evict(predicate, promise);
+      futures.add(promise.future());
+    }
+    Future.all(futures).onComplete(ar -> {
+      if (ar.succeeded()) {
+        List<C> evicted = new ArrayList<>();
+        futures.forEach(fut -> evicted.addAll(fut.result()));
+        handler.handle(Future.succeededFuture(evicted));
+      } else {
+        handler.handle(Future.failedFuture(ar.cause()));
+      }
+    });
+  }
+
+  @Override
+  public void close(Handler<AsyncResult<List<Future<C>>>> handler) {
+    List<SimpleConnectionPool<C>> list;
+    synchronized (this) {
+      closed = true;
+      list = new ArrayList<>(shards.values());
+    }
+    List<Future<List<Future<C>>>> futures = new ArrayList<>();
+    for (SimpleConnectionPool<C> shard : list) {
+      Promise<List<Future<C>>> promise = Promise.promise();
+      shard.close(promise);
+      futures.add(promise.future());
+    }
+    Future.all(futures).onComplete(ar -> {
+      if (ar.succeeded()) {
+        List<Future<C>> connections = new ArrayList<>();
+        futures.forEach(fut -> connections.addAll(fut.result()));
+        handler.handle(Future.succeededFuture(connections));
+      } else {
+        handler.handle(Future.failedFuture(ar.cause()));
+      }
+    });
+  }
+
+  @Override
+  public int size() {
+    return shards.values().stream().mapToInt(SimpleConnectionPool::size).sum();
+  }
+
+  @Override
+  public int waiters() {
+    return shards.values().stream().mapToInt(SimpleConnectionPool::waiters).sum();
+  }
+
+  @Override
+  public int capacity() {
+    return shards.values().stream().mapToInt(SimpleConnectionPool::capacity).sum();
+  }
+
+  @Override
+  public int requests() {
+    return shards.values().stream().mapToInt(SimpleConnectionPool::requests).sum();
+  }
+}
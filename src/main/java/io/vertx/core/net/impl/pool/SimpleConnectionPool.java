@@ -46,6 +46,11 @@ import java.util.function.Predicate;
  * {@link #maxCapacity} to create a connection. Such capacity is used instead of counting connection because the pool
  * can mix connections with different concurrency (HTTP/1 and HTTP/2) and this flexibility is necessary.
  *
+ * <p> The number of connections of each kind can be further constrained by {@link #limits} lesser than or equal to
+ * the max sizes with {@link ConnectionPool#maxSize(int, int)}, connections of a kind are not created beyond its limit
+ * while connections of other kinds can still be created. The kind of a connection is the kind requested by its initiator
+ * until the connection is established, then the kind reported by the {@link ConnectResult#weight()}.
+ *
  * <h3>Pool connector</h3>
  *
  * The pool interacts with connections with the {@link PoolConnector}. The {@link PoolConnector.Listener}
@@ -78,7 +83,7 @@ import java.util.function.Predicate;
  */
 public class SimpleConnectionPool<C> implements ConnectionPool<C> {
 
-  private static final Future POOL_CLOSED = Future.failedFuture("Pool closed");
+  static final Future POOL_CLOSED = Future.failedFuture("Pool closed");
 
   /**
    * Select the first available available connection with the same event loop.
@@ -122,13 +127,15 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
     private int usage;    // The number of times this connection is acquired
     private long concurrency; // The total number of times the connection can be acquired
     private int capacity;      // The connection capacity
+    private int kind;          // The connection kind
 
-    public Slot(SimpleConnectionPool<C> pool, ContextInternal context, int index, int capacity) {
+    public Slot(SimpleConnectionPool<C> pool, ContextInternal context, int index, int kind, int capacity) {
       this.pool = pool;
       this.context = context;
       this.connection = null;
       this.usage = 0;
       this.index = index;
+      this.kind = kind;
       this.capacity = capacity;
       this.result = context.promise();
     }
@@ -172,6 +179,8 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
   private final PoolConnector<C> connector;
   private final int maxWaiters;
   private final int maxCapacity;
+  private final int[] maxSizes;
+  private final int[] limits;       // The size limit per kind, at most the max size
   private final int[] capacityFactors;
   private final Executor<SimpleConnectionPool<C>> sync;
   private final ListImpl list = new ListImpl();
@@ -188,6 +197,7 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
   private final Slot<C>[] slots;    // The pool connections, this array is not sparse
   private int size;                 // The number of non null slots
   private int capacity;             // The pool capacity
+  private final int[] sizes;        // The number of connections per kind
 
   // The waiters
   private final Waiters<C> waiters;
@@ -221,6 +231,9 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
     this.maxWaiters = maxWaiters;
     this.capacity = 0;
     this.maxCapacity = maxCapacity;
+    this.maxSizes = maxSizes.clone();
+    this.limits = maxSizes.clone();
+    this.sizes = new int[maxSizes.length];
     this.sync = new CombinerExecutor<>(this);
     this.selector = (BiFunction) SAME_EVENT_LOOP_SELECTOR;
     this.fallbackSelector = (BiFunction) FIRST_AVAILABLE_SELECTOR;
@@ -234,6 +247,12 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
     return this;
   }
 
+  @Override
+  public ConnectionPool<C> fallbackConnectionSelector(BiFunction<PoolWaiter<C>, List<PoolConnection<C>>, PoolConnection<C>> selector) {
+    this.fallbackSelector = selector;
+    return this;
+  }
+
   @Override
   public ConnectionPool<C> contextProvider(Function<ContextInternal, ContextInternal> contextProvider) {
     this.contextProvider = contextProvider;
@@ -248,6 +267,50 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
       return size;
   }
 
+  /**
+   * @return whether a connection of the given {@code kind} can be created
+   */
+  private boolean canConnect(int kind) {
+    return capacity < maxCapacity && sizes[kind] < limits[kind];
+  }
+
+  /**
+   * Check whether an acquisition of the given {@code kind} would be served without waiting, i.e. a connection has
+   * an available lease or a connection can be created. The state is read without synchronization, so the result is
+   * approximate.
+   */
+  boolean canServe(int kind) {
+    if (canConnect(kind)) {
+      return true;
+    }
+    Slot<C>[] s = slots;
+    for (int i = 0;i < size && i < s.length;i++) {
+      Slot<C> slot = s[i];
+      if (slot != null && slot.connection != null && slot.available() > 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Remove the first waiter for which a connection can be created from the wait queue.
+   *
+   * @return the waiter or {@code null} when no connection can be created for the waiters
+   */
+  private PoolWaiter<C> pollConnectable() {
+    if (capacity >= maxCapacity) {
+      return null;
+    }
+    for (PoolWaiter<C> waiter : waiters) {
+      if (sizes[waiter.kind] < limits[waiter.kind]) {
+        waiters.remove(waiter);
+        return waiter;
+      }
+    }
+    return null;
+  }
+
   public void connect(Slot<C> slot, PoolWaiter<C> waiter) {
     slot.initiator = waiter;
     connector.connect(slot.context, slot, ar -> {
@@ -275,12 +338,16 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
     @Override
     public Task execute(SimpleConnectionPool<C> pool) {
 
-      int capacity = pool.capacityFactors[(int)result.weight()];
+      int kind = (int)result.weight();
+      int capacity = pool.capacityFactors[kind];
 
       int initialCapacity = slot.capacity;
       slot.connection = result.connection();
       slot.concurrency = result.concurrency();
       slot.capacity = capacity;
+      pool.sizes[slot.kind]--;
+      pool.sizes[kind]++;
+      slot.kind = kind;
       slot.usage = 0;
       pool.requests--;
       pool.capacity += (capacity - initialCapacity);
@@ -411,12 +478,14 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
       removed.concurrency = 0;
       removed.connection = null;
       removed.capacity = 0;
-      PoolWaiter<C> waiter = pool.waiters.poll();
+      pool.capacity -= w;
+      pool.sizes[removed.kind]--;
+      PoolWaiter<C> waiter = pool.pollConnectable();
       if (waiter != null) {
         ContextInternal connectionContext = pool.contextProvider.apply(waiter.context);
-        Slot<C> slot = new Slot<>(pool, connectionContext, removed.index, waiter.capacity);
-        pool.capacity -= w;
+        Slot<C> slot = new Slot<>(pool, connectionContext, removed.index, waiter.kind, waiter.capacity);
         pool.capacity += waiter.capacity;
+        pool.sizes[waiter.kind]++;
         pool.slots[removed.index] = slot;
         pool.requests++;
         return new Task() {
@@ -434,12 +503,10 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
         pool.slots[removed.index] = tmp;
         pool.slots[pool.size - 1] = null;
         pool.size--;
-        pool.capacity -= w;
         return null;
       } else {
         pool.slots[0] = null;
         pool.size--;
-        pool.capacity -= w;
         return null;
       }
     }
@@ -551,8 +618,11 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
 
   private static class Acquire<C> extends PoolWaiter<C> implements Executor.Action<SimpleConnectionPool<C>> {
 
-    public Acquire(ContextInternal context, PoolWaiter.Listener<C> listener, int capacity, Handler<AsyncResult<Lease<C>>> handler) {
-      super(listener, context, capacity, handler);
+    private final SimpleConnectionPool<C> owner;
+
+    public Acquire(SimpleConnectionPool<C> owner, ContextInternal context, PoolWaiter.Listener<C> listener, int kind, int capacity, Handler<AsyncResult<Lease<C>>> handler) {
+      super(listener, context, kind, capacity, handler);
+      this.owner = owner;
     }
 
     @Override
@@ -580,10 +650,11 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
       }
 
       // 2. Try create connection
-      if (pool.capacity < pool.maxCapacity) {
+      if (pool.canConnect(kind)) {
         pool.capacity += capacity;
+        pool.sizes[kind]++;
         ContextInternal connectionContext = pool.contextProvider.apply(context);
-        Slot<C> slot2 = new Slot<>(pool, connectionContext, pool.size, capacity);
+        Slot<C> slot2 = new Slot<>(pool, connectionContext, pool.size, kind, capacity);
         pool.slots[pool.size++] = slot2;
         pool.requests++;
         return new Task() {
@@ -636,7 +707,70 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
 
   @Override
   public void acquire(ContextInternal context, PoolWaiter.Listener<C> listener, int kind, Handler<AsyncResult<Lease<C>>> handler) {
-    execute(new Acquire<>(context, listener, capacityFactors[kind], handler));
+    execute(new Acquire<>(this, context, listener, kind, capacityFactors[kind], handler));
+  }
+
+  @Override
+  public void maxSize(int kind, int size) {
+    if (size < 1) {
+      throw new IllegalArgumentException("size must be > 0");
+    }
+    execute(new SetLimit<>(kind, Math.min(size, maxSizes[kind])));
+  }
+
+  private static class SetLimit<C> implements Executor.Action<SimpleConnectionPool<C>> {
+
+    private final int kind;
+    private final int limit;
+
+    SetLimit(int kind, int limit) {
+      this.kind = kind;
+      this.limit = limit;
+    }
+
+    @Override
+    public Task execute(SimpleConnectionPool<C> pool) {
+      if (pool.closed) {
+        return null;
+      }
+      pool.limits[kind] = limit;
+      // Create connections for the waiters allowed by a greater limit
+      Task head = null;
+      Task tail = null;
+      PoolWaiter<C> next;
+      while ((next = pool.pollConnectable()) != null) {
+        PoolWaiter<C> waiter = next;
+        pool.capacity += waiter.capacity;
+        pool.sizes[waiter.kind]++;
+        ContextInternal connectionContext = pool.contextProvider.apply(waiter.context);
+        Slot<C> slot = new Slot<>(pool, connectionContext, pool.size, waiter.kind, waiter.capacity);
+        pool.slots[pool.size++] = slot;
+        pool.requests++;
+        Task task = new Task() {
+          @Override
+          public void run() {
+            if (waiter.listener != null) {
+              waiter.listener.onConnect(waiter);
+            }
+            pool.connect(slot, waiter);
+          }
+        };
+        if (head == null) {
+          head = task;
+        } else {
+          tail.next(task);
+        }
+        tail = task;
+      }
+      return head;
+    }
+  }
+
+  /**
+   * @return whether the {@code waiter} was created by an acquisition on this pool
+   */
+  boolean isOwner(PoolWaiter<C> waiter) {
+    return waiter instanceof Acquire && ((Acquire<C>) waiter).owner == this;
   }
 
   public void acquire(ContextInternal context, int kind, Handler<AsyncResult<Lease<C>>> handler) {
@@ -819,7 +953,7 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
     private int size;
 
     public Waiters() {
-      head = new PoolWaiter<>(null, null, 0, null);
+      head = new PoolWaiter<>(null, null, 0, 0, null);
       head.next = head.prev = head;
     }
 
@@ -205,6 +205,18 @@ public interface RecordParser extends Handler<Buffer>, ReadStream<Buffer> {
   @Fluent
   RecordParser maxRecordSize(int size);
 
+  /**
+   * Set whether the parser emits read-only views over the buffers it receives instead of copying each record.
+   * <p>
+   * In this mode the records share their memory with the received buffers, which must not be modified or released
+   * while the records are in use. A record spread over several received buffers is a composite view of them.
+   *
+   * @param slice {@code true} to emit slices, {@code false} to emit copies
+   * @return  a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  RecordParser sliceMode(boolean slice);
+
   /**
    * This method is called to provide the parser with data.
    *
@@ -11,6 +11,8 @@
 
 package io.vertx.core.parsetools.impl;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
 import io.vertx.core.Handler;
 import io.vertx.core.buffer.Buffer;
@@ -18,6 +20,7 @@ import io.vertx.core.impl.Arguments;
 import io.vertx.core.parsetools.RecordParser;
 import io.vertx.core.streams.ReadStream;
 
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -30,14 +33,15 @@ public class RecordParserImpl implements RecordParser {
   private static final Buffer EMPTY_BUFFER = Buffer.buffer(Unpooled.EMPTY_BUFFER);
 
   private Buffer buff = EMPTY_BUFFER;
+  private CompositeByteBuf composite; // Backs buff in slice mode
   private int pos;            // Current position in buffer
   private int start;          // Position of beginning of current record
-  private int delimPos;       // Position of current match in delimiter array
 
   private boolean delimited;
-  private byte[] delim;
+  private Buffer delim;
   private int recordSize;
   private int maxRecordSize;
+  private boolean sliceMode;
   private long demand = Long.MAX_VALUE;
   private Handler<Buffer> eventHandler;
   private Handler<Void> endHandler;
@@ -141,8 +145,7 @@ public class RecordParserImpl implements RecordParser {
   public void delimitedMode(Buffer delim) {
     Objects.requireNonNull(delim, "delim");
     delimited = true;
-    this.delim = delim.getBytes();
-    delimPos = 0;
+    this.delim = Buffer.buffer(delim.getBytes());
   }
 
   /**
@@ -173,6 +176,24 @@ public class RecordParserImpl implements RecordParser {
     return this;
   }
 
+  @Override
+  public RecordParser sliceMode(boolean slice) {
+    if (slice != sliceMode) {
+      sliceMode = slice;
+      if (buff != EMPTY_BUFFER) {
+        if (slice) {
+          composite = newComposite();
+          composite.addComponent(true, buff.getByteBuf());
+          buff = Buffer.buffer(composite);
+        } else {
+          buff = buff.getBuffer(0, buff.length());
+          composite = null;
+        }
+      }
+    }
+    return this;
+  }
+
   private void handleParsing() {
     if (parsing) {
       return;
@@ -207,7 +228,7 @@ public class RecordParserImpl implements RecordParser {
           if (demand != Long.MAX_VALUE) {
             demand--;
           }
-          Buffer event = buff.getBuffer(start, next);
+          Buffer event = sliceMode ? slice(start, next) : buff.getBuffer(start, next);
           start = pos;
           Handler<Buffer> handler = eventHandler;
           if (handler != null) {
@@ -228,8 +249,17 @@ public class RecordParserImpl implements RecordParser {
       int len = buff.length();
       if (start == len) {
         buff = EMPTY_BUFFER;
+        composite = null;
       } else if (start > 0) {
-        buff = buff.getBuffer(start, len);
+        if (sliceMode) {
+          // Drop the parsed components without copying, emitted records keep referencing them
+          List<ByteBuf> remaining = composite.decompose(start, len - start);
+          composite = newComposite();
+          composite.addComponents(true, remaining);
+          buff = Buffer.buffer(composite);
+        } else {
+          buff = buff.getBuffer(start, len);
+        }
       }
       pos -= start;
       start = 0;
@@ -242,23 +272,31 @@ public class RecordParserImpl implements RecordParser {
   }
 
   private int parseDelimited() {
-    int len = buff.length();
-    for (; pos < len; pos++) {
-      if (buff.getByte(pos) == delim[delimPos]) {
-        delimPos++;
-        if (delimPos == delim.length) {
-          pos++;
-          delimPos = 0;
-          return pos - delim.length;
-        }
-      } else {
-        if (delimPos > 0) {
-          pos -= delimPos;
-          delimPos = 0;
-        }
-      }
+    int delimLen = delim.length();
+    int idx = delimLen > 0 ? buff.indexOf(delim, pos) : -1;
+    if (idx == -1) {
+      // Resume the search where a delimiter straddling the next chunk can start
+      pos = Math.max(pos, buff.length() - Math.max(delimLen - 1, 0));
+      return -1;
     }
-    return -1;
+    pos = idx + delimLen;
+    return idx;
+  }
+
+  private Buffer slice(int from, int to) {
+    if (from == to) {
+      return EMPTY_BUFFER;
+    }
+    List<ByteBuf> parts = composite.decompose(from, to - from);
+    ByteBuf record = Unpooled.wrappedBuffer(parts.toArray(new ByteBuf[0]));
+    return Buffer.buffer(record.asReadOnly());
+  }
+
+  /**
+   * @return a composite that never consolidates its components, a record received in many chunks is not copied
+   */
+  private static CompositeByteBuf newComposite() {
+    return Unpooled.compositeBuffer(Integer.MAX_VALUE);
   }
 
   private int parseFixed() {
@@ -278,7 +316,13 @@ public class RecordParserImpl implements RecordParser {
    */
   public void handle(Buffer buffer) {
     if (buffer.length() != 0) {
-      if (buff == EMPTY_BUFFER) {
+      if (sliceMode) {
+        if (buff == EMPTY_BUFFER) {
+          composite = newComposite();
+          buff = Buffer.buffer(composite);
+        }
+        composite.addComponent(true, buffer.getByteBuf());
+      } else if (buff == EMPTY_BUFFER) {
         // Copy the initial buffer instead of growing it.
         // We cannot assume that we can modify the input,
         // or that the buffer has enough capacity.
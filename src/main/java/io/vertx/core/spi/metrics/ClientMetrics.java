@@ -31,6 +31,14 @@ public interface ClientMetrics<M, T, Req, Resp> extends Metrics {
   default void dequeueRequest(T taskMetric) {
   }
 
+  /**
+   * Called when the maximum size of an adaptive connection pool changes.
+   *
+   * @param maxPoolSize the new maximum pool size
+   */
+  default void maxPoolSizeChanged(int maxPoolSize) {
+  }
+
   /**
    * Called when a client request begins. Vert.x will invoke {@link #requestEnd} when the request
    * has ended or {@link #requestReset} if the request/response has failed before.
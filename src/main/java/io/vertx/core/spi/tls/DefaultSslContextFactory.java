@@ -53,6 +53,8 @@ public class DefaultSslContextFactory implements SslContextFactory {
   private boolean forClient;
   private KeyManagerFactory kmf;
   private TrustManagerFactory tmf;
+  private long sessionCacheSize;
+  private long sessionTimeout;
 
   @Override
   public SslContextFactory useAlpn(boolean useAlpn) {
@@ -101,6 +103,18 @@ public class DefaultSslContextFactory implements SslContextFactory {
     return this;
   }
 
+  @Override
+  public SslContextFactory sessionCacheSize(long sessionCacheSize) {
+    this.sessionCacheSize = sessionCacheSize;
+    return this;
+  }
+
+  @Override
+  public SslContextFactory sessionTimeout(long sessionTimeout) {
+    this.sessionTimeout = sessionTimeout;
+    return this;
+  }
+
   /*
         If you don't specify a trust store, and you haven't set system properties, the system will try to use either a file
         called jsssecacerts or cacerts in the JDK/JRE security directory.
@@ -163,6 +177,12 @@ public class DefaultSslContextFactory implements SslContextFactory {
     if (clientAuth != null) {
       builder.clientAuth(clientAuth);
     }
+    if (sessionCacheSize > 0) {
+      builder.sessionCacheSize(sessionCacheSize);
+    }
+    if (sessionTimeout > 0) {
+      builder.sessionTimeout(sessionTimeout);
+    }
     SslContext ctx = builder.build();
     if (ctx instanceof OpenSslServerContext){
       SSLSessionContext sslSessionContext = ctx.sessionContext();
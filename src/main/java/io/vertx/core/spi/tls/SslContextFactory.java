@@ -100,6 +100,24 @@ public interface SslContextFactory {
     return this;
   }
 
+  /**
+   * Set the size of the TLS session cache.
+   * @param sessionCacheSize the session cache size, {@code 0} to use the SSL engine default
+   * @return a reference to this, so the API can be used fluently
+   */
+  default SslContextFactory sessionCacheSize(long sessionCacheSize) {
+    return this;
+  }
+
+  /**
+   * Set the timeout of the cached TLS sessions.
+   * @param sessionTimeout the session timeout in seconds, {@code 0} to use the SSL engine default
+   * @return a reference to this, so the API can be used fluently
+   */
+  default SslContextFactory sessionTimeout(long sessionTimeout) {
+    return this;
+  }
+
   /**
    * @return a configured {@link SslContext}
    */
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.EventBus;
+import io.vertx.core.eventbus.EventBusAddress;
+import io.vertx.core.impl.BenchmarkContext;
+import io.vertx.core.impl.ContextInternal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.CompilerControl;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Compares sending to an address resolved with {@link EventBus#address(String)} with sending to the address string.
+ * <p>
+ * The consumer is registered on a context executing tasks on the caller thread, so the message is delivered
+ * before the send returns.
+ */
+@State(Scope.Thread)
+public class EventBusAddressBenchmark extends BenchmarkBase {
+
+  private static final String ADDRESS = "the-address";
+
+  @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+  public static void consume(final Object body) {
+  }
+
+  Vertx vertx;
+  EventBus eventBus;
+  EventBusAddress address;
+
+  @Setup
+  public void setup() {
+    vertx = Vertx.vertx();
+    eventBus = vertx.eventBus();
+    ContextInternal context = BenchmarkContext.create(vertx);
+    context.runOnContext(v -> eventBus.consumer(ADDRESS, msg -> consume(msg.body())));
+    address = eventBus.address(ADDRESS);
+  }
+
+  @TearDown
+  public void tearDown() {
+    vertx.close();
+  }
+
+  @Benchmark
+  public void send() {
+    eventBus.send(ADDRESS, "the-body");
+  }
+
+  @Benchmark
+  public void sendResolved() {
+    address.send("the-body");
+  }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.benchmarks;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http2.Http2CodecUtil;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerOptions;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.impl.HttpServerConnectionHandler;
+import io.vertx.core.http.impl.HttpServerImpl;
+import io.vertx.core.http.impl.HttpServerWorker;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.impl.VertxInternal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures the handling of an HTTP/2 request stream by the server, run it with {@code -prof gc} to observe the
+ * allocations per stream.
+ */
+@State(Scope.Thread)
+public class Http2ServerHandlerBenchmark extends BenchmarkBase {
+
+  private static final Buffer HELLO_WORLD_BUFFER = Buffer.buffer("Hello, world!");
+
+  // HEADERS frame with END_STREAM and END_HEADERS flags, the stream id is set before each request
+  private static final byte[] HEADERS_FRAME = {
+    0, 0, 14, 0x1, 0x5, 0, 0, 0, 0,
+    (byte) 0x82, // :method GET
+    (byte) 0x84, // :path /
+    (byte) 0x86, // :scheme http
+    0x01, 9, 'l', 'o', 'c', 'a', 'l', 'h', 'o', 's', 't' // :authority localhost, literal without indexing
+  };
+
+  // WINDOW_UPDATE frame of the connection, replenishing the window consumed by the response body
+  private static final byte[] WINDOW_UPDATE_FRAME = {
+    0, 0, 4, 0x8, 0, 0, 0, 0, 0,
+    0, 0, 0, 13
+  };
+
+  VertxInternal vertx;
+  EmbeddedChannel vertxChannel;
+  ByteBuf request;
+  int requestLength;
+  int streamId;
+
+  @Setup
+  public void setup() {
+    vertx = (VertxInternal) Vertx.vertx();
+    HttpServerOptions options = new HttpServerOptions();
+    vertxChannel = new EmbeddedChannel();
+    ContextInternal context = vertx.createEventLoopContext(vertxChannel.eventLoop(), null, Thread.currentThread().getContextClassLoader());
+    Handler<HttpServerRequest> app = req -> req.response().end(HELLO_WORLD_BUFFER);
+    HttpServerImpl server = new HttpServerImpl(vertx, options);
+    HttpServerConnectionHandler handler = new HttpServerConnectionHandler(server, app, null, null, null, null);
+    HttpServerWorker worker = new HttpServerWorker(context, () -> context, server, vertx, options, "http://localhost", handler, null, null);
+    // The clear text pipeline switches to HTTP/2 when it reads the client preface
+    worker.accept(vertxChannel, null);
+
+    // Client preface followed by an empty SETTINGS frame
+    ByteBuf preface = Unpooled.buffer();
+    preface.writeBytes(Http2CodecUtil.connectionPrefaceBuf());
+    preface.writeBytes(new byte[] { 0, 0, 0, 0x4, 0, 0, 0, 0, 0 });
+    vertxChannel.writeInbound(preface);
+    drain();
+
+    request = Unpooled.unreleasableBuffer(Unpooled.buffer()
+      .writeBytes(HEADERS_FRAME)
+      .writeBytes(WINDOW_UPDATE_FRAME));
+    requestLength = request.writerIndex();
+    streamId = 1;
+  }
+
+  @TearDown
+  public void tearDown() {
+    vertxChannel.close();
+    vertx.close();
+  }
+
+  private void drain() {
+    ByteBuf buf;
+    while ((buf = vertxChannel.readOutbound()) != null) {
+      buf.release();
+    }
+  }
+
+  @Benchmark
+  public void vertx() {
+    request.setInt(5, streamId);
+    streamId += 2;
+    request.setIndex(0, requestLength);
+    vertxChannel.writeInbound(request);
+    drain();
+  }
+
+  @Fork(value = 1, jvmArgsAppend = {
+    "-Dvertx.threadChecks=false",
+    "-Dvertx.disableContextTimings=true",
+    "-Dvertx.disableTCCL=true",
+    "-Dvertx.disableHttpHeadersValidation=true",
+    "-Dvertx.disableMetrics=true"
+  })
+  @Benchmark
+  public void vertxOpt() {
+    vertx();
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.PoolOptions;
+import io.vertx.core.impl.VertxBuilder;
+import io.vertx.core.impl.transports.EpollTransport;
+import io.vertx.core.impl.transports.IOUringTransport;
+import io.vertx.core.impl.transports.JDKTransport;
+import io.vertx.core.spi.transport.Transport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loopback HTTP/1.1 request/response throughput for the available transports.
+ *
+ * <p> Run on Linux with the {@code testIOUringTransport} profile to have the io_uring native library available, the
+ * io_uring transport is created explicitly so the {@code vertx.preferIOUring} system property is not needed.
+ */
+@State(Scope.Benchmark)
+public class TransportLoopbackBenchmark extends BenchmarkBase {
+
+  private static final int BATCH = 64;
+
+  @Param({ "jdk", "epoll", "io_uring" })
+  public String transport;
+
+  private Vertx vertx;
+  private HttpServer server;
+  private HttpClient client;
+  private int port;
+
+  private static Transport transport(String name) {
+    Transport transport;
+    switch (name) {
+      case "jdk":
+        transport = JDKTransport.INSTANCE;
+        break;
+      case "epoll":
+        transport = new EpollTransport();
+        break;
+      case "io_uring":
+        transport = new IOUringTransport();
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown transport " + name);
+    }
+    if (!transport.isAvailable()) {
+      throw new IllegalStateException("Transport " + name + " is not available", transport.unavailabilityCause());
+    }
+    return transport;
+  }
+
+  @Setup
+  public void setup() throws Exception {
+    vertx = new VertxBuilder(new VertxOptions().setEventLoopPoolSize(2))
+      .findTransport(transport(transport))
+      .init()
+      .vertx();
+    server = vertx.createHttpServer()
+      .requestHandler(req -> req.response().end("Hello World"));
+    server.listen(0, "localhost").toCompletionStage().toCompletableFuture().get(20, TimeUnit.SECONDS);
+    port = server.actualPort();
+    client = vertx.createHttpClient(new PoolOptions().setHttp1MaxSize(BATCH));
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    vertx.close().toCompletionStage().toCompletableFuture().get(20, TimeUnit.SECONDS);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public void requestResponse() throws Exception {
+    CountDownLatch latch = new CountDownLatch(BATCH);
+    CompletableFuture<Void> failure = new CompletableFuture<>();
+    for (int i = 0;i < BATCH;i++) {
+      client.request(HttpMethod.GET, port, "localhost", "/")
+        .compose(req -> req.send().compose(HttpClientResponse::body))
+        .onComplete(ar -> {
+          if (ar.succeeded()) {
+            latch.countDown();
+          } else {
+            failure.completeExceptionally(ar.cause());
+          }
+        });
+    }
+    if (!latch.await(20, TimeUnit.SECONDS)) {
+      failure.getNow(null);
+      throw new IllegalStateException("Timed out");
+    }
+  }
+}
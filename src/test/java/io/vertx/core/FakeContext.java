@@ -121,6 +121,11 @@ class FakeContext implements ContextInternal {
     return null;
   }
 
+  @Override
+  public <T> Future<T> executeBlockingInternal(Handler<Promise<T>> action, WorkerPool workerPool) {
+    return null;
+  }
+
   @Override
   public <T> Future<T> executeBlockingInternal(Callable<T> action, boolean ordered) {
     return null;
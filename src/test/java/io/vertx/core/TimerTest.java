@@ -585,7 +585,7 @@ public class TimerTest extends VertxTestBase {
 
   @Test
   public void testFailTimerTaskWhenClosingVertx() throws Exception {
-    Vertx vertx = Vertx.vertx();
+    Vertx vertx = Vertx.vertx(getOptions());
     Timer timer = vertx.timer(10_000);
     vertx.close().toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
     waitUntil(timer::failed);
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Run the timer tests with timers scheduled on the event loop timer wheels.
+ */
+public class TimerWheelTest extends TimerTest {
+
+  @Override
+  protected VertxOptions getOptions() {
+    return super.getOptions().setTimerWheelTickDuration(5).setTimerWheelTickDurationUnit(TimeUnit.MILLISECONDS);
+  }
+
+  @Test
+  public void testManyTimers() {
+    int num = 10_000;
+    AtomicInteger fired = new AtomicInteger();
+    vertx.runOnContext(v -> {
+      List<Long> cancelled = new ArrayList<>();
+      for (int i = 0;i < num;i++) {
+        long id = vertx.setTimer(1 + (i % 3000), timerID -> fired.incrementAndGet());
+        if ((i & 1) == 1) {
+          cancelled.add(id);
+        }
+      }
+      cancelled.forEach(id -> assertTrue(vertx.cancelTimer(id)));
+      vertx.setTimer(3100, id -> {
+        assertEquals(num / 2, fired.get());
+        testComplete();
+      });
+    });
+    await();
+  }
+
+  @Test
+  public void testTimerBeyondWheelRevolution() {
+    // The wheel has 512 buckets of 5 ms
+    long delay = 3000;
+    long start = System.nanoTime();
+    vertx.setTimer(delay, id -> {
+      assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= delay);
+      testComplete();
+    });
+    await();
+  }
+}
@@ -11,6 +11,7 @@
 
 package io.vertx.core;
 
+import io.vertx.core.eventbus.EventBusOptions;
 import io.vertx.core.file.FileSystemOptions;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.metrics.MetricsOptions;
@@ -292,6 +293,25 @@ public class VertxOptionsTest extends VertxTestBase {
     assertEquals(useDaemonThread, options.getUseDaemonThread());
   }
 
+  @Test
+  public void testEventBusOptionsJsonRoundTrip() {
+    EventBusOptions options = new EventBusOptions()
+      .setClusterCompactEncoding(false)
+      .setClusterFlowControlWindow(128)
+      .setClusterFlowControlMaxPending(64)
+      .setSessionCacheSize(256)
+      .setSessionTimeout(600)
+      .setSessionTicketKeyRotationPeriod(3600);
+    EventBusOptions copy = new EventBusOptions(options.toJson());
+    assertFalse(copy.isClusterCompactEncoding());
+    assertEquals(128, copy.getClusterFlowControlWindow());
+    assertEquals(64, copy.getClusterFlowControlMaxPending());
+    assertEquals(256, copy.getSessionCacheSize());
+    assertEquals(600, copy.getSessionTimeout());
+    assertEquals(3600, copy.getSessionTicketKeyRotationPeriod());
+    assertEquals(options.toJson(), copy.toJson());
+  }
+
   @Test
   public void testDefaultJsonOptions() {
     VertxOptions def = new VertxOptions();
@@ -1202,4 +1202,129 @@ public class BufferTest {
     Buffer buff = Buffer.buffer(byteBuf.asReadOnly());
     assertSame(buff, buff.copy());
   }
+
+  @Test
+  public void testDirectBuffer() {
+    byte[] bytes = TestUtils.randomByteArray(1024);
+    Buffer buff = Buffer.directBuffer(16);
+    buff.appendBytes(bytes);
+    assertEquals(bytes.length, buff.length());
+    assertArrayEquals(bytes, buff.getBytes());
+    ByteBuf byteBuf = ((BufferImpl) buff).byteBuf();
+    assertTrue(byteBuf.isDirect());
+    assertTrue(buff.getByteBuf().isDirect());
+    Buffer copy = buff.copy();
+    assertFalse(((BufferImpl) copy).byteBuf().isDirect());
+    assertEquals(buff, copy);
+    assertTrue(buff.release());
+    assertEquals(0, byteBuf.refCnt());
+    assertFalse(buff.release());
+    assertArrayEquals(bytes, copy.getBytes());
+    assertFalse(copy.release());
+  }
+
+  @Test
+  public void testDirectBufferSliceRelease() {
+    Buffer buff = Buffer.directBuffer(16).appendString("Hello World");
+    ByteBuf byteBuf = ((BufferImpl) buff).byteBuf();
+    Buffer slice1 = buff.slice();
+    Buffer slice2 = buff.slice(0, 5);
+    // A slice does not own the pooled memory
+    assertFalse(slice1.release());
+    assertFalse(slice2.release());
+    assertEquals(1, byteBuf.refCnt());
+    assertEquals("Hello", slice2.toString());
+    assertEquals("Hello World", buff.toString());
+    assertTrue(buff.release());
+    assertEquals(0, byteBuf.refCnt());
+  }
+
+  @Test
+  public void testReleaseHeapBuffer() {
+    Buffer buff = Buffer.buffer("Hello World");
+    assertFalse(buff.release());
+    assertEquals("Hello World", buff.toString());
+  }
+
+  @Test
+  public void testDirectBufferWriteDoesNotRelease() {
+    Buffer buff = Buffer.directBuffer(16).appendString("Hello World");
+    ByteBuf byteBuf = buff.getByteBuf();
+    // What a transport does once the write completed
+    assertFalse(byteBuf.release());
+    assertEquals("Hello World", buff.toString());
+    assertTrue(buff.release());
+  }
+
+  @Test
+  public void testIndexOfByte() {
+    Buffer buff = Buffer.buffer("abcabcabcabcabcabcabcabc-abc");
+    assertEquals(0, buff.indexOf((byte) 'a', 0));
+    assertEquals(3, buff.indexOf((byte) 'a', 1));
+    assertEquals(24, buff.indexOf((byte) '-', 0));
+    assertEquals(24, buff.indexOf((byte) '-', -5));
+    assertEquals(-1, buff.indexOf((byte) '-', 25));
+    assertEquals(-1, buff.indexOf((byte) 'z', 0));
+    assertEquals(-1, buff.indexOf((byte) 'a', buff.length()));
+    assertEquals(-1, Buffer.buffer().indexOf((byte) 'a', 0));
+  }
+
+  @Test
+  public void testLastIndexOfByte() {
+    Buffer buff = Buffer.buffer("abcabcabcabcabcabcabcabc-abc");
+    assertEquals(25, buff.lastIndexOf((byte) 'a', buff.length()));
+    assertEquals(25, buff.lastIndexOf((byte) 'a', 25));
+    assertEquals(21, buff.lastIndexOf((byte) 'a', 24));
+    assertEquals(0, buff.lastIndexOf((byte) 'a', 0));
+    assertEquals(-1, buff.lastIndexOf((byte) 'b', 0));
+    assertEquals(-1, buff.lastIndexOf((byte) 'a', -1));
+    assertEquals(-1, Buffer.buffer().lastIndexOf((byte) 'a', 10));
+  }
+
+  @Test
+  public void testIndexOfBuffer() {
+    Buffer buff = Buffer.buffer("abcabcabcabcabcabcabcabc\r\nabc");
+    assertEquals(0, buff.indexOf(Buffer.buffer("abc"), 0));
+    assertEquals(3, buff.indexOf(Buffer.buffer("abc"), 1));
+    assertEquals(24, buff.indexOf(Buffer.buffer("\r\n"), 0));
+    assertEquals(24, buff.indexOf("\r\n".getBytes(), 24));
+    assertEquals(-1, buff.indexOf(Buffer.buffer("\r\n"), 25));
+    assertEquals(-1, buff.indexOf(Buffer.buffer("abd"), 0));
+    assertEquals(-1, buff.indexOf(Buffer.buffer("abcd"), 26));
+    assertEquals(5, buff.indexOf(Buffer.buffer(), 5));
+    assertEquals(buff.length(), buff.indexOf(new byte[0], buff.length() + 1));
+    assertEquals(1, buff.indexOf(Buffer.buffer("xbcx").slice(1, 3), 0));
+    Buffer direct = Buffer.directBuffer(buff.length()).appendBuffer(buff);
+    assertEquals(24, direct.indexOf("\r\n".getBytes(), 0));
+    direct.release();
+  }
+
+  @Test
+  public void testIndexOfRandom() {
+    byte[] bytes = new byte[4096];
+    for (int i = 0; i < bytes.length; i++) {
+      bytes[i] = (byte) TestUtils.randomPositiveInt();
+    }
+    Buffer buff = Buffer.buffer(bytes);
+    for (int i = 0; i < 100; i++) {
+      int from = TestUtils.randomPositiveInt() % bytes.length;
+      int len = 1 + TestUtils.randomPositiveInt() % 3;
+      byte[] needle = TestUtils.randomByteArray(len);
+      assertEquals(naiveIndexOf(bytes, needle, from), buff.indexOf(needle, from));
+      assertEquals(naiveIndexOf(bytes, new byte[] { needle[0] }, from), buff.indexOf(needle[0], from));
+    }
+  }
+
+  private static int naiveIndexOf(byte[] bytes, byte[] needle, int from) {
+    for (int i = from; i <= bytes.length - needle.length; i++) {
+      int j = 0;
+      while (j < needle.length && bytes[i + j] == needle[j]) {
+        j++;
+      }
+      if (j == needle.length) {
+        return i;
+      }
+    }
+    return -1;
+  }
 }
@@ -427,6 +427,187 @@ public class ClusteredEventBusTest extends ClusteredEventBusTestBase {
     await();
   }
 
+  @Test
+  public void testBatchedWrites() {
+    int num = 1000;
+    VertxOptions options = getOptions();
+    options.getEventBusOptions().setClusterWriteBatchSize(16).setClusterWriteBatchMaxBytes(1024);
+    startNodes(2, options);
+    waitFor(2 * num);
+    AtomicInteger received = new AtomicInteger();
+    vertices[1].eventBus().<String>consumer(ADDRESS1, msg -> {
+      assertEquals("msg-" + received.getAndIncrement(), msg.body());
+      complete();
+    }).completionHandler(onSuccess(v1 -> {
+      MessageProducer<String> producer = vertices[0].eventBus().sender(ADDRESS1);
+      for (int i = 0;i < num;i++) {
+        producer.write("msg-" + i, onSuccess(v2 -> complete()));
+      }
+    }));
+    await();
+  }
+
+  @Test
+  public void testCompactEncoding() {
+    int num = 100;
+    VertxOptions options = getOptions();
+    options.getEventBusOptions().setClusterCompactEncoding(true);
+    startNodes(2, options);
+    waitFor(num);
+    AtomicInteger received = new AtomicInteger();
+    vertices[1].eventBus().<String>consumer(ADDRESS1, msg -> {
+      int i = received.getAndIncrement();
+      assertEquals("msg-" + i, msg.body());
+      assertEquals("value-" + i, msg.headers().get("the-header"));
+      msg.reply("reply-" + i, new DeliveryOptions().addHeader("the-reply-header", "value-" + i));
+    }).completionHandler(onSuccess(v1 -> {
+      for (int i = 0;i < num;i++) {
+        int idx = i;
+        DeliveryOptions deliveryOptions = new DeliveryOptions().addHeader("the-header", "value-" + i);
+        vertices[0].eventBus().<String>request(ADDRESS1, "msg-" + i, deliveryOptions).onComplete(onSuccess(reply -> {
+          assertEquals("reply-" + idx, reply.body());
+          assertEquals("value-" + idx, reply.headers().get("the-reply-header"));
+          complete();
+        }));
+      }
+    }));
+    await();
+  }
+
+  @Test
+  public void testFlowControl() throws Exception {
+    int window = 10;
+    int num = 100;
+    VertxOptions options = getOptions();
+    options.getEventBusOptions().setClusterFlowControlWindow(window);
+    startNodes(2, options);
+    AtomicInteger written = new AtomicInteger();
+    AtomicInteger received = new AtomicInteger();
+    MessageConsumer<String> consumer = vertices[1].eventBus().consumer(ADDRESS1);
+    consumer.pause();
+    CountDownLatch latch = new CountDownLatch(1);
+    consumer.handler(msg -> {
+      assertEquals("msg-" + received.getAndIncrement(), msg.body());
+      if (received.get() == num) {
+        testComplete();
+      }
+    }).completionHandler(onSuccess(v -> latch.countDown()));
+    awaitLatch(latch);
+    MessageProducer<String> producer = vertices[0].eventBus().sender(ADDRESS1);
+    for (int i = 0;i < num;i++) {
+      producer.write("msg-" + i).onComplete(onSuccess(v -> written.incrementAndGet()));
+    }
+    assertWaitUntil(() -> written.get() == window);
+    Thread.sleep(100);
+    assertEquals(window, written.get());
+    assertEquals(0, received.get());
+    consumer.resume();
+    await();
+    assertWaitUntil(() -> written.get() == num);
+  }
+
+  @Test
+  public void testFlowControlPerAddress() throws Exception {
+    int window = 10;
+    VertxOptions options = getOptions();
+    options.getEventBusOptions().setClusterFlowControlWindow(window);
+    startNodes(2, options);
+    AtomicInteger written = new AtomicInteger();
+    MessageConsumer<String> paused = vertices[1].eventBus().consumer(ADDRESS1);
+    paused.pause();
+    CountDownLatch latch = new CountDownLatch(2);
+    paused.handler(msg -> {}).completionHandler(onSuccess(v -> latch.countDown()));
+    vertices[1].eventBus().<String>consumer(ADDRESS2, msg -> msg.reply("pong-" + msg.body()))
+      .completionHandler(onSuccess(v -> latch.countDown()));
+    awaitLatch(latch);
+    MessageProducer<String> producer = vertices[0].eventBus().sender(ADDRESS1);
+    for (int i = 0;i < 2 * window;i++) {
+      // The queued writes fail when the nodes are closed
+      producer.write("msg-" + i).onSuccess(v -> written.incrementAndGet());
+    }
+    assertWaitUntil(() -> written.get() == window);
+    // The paused consumer holds the credits of its address only, requests and replies still flow
+    int num = 2 * window;
+    waitFor(num);
+    for (int i = 0;i < num;i++) {
+      String body = "ping-" + i;
+      vertices[0].eventBus().<String>request(ADDRESS2, body).onComplete(onSuccess(reply -> {
+        assertEquals("pong-" + body, reply.body());
+        complete();
+      }));
+    }
+    await();
+    assertEquals(window, written.get());
+  }
+
+  @Test
+  public void testFlowControlMaxPending() throws Exception {
+    int window = 10;
+    int maxPending = 5;
+    VertxOptions options = getOptions();
+    options.getEventBusOptions().setClusterFlowControlWindow(window).setClusterFlowControlMaxPending(maxPending);
+    startNodes(2, options);
+    AtomicInteger written = new AtomicInteger();
+    AtomicInteger failed = new AtomicInteger();
+    MessageConsumer<String> consumer = vertices[1].eventBus().consumer(ADDRESS1);
+    consumer.pause();
+    CountDownLatch latch = new CountDownLatch(1);
+    consumer.handler(msg -> {}).completionHandler(onSuccess(v -> latch.countDown()));
+    awaitLatch(latch);
+    MessageProducer<String> producer = vertices[0].eventBus().sender(ADDRESS1);
+    for (int i = 0;i < window + 2 * maxPending;i++) {
+      producer.write("msg-" + i).onComplete(ar -> {
+        if (ar.succeeded()) {
+          written.incrementAndGet();
+        } else {
+          assertTrue(ar.cause() instanceof ReplyException);
+          assertEquals(ReplyFailure.ERROR, ((ReplyException) ar.cause()).failureType());
+          failed.incrementAndGet();
+        }
+      });
+    }
+    assertWaitUntil(() -> written.get() == window && failed.get() == maxPending);
+    consumer.resume();
+    assertWaitUntil(() -> written.get() == window + maxPending);
+    assertEquals(maxPending, failed.get());
+  }
+
+  @Test
+  public void testFlowControlMaxPendingWhileConnecting() throws Exception {
+    int window = 10;
+    int maxPending = 5;
+    VertxOptions options = getOptions();
+    options.getEventBusOptions().setClusterFlowControlWindow(window).setClusterFlowControlMaxPending(maxPending);
+    startNodes(2, options);
+    AtomicInteger written = new AtomicInteger();
+    AtomicInteger failed = new AtomicInteger();
+    MessageConsumer<String> consumer = vertices[1].eventBus().consumer(ADDRESS1);
+    consumer.pause();
+    CountDownLatch latch = new CountDownLatch(1);
+    consumer.handler(msg -> {}).completionHandler(onSuccess(v -> latch.countDown()));
+    awaitLatch(latch);
+    int num = window + 4 * maxPending;
+    // Written from the event-loop, the messages are sent while the connection is established
+    vertices[0].runOnContext(v -> {
+      MessageProducer<String> producer = vertices[0].eventBus().sender(ADDRESS1);
+      for (int i = 0;i < num;i++) {
+        producer.write("msg-" + i).onComplete(ar -> {
+          if (ar.succeeded()) {
+            written.incrementAndGet();
+          } else {
+            assertTrue(ar.cause() instanceof ReplyException);
+            assertEquals(ReplyFailure.ERROR, ((ReplyException) ar.cause()).failureType());
+            failed.incrementAndGet();
+          }
+        });
+      }
+    });
+    assertWaitUntil(() -> written.get() == window && failed.get() == num - window - maxPending);
+    consumer.resume();
+    assertWaitUntil(() -> written.get() == window + maxPending);
+    assertEquals(num - window - maxPending, failed.get());
+  }
+
   @Test
   public void testSendWriteHandlerNoConsumer() {
     startNodes(2);
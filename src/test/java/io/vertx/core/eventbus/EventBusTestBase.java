@@ -131,6 +131,15 @@ public abstract class EventBusTestBase extends VertxTestBase {
     });
   }
 
+  @Test
+  public void testSendLargeBuffer() {
+    Buffer sent = TestUtils.randomBuffer(256 * 1024);
+    testSend(sent, (buffer) -> {
+      assertEquals(sent, buffer);
+      assertFalse(sent == buffer); // Make sure it's copied
+    });
+  }
+
   @Test
   public void testSendByte() {
     testSend(TestUtils.randomByte());
@@ -173,6 +182,15 @@ public abstract class EventBusTestBase extends VertxTestBase {
     });
   }
 
+  @Test
+  public void testSendLargeByteArray() {
+    byte[] sent = TestUtils.randomByteArray(256 * 1024);
+    testSend(sent, (bytes) -> {
+      assertTrue(TestUtils.byteArraysEqual(sent, bytes));
+      assertFalse(sent == bytes); // Make sure it's copied
+    });
+  }
+
   @Test
   public void testSendCharacter() {
     testSend(TestUtils.randomChar());
@@ -14,6 +14,7 @@ package io.vertx.core.eventbus;
 import io.vertx.core.*;
 import io.vertx.core.eventbus.impl.EventBusInternal;
 import io.vertx.core.eventbus.impl.MessageConsumerImpl;
+import io.vertx.core.eventbus.impl.UnresolvedEventBusAddress;
 import io.vertx.core.impl.ConcurrentHashSet;
 import io.vertx.core.impl.ContextInternal;
 import io.vertx.core.impl.VertxInternal;
@@ -272,6 +273,114 @@ public class LocalEventBusTest extends EventBusTestBase {
     await();
   }
 
+  @Test
+  public void testManyPendingRequests() {
+    int num = 1000;
+    List<Message<Integer>> requests = new ArrayList<>();
+    eb.<Integer>consumer(ADDRESS1).handler(msg -> {
+      requests.add(msg);
+      if (requests.size() == num) {
+        // Reply in a different order than the requests were sent
+        Collections.shuffle(requests);
+        requests.forEach(req -> req.reply(req.body()));
+      }
+    });
+    AtomicInteger count = new AtomicInteger();
+    for (int i = 0;i < num;i++) {
+      int expected = i;
+      eb.<Integer>request(ADDRESS1, i).onComplete(onSuccess(reply -> {
+        assertEquals(expected, (int) reply.body());
+        if (count.incrementAndGet() == num) {
+          testComplete();
+        }
+      }));
+    }
+    await();
+  }
+
+  @Test
+  public void testReplyJustBeforeTimeout() {
+    long timeout = 500;
+    eb.<String>consumer(ADDRESS1).handler(msg -> vertx.setTimer(timeout - 50, id -> msg.reply("pong")));
+    AtomicInteger count = new AtomicInteger();
+    eb.<String>request(ADDRESS1, "ping", new DeliveryOptions().setSendTimeout(timeout)).onComplete(ar -> {
+      assertEquals(1, count.incrementAndGet());
+      assertTrue(ar.succeeded());
+      assertEquals("pong", ar.result().body());
+      // The timeout must not fire after the reply
+      vertx.setTimer(2 * timeout, id -> testComplete());
+    });
+    await();
+  }
+
+  @Test
+  public void testReplyTimeoutFiresOnceOnRequesterContext() {
+    eb.<String>consumer(ADDRESS1).handler(msg -> {
+      // Never reply
+    });
+    Context ctx = vertx.getOrCreateContext();
+    AtomicInteger count = new AtomicInteger();
+    ctx.runOnContext(v -> {
+      eb.<String>request(ADDRESS1, "ping", new DeliveryOptions().setSendTimeout(100)).onComplete(ar -> {
+        assertEquals(1, count.incrementAndGet());
+        assertSame(ctx, Vertx.currentContext());
+        assertTrue(ar.failed());
+        assertEquals(ReplyFailure.TIMEOUT, ((ReplyException) ar.cause()).failureType());
+        vertx.setTimer(300, id -> testComplete());
+      });
+    });
+    await();
+  }
+
+  @Test
+  public void testResolvedAddressTracksRegistrations() throws Exception {
+    EventBusAddress address = eb.address(ADDRESS1);
+    assertSame(address, eb.address(ADDRESS1));
+    address.request("ping").onComplete(onFailure(err -> {
+      assertEquals(ReplyFailure.NO_HANDLERS, ((ReplyException) err).failureType());
+      MessageConsumer<String> consumer = eb.<String>consumer(ADDRESS1).handler(msg -> msg.reply(msg.body() + "-pong"));
+      address.<String>request("ping").onComplete(onSuccess(reply -> {
+        assertEquals("ping-pong", reply.body());
+        consumer.unregister().onComplete(onSuccess(v -> {
+          address.request("ping").onComplete(onFailure(err2 -> {
+            assertEquals(ReplyFailure.NO_HANDLERS, ((ReplyException) err2).failureType());
+            testComplete();
+          }));
+        }));
+      }));
+    }));
+    await();
+  }
+
+  @Test
+  public void testResolvedAddressPublish() {
+    String str = TestUtils.randomUnicodeString(100);
+    AtomicInteger count = new AtomicInteger();
+    Handler<Message<Object>> handler = msg -> {
+      assertEquals(str, msg.body());
+      assertEquals("the-value", msg.headers().get("the-header"));
+      if (count.incrementAndGet() == 2) {
+        testComplete();
+      }
+    };
+    eb.consumer(ADDRESS1).handler(handler);
+    eb.consumer(ADDRESS1).handler(handler);
+    eb.address(ADDRESS1).publish(str, new DeliveryOptions().addHeader("the-header", "the-value"));
+    await();
+  }
+
+  @Test
+  public void testUnresolvedAddress() {
+    EventBusAddress address = new UnresolvedEventBusAddress(eb, ADDRESS1);
+    assertEquals(ADDRESS1, address.address());
+    eb.<String>consumer(ADDRESS1).handler(msg -> msg.reply(msg.body() + "-pong"));
+    address.<String>request("ping").onComplete(onSuccess(reply -> {
+      assertEquals("ping-pong", reply.body());
+      testComplete();
+    }));
+    await();
+  }
+
   @Test
   public void testSendWithNoHandler() {
     eb.send(ADDRESS1, TestUtils.randomUnicodeString(100));
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.eventbus.impl.clustered;
+
+import io.netty.buffer.ByteBuf;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.buffer.impl.BufferImpl;
+import io.vertx.core.buffer.impl.VertxByteBufAllocator;
+import io.vertx.core.eventbus.MessageCodec;
+import io.vertx.core.eventbus.impl.CodecManager;
+import io.vertx.core.eventbus.impl.EventBusImpl;
+import io.vertx.test.core.TestUtils;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+public class ClusteredMessageTest {
+
+  @Test
+  public void testBufferBodyCopiedInFrame() {
+    Buffer body = TestUtils.randomBuffer(256 * 1024);
+    Buffer expected = body.copy();
+    Buffer received = encodeThenDecode(body, CodecManager.BUFFER_MESSAGE_CODEC, () -> body.setBytes(0, new byte[body.length()]));
+    assertEquals(expected, received);
+  }
+
+  @Test
+  public void testByteArrayBodyCopiedInFrame() {
+    byte[] body = TestUtils.randomByteArray(256 * 1024);
+    byte[] expected = body.clone();
+    byte[] received = encodeThenDecode(body, CodecManager.BYTE_ARRAY_MESSAGE_CODEC, () -> Arrays.fill(body, (byte) 0));
+    assertArrayEquals(expected, received);
+  }
+
+  @Test
+  public void testSupportsCompactEncoding() {
+    assertFalse(ClusteredEventBus.supportsCompactEncoding(ping(null)));
+    assertFalse(ClusteredEventBus.supportsCompactEncoding(ping("not-a-number")));
+    assertFalse(ClusteredEventBus.supportsCompactEncoding(ping(String.valueOf(ClusteredMessage.COMPACT_WIRE_PROTOCOL_VERSION - 1))));
+    assertTrue(ClusteredEventBus.supportsCompactEncoding(ping(String.valueOf(ClusteredMessage.COMPACT_WIRE_PROTOCOL_VERSION))));
+  }
+
+  private static ClusteredMessage<String, String> ping(String version) {
+    MultiMap headers = MultiMap.caseInsensitiveMultiMap();
+    if (version != null) {
+      headers.add(ClusteredEventBus.WIRE_PROTOCOL_HEADER, version);
+    }
+    return new ClusteredMessage<>("sender", "the-address", headers, "ping", CodecManager.PING_MESSAGE_CODEC, true, null);
+  }
+
+  private <T> T encodeThenDecode(T body, MessageCodec<T, T> codec, Runnable afterEncode) {
+    ClusteredMessage<T, T> sent = new ClusteredMessage<>("sender", "the-address", null, body, codec, true, null);
+    ByteBuf frame = sent.encodeToWire(VertxByteBufAllocator.POOLED_ALLOCATOR, null);
+    try {
+      // The sender is free to modify the body once it is encoded
+      afterEncode.run();
+      assertEquals(frame.readableBytes() - 4, frame.getInt(0));
+      ClusteredMessage<T, T> received = new ClusteredMessage<>((EventBusImpl) null);
+      received.readFromWire(BufferImpl.buffer(frame.slice(4, frame.readableBytes() - 4)), new CodecManager());
+      return received.body();
+    } finally {
+      frame.release();
+    }
+  }
+}
@@ -17,6 +17,7 @@ import io.vertx.core.*;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.file.impl.AsyncFileImpl;
 import io.vertx.core.impl.Utils;
+import io.vertx.core.impl.VertxInternal;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.streams.Pump;
 import io.vertx.core.streams.ReadStream;
@@ -1369,6 +1370,90 @@ public class FileSystemTest extends VertxTestBase {
 
   }
 
+  @Test
+  public void testReadMemoryMapped() throws Exception {
+    String fileName = "some-file.dat";
+    byte[] content = TestUtils.randomByteArray(10_000);
+    createFile(fileName, content);
+    AsyncFile file = vertx.fileSystem().openBlocking(testDir + pathSep + fileName, new OpenOptions().setWrite(false).setMemoryMapped(true));
+    file.read(Buffer.buffer(), 0, 9_000, 2_000).onComplete(onSuccess(buff -> {
+      // Truncated at the end of the file
+      assertEquals(Buffer.buffer(content).slice(9_000, 10_000), buff);
+      file.close().onComplete(onSuccess(v -> testComplete()));
+    }));
+    await();
+  }
+
+  @Test
+  public void testReadMemoryMappedAtOffset() throws Exception {
+    String fileName = "some-file.dat";
+    byte[] content = TestUtils.randomByteArray(10_000);
+    createFile(fileName, content);
+    AsyncFile file = vertx.fileSystem().openBlocking(testDir + pathSep + fileName, new OpenOptions().setWrite(false).setMemoryMapped(true));
+    Buffer buffer = Buffer.buffer("prefix");
+    file.read(buffer, 3, 500, 1_000).onComplete(onSuccess(buff -> {
+      assertSame(buffer, buff);
+      assertEquals(Buffer.buffer("pre").appendBuffer(Buffer.buffer(content).slice(500, 1_500)), buff);
+      file.close().onComplete(onSuccess(v -> testComplete()));
+    }));
+    await();
+  }
+
+  @Test
+  public void testReadStreamMemoryMapped() throws Exception {
+    String fileName = "some-file.dat";
+    byte[] content = TestUtils.randomByteArray(100_000);
+    createFile(fileName, content);
+    AsyncFile file = vertx.fileSystem().openBlocking(testDir + pathSep + fileName, new OpenOptions().setWrite(false).setMemoryMapped(true));
+    file.setReadPos(1_000);
+    file.setReadLength(90_000);
+    Buffer received = Buffer.buffer();
+    file.handler(received::appendBuffer);
+    file.endHandler(v -> {
+      assertEquals(Buffer.buffer(content).slice(1_000, 91_000), received);
+      testComplete();
+    });
+    await();
+  }
+
+  @Test
+  public void testReadStreamMemoryMappedClose() throws Exception {
+    String fileName = "some-file.dat";
+    byte[] content = TestUtils.randomByteArray(100_000);
+    createFile(fileName, content);
+    AsyncFile file = vertx.fileSystem().openBlocking(testDir + pathSep + fileName, new OpenOptions().setWrite(false).setMemoryMapped(true));
+    file.setReadBufferSize(1_000);
+    AtomicInteger received = new AtomicInteger();
+    file.endHandler(v -> fail());
+    file.handler(buff -> {
+      assertEquals(1, received.incrementAndGet());
+      file.close().onComplete(onSuccess(v -> {
+        // The pending chunks are not emitted and the file is unmapped
+        vertx.setTimer(100, id -> {
+          assertEquals(1, received.get());
+          try {
+            file.read(Buffer.buffer(), 0, 0, 1_000);
+            fail();
+          } catch (IllegalStateException ignore) {
+          }
+          testComplete();
+        });
+      }));
+    });
+    await();
+  }
+
+  @Test
+  public void testMemoryMappedForWriting() throws Exception {
+    String fileName = "some-file.dat";
+    createFileWithJunk(fileName, 100);
+    try {
+      vertx.fileSystem().openBlocking(testDir + pathSep + fileName, new OpenOptions().setMemoryMapped(true));
+      fail();
+    } catch (FileSystemException ignore) {
+    }
+  }
+
   @Test
   public void testReadStream() throws Exception {
     testReadStream(ReadStrategy.NONE);
@@ -2367,4 +2452,22 @@ public class FileSystemTest extends VertxTestBase {
     file1.close();
     file2.close();
   }
+
+  @Test
+  public void testVirtualThreads() throws Exception {
+    VertxInternal vertx = (VertxInternal) vertx(new VertxOptions().setFileSystemOptions(new FileSystemOptions().setVirtualThreadsEnabled(true)));
+    Assume.assumeTrue(vertx.isVirtualThreadAvailable());
+    assertNotSame(vertx.getInternalWorkerPool(), vertx.getFileSystemWorkerPool());
+    String fileName = "some-file.dat";
+    createFileWithJunk(fileName, 1234);
+    Context ctx = vertx.getOrCreateContext();
+    ctx.runOnContext(v -> {
+      vertx.fileSystem().props(testDir + pathSep + fileName).onComplete(onSuccess(props -> {
+        assertSame(ctx, Vertx.currentContext());
+        assertEquals(1234, props.size());
+        testComplete();
+      }));
+    });
+    await();
+  }
 }
@@ -11,10 +11,15 @@
 
 package io.vertx.core.http;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.channel.EventLoop;
 import io.netty.handler.codec.TooLongFrameException;
+import io.netty.handler.codec.http.HttpContent;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.TooLongHttpHeaderException;
 import io.vertx.core.Future;
@@ -1352,6 +1357,42 @@ public class Http1xTest extends HttpTest {
     await();
   }
 
+  @Test
+  public void testServerPipeliningFlushConsolidation() throws Exception {
+    int n = 10;
+    server.close();
+    server = vertx.createHttpServer(createBaseServerOptions().setPipelinedFlushConsolidation(true));
+    server.requestHandler(req -> {
+      String path = req.path();
+      if (path.equals("/0")) {
+        // Let the other requests be pipelined
+        vertx.setTimer(20, id -> req.response().end(path));
+      } else {
+        req.response().end(path);
+      }
+    });
+    startServer(testAddress);
+    StringBuilder requests = new StringBuilder();
+    StringBuilder expected = new StringBuilder();
+    for (int i = 0;i < n;i++) {
+      requests.append("GET /").append(i).append(" HTTP/1.1\r\n\r\n");
+      expected.append("HTTP/1.1 200 OK\r\ncontent-length: 2\r\n\r\n/").append(i);
+    }
+    NetClient client = vertx.createNetClient();
+    client.connect(testAddress, onSuccess(so -> {
+      Buffer received = Buffer.buffer();
+      so.handler(buff -> {
+        received.appendBuffer(buff);
+        if (received.length() == expected.length()) {
+          assertEquals(expected.toString(), received.toString());
+          testComplete();
+        }
+      });
+      so.write(requests.toString());
+    }));
+    await();
+  }
+
   @Test
   public void testServerConnectionCloseBeforeRequestEnded() throws Exception {
     testServerConnectionClose(true);
@@ -1393,6 +1434,44 @@ public class Http1xTest extends HttpTest {
     await();
   }
 
+  @Test
+  public void testPooledBuffersReleasedOnCloseWhilePaused() throws Exception {
+    List<ByteBuf> queued = Collections.synchronizedList(new ArrayList<>());
+    CompletableFuture<Void> ready = new CompletableFuture<>();
+    server.close();
+    server = vertx.createHttpServer(createBaseServerOptions().setPooledBuffers(true));
+    server.requestHandler(req -> {
+      req.pause();
+      req.handler(buff -> fail());
+      HttpConnection conn = req.connection();
+      ((Http1xServerConnection) conn).channelHandlerContext().pipeline().addBefore("handler", "tracker", new ChannelInboundHandlerAdapter() {
+        @Override
+        public void channelRead(ChannelHandlerContext ctx, Object msg) {
+          // Track an unpooled copy, the pool recycles released buffers
+          HttpContent content = (HttpContent) msg;
+          HttpContent copy = content.replace(Unpooled.copiedBuffer(content.content()));
+          content.release();
+          queued.add(copy.content());
+          ctx.fireChannelRead(copy);
+          conn.close();
+        }
+      });
+      conn.closeHandler(v -> testComplete());
+      ready.complete(null);
+    });
+    startServer(testAddress);
+    NetClient client = vertx.createNetClient();
+    client.connect(testAddress, onSuccess(so -> {
+      so.write(
+        "PUT / HTTP/1.1\r\n" +
+          "content-length: 1024\r\n" +
+          "\r\n");
+      ready.whenComplete((v, err) -> so.write(TestUtils.randomAlphaString(1024)));
+    }));
+    await();
+    assertWaitUntil(() -> !queued.isEmpty() && queued.stream().allMatch(buf -> buf.refCnt() == 0));
+  }
+
   @Test
   public void testServerConnectionCloseDoesNotProcessHTTPMessages() throws Exception {
     AtomicInteger requestCount = new AtomicInteger();
@@ -5439,6 +5518,54 @@ public class Http1xTest extends HttpTest {
     await();
   }
 
+  @Test
+  public void testPrewarm() throws Exception {
+    AtomicInteger connections = new AtomicInteger();
+    // Idle connections are not detected as HTTP/1 connections when clear text HTTP/2 is enabled
+    server.close();
+    server = vertx.createHttpServer(createBaseServerOptions().setHttp2ClearTextEnabled(false));
+    server.connectionHandler(conn -> connections.incrementAndGet());
+    server.requestHandler(request -> request.response().end());
+    startServer(testAddress);
+    client.close();
+    client = vertx.createHttpClient(new PoolOptions().setHttp1MaxSize(3));
+    CountDownLatch latch = new CountDownLatch(1);
+    // Capped to the pool size
+    client.prewarm(testAddress, 5).onComplete(onSuccess(v -> latch.countDown()));
+    awaitLatch(latch);
+    assertWaitUntil(() -> connections.get() == 3);
+    waitFor(3);
+    for (int i = 0;i < 3;i++) {
+      client.request(requestOptions)
+        .compose(req -> req.send().compose(HttpClientResponse::body))
+        .onComplete(onSuccess(v -> complete()));
+    }
+    await();
+    assertEquals(3, connections.get());
+  }
+
+  @Test
+  public void testKeepWarm() throws Exception {
+    AtomicInteger connections = new AtomicInteger();
+    server.close();
+    server = vertx.createHttpServer(createBaseServerOptions().setHttp2ClearTextEnabled(false));
+    server.connectionHandler(conn -> connections.incrementAndGet());
+    server.requestHandler(request -> request.response().end());
+    startServer(testAddress);
+    client.close();
+    client = vertx.createHttpClient(
+      new HttpClientOptions().setKeepAliveTimeout(1),
+      new PoolOptions().setHttp1MaxSize(3).setWarmSize(2).setCleanerPeriod(100));
+    CountDownLatch latch = new CountDownLatch(1);
+    client.request(requestOptions)
+      .compose(req -> req.send().compose(HttpClientResponse::body))
+      .onComplete(onSuccess(v -> latch.countDown()));
+    awaitLatch(latch);
+    assertWaitUntil(() -> connections.get() >= 2);
+    // Replaced after the keep alive timeout
+    assertWaitUntil(() -> connections.get() >= 4, 5000);
+  }
+
   @Test
   public void testFailPendingRequestAllocationWhenConnectionIsClosed() throws Exception {
     waitFor(2);
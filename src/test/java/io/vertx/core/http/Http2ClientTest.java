@@ -1945,6 +1945,33 @@ public class Http2ClientTest extends Http2TestBase {
     await();
   }
 
+  @Test
+  public void testStreamStriping() throws Exception {
+    server.close();
+    server = vertx.createHttpServer(createBaseServerOptions().setInitialSettings(new Http2Settings().setMaxConcurrentStreams(4)));
+    int numRequests = 4;
+    List<HttpServerRequest> requests = new ArrayList<>();
+    server.requestHandler(req -> {
+      requests.add(req);
+      if (requests.size() < numRequests) {
+        // Send the next request once this one is active
+        client.request(requestOptions).onComplete(onSuccess(HttpClientRequest::send));
+      } else {
+        Map<HttpConnection, Integer> distribution = new HashMap<>();
+        requests.forEach(request -> distribution.merge(request.connection(), 1, Integer::sum));
+        assertEquals(2, distribution.size());
+        distribution.values().forEach(count -> assertEquals(2, (int) count));
+        requests.forEach(request -> request.response().end());
+        testComplete();
+      }
+    });
+    startServer();
+    client.close();
+    client = vertx.createHttpClient(clientOptions, new PoolOptions().setHttp2MaxSize(2).setHttp2StreamStriping(true));
+    client.request(requestOptions).onComplete(onSuccess(HttpClientRequest::send));
+    await();
+  }
+
   @Test
   public void testConnectionWindowSize() throws Exception {
     ServerBootstrap bootstrap = createH2Server((decoder, encoder) -> new Http2EventAdapter() {
@@ -12,6 +12,7 @@
 package io.vertx.core.http;
 
 import io.netty.channel.ConnectTimeoutException;
+import io.netty.handler.codec.DateFormatter;
 import io.netty.handler.codec.compression.DecompressionException;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpResponseStatus;
@@ -2721,6 +2722,232 @@ public abstract class HttpTest extends HttpTestBase {
     await();
   }
 
+  @Test
+  public void testStaticResponse() throws Exception {
+    StaticResponse response = StaticResponse.create(200, HttpHeaders.headers().add("content-type", "application/json"), Buffer.buffer("{\"status\":\"UP\"}"));
+    server.requestHandler(req -> req.response().end(response));
+    startServer(testAddress);
+    int num = 3;
+    waitFor(num);
+    for (int i = 0;i < num;i++) {
+      client.request(requestOptions)
+        .compose(req -> req.send().compose(resp -> {
+          assertEquals(200, resp.statusCode());
+          assertEquals("application/json", resp.getHeader("content-type"));
+          assertEquals("15", resp.getHeader("content-length"));
+          return resp.body();
+        }))
+        .onComplete(onSuccess(body -> {
+          assertEquals("{\"status\":\"UP\"}", body.toString());
+          complete();
+        }));
+    }
+    await();
+  }
+
+  @Test
+  public void testStaticResponseHeadersReadOnly() {
+    MultiMap headers = HttpHeaders.headers().add("content-type", "application/json");
+    StaticResponse response = StaticResponse.create(200, headers, Buffer.buffer("{\"status\":\"UP\"}"));
+    headers.set("content-type", "text/plain");
+    assertEquals("application/json", response.headers().get("content-type"));
+    assertEquals("15", response.headers().get("content-length"));
+    assertEquals(2, response.headers().size());
+    try {
+      response.headers().set("content-type", "text/plain");
+      fail();
+    } catch (UnsupportedOperationException ignore) {
+    }
+    try {
+      response.headers().remove("content-length");
+      fail();
+    } catch (UnsupportedOperationException ignore) {
+    }
+    try {
+      response.headers().iterator().next().setValue("text/plain");
+      fail();
+    } catch (UnsupportedOperationException ignore) {
+    }
+    assertEquals("application/json", response.headers().get("content-type"));
+  }
+
+  @Test
+  public void testHedgedRequest() throws Exception {
+    AtomicInteger count = new AtomicInteger();
+    server.requestHandler(req -> {
+      if (count.getAndIncrement() == 0) {
+        // Never respond to the first request, it is reset when the hedged request completes
+        req.response().closeHandler(v -> complete());
+      } else {
+        req.response().end("hedged");
+      }
+    });
+    startServer(testAddress);
+    waitFor(2);
+    client.send(new RequestOptions(requestOptions).setHedgingDelay(100))
+      .compose(HttpClientResponse::body)
+      .onComplete(onSuccess(body -> {
+        assertEquals("hedged", body.toString());
+        assertEquals(2, count.get());
+        complete();
+      }));
+    await();
+  }
+
+  @Test
+  public void testHedgedRequestFirstResponseWins() throws Exception {
+    AtomicInteger count = new AtomicInteger();
+    server.requestHandler(req -> {
+      count.incrementAndGet();
+      req.response().end("first");
+    });
+    startServer(testAddress);
+    client.send(new RequestOptions(requestOptions).setHedgingDelay(10_000))
+      .compose(HttpClientResponse::body)
+      .onComplete(onSuccess(body -> {
+        assertEquals("first", body.toString());
+        vertx.setTimer(100, id -> {
+          assertEquals(1, count.get());
+          testComplete();
+        });
+      }));
+    await();
+  }
+
+  @Test
+  public void testHedgedRequestPercentile() throws Exception {
+    AtomicBoolean stall = new AtomicBoolean();
+    server.requestHandler(req -> {
+      if (!stall.compareAndSet(true, false)) {
+        req.response().end("ok");
+      }
+    });
+    startServer(testAddress);
+    RequestOptions options = new RequestOptions(requestOptions).setHedgingDelay(20_000).setHedgingPercentile(90);
+    Future<Buffer> fut = Future.succeededFuture();
+    for (int i = 0;i < 16;i++) {
+      fut = fut.compose(v -> client.send(options).compose(HttpClientResponse::body));
+    }
+    fut.toCompletionStage().toCompletableFuture().get(20, TimeUnit.SECONDS);
+    // The first request is not responded, the hedged request is sent after the percentile of the endpoint response times
+    stall.set(true);
+    Buffer body = client.send(options)
+      .compose(HttpClientResponse::body)
+      .toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+    assertEquals("ok", body.toString());
+  }
+
+  @Test
+  public void testHedgedRequestNotIdempotent() throws Exception {
+    server.requestHandler(req -> fail());
+    startServer(testAddress);
+    client.send(new RequestOptions(requestOptions).setMethod(HttpMethod.POST).setHedgingDelay(100), Buffer.buffer("body"))
+      .onComplete(onFailure(err -> {
+        assertTrue(err instanceof IllegalArgumentException);
+        testComplete();
+      }));
+    await();
+  }
+
+  @Test
+  public void testServerPooledBuffers() throws Exception {
+    Buffer expected = TestUtils.randomBuffer(64 * 1024);
+    server.close();
+    server = vertx.createHttpServer(createBaseServerOptions().setPooledBuffers(true));
+    server.requestHandler(req -> {
+      Buffer received = Buffer.buffer();
+      req.handler(buff -> {
+        received.appendBuffer(buff);
+        if (buff.length() > 0) {
+          assertTrue(buff.release());
+        }
+      });
+      req.endHandler(v -> {
+        assertEquals(expected, received);
+        req.response().end();
+      });
+    });
+    startServer(testAddress);
+    client.request(new RequestOptions(requestOptions).setMethod(HttpMethod.POST))
+      .compose(req -> req.send(expected))
+      .onComplete(onSuccess(resp -> {
+        assertEquals(200, resp.statusCode());
+        testComplete();
+      }));
+    await();
+  }
+
+  @Test
+  public void testClientPooledBuffers() throws Exception {
+    Buffer expected = TestUtils.randomBuffer(64 * 1024);
+    client.close();
+    client = vertx.createHttpClient(createBaseClientOptions().setPooledBuffers(true));
+    server.requestHandler(req -> req.response().end(expected));
+    startServer(testAddress);
+    client.request(requestOptions)
+      .compose(HttpClientRequest::send)
+      .onComplete(onSuccess(resp -> {
+        Buffer received = Buffer.buffer();
+        resp.handler(buff -> {
+          received.appendBuffer(buff);
+          if (buff.length() > 0) {
+            assertTrue(buff.release());
+          }
+        });
+        resp.endHandler(v -> {
+          assertEquals(expected, received);
+          testComplete();
+        });
+      }));
+    await();
+  }
+
+  @Test
+  public void testPooledBuffersAggregatedBody() throws Exception {
+    Buffer expected = TestUtils.randomBuffer(64 * 1024);
+    server.close();
+    server = vertx.createHttpServer(createBaseServerOptions().setPooledBuffers(true));
+    server.requestHandler(req -> req.body().onComplete(onSuccess(body -> {
+      assertEquals(expected, body);
+      req.response().end(body);
+    })));
+    startServer(testAddress);
+    client.close();
+    client = vertx.createHttpClient(createBaseClientOptions().setPooledBuffers(true));
+    client.request(new RequestOptions(requestOptions).setMethod(HttpMethod.POST))
+      .compose(req -> req.send(expected).compose(HttpClientResponse::body))
+      .onComplete(onSuccess(body -> {
+        assertEquals(expected, body);
+        testComplete();
+      }));
+    await();
+  }
+
+  @Test
+  public void testDateHeader() throws Exception {
+    server.close();
+    server = vertx.createHttpServer(createBaseServerOptions().setDateHeaderEnabled(true));
+    server.requestHandler(req -> {
+      if (req.path().equals("/custom")) {
+        req.response().putHeader("date", "the-date");
+      }
+      req.response().end();
+    });
+    startServer(testAddress);
+    client.request(new RequestOptions(requestOptions).setURI("/"))
+      .compose(req -> req.send().compose(resp -> {
+        String date = resp.getHeader("date");
+        assertNotNull(date);
+        assertNotNull(DateFormatter.parseHttpDate(date));
+        return client.request(new RequestOptions(requestOptions).setURI("/custom")).compose(HttpClientRequest::send);
+      }))
+      .onComplete(onSuccess(resp -> {
+        assertEquals("the-date", resp.getHeader("date"));
+        testComplete();
+      }));
+    await();
+  }
+
   @Test
   public void testRemoteAddress() {
     server.requestHandler(req -> {
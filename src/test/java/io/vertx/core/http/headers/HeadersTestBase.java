@@ -13,6 +13,7 @@ package io.vertx.core.http.headers;
 
 import io.netty.handler.codec.http.HttpHeaderValues;
 import io.netty.handler.codec.http2.DefaultHttp2Headers;
+import io.netty.util.AsciiString;
 import io.vertx.core.MultiMap;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.impl.headers.HeadersAdaptor;
@@ -23,11 +24,13 @@ import org.junit.Test;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
@@ -103,6 +106,31 @@ public abstract class HeadersTestBase {
     assertEquals("name=somevalue\n", mmap.add(name, values).toString());
   }
 
+  @Test
+  public void testGetCharSequence() {
+    MultiMap mmap = newMultiMap();
+    mmap.add("a", AsciiString.of("b"));
+    mmap.add("a", AsciiString.of("c"));
+    assertEquals("b", mmap.getCharSequence(AsciiString.of("a")).toString());
+    assertEquals("b", mmap.getCharSequence("A").toString());
+    assertNull(mmap.getCharSequence("d"));
+    List<CharSequence> all = mmap.getAllCharSequence("a");
+    assertEquals(2, all.size());
+    assertEquals("b", all.get(0).toString());
+    assertEquals("c", all.get(1).toString());
+    assertTrue(mmap.getAllCharSequence("d").isEmpty());
+  }
+
+  @Test
+  public void testForEachCharSequence() {
+    MultiMap mmap = newMultiMap();
+    mmap.add("a", "b");
+    mmap.add("c", AsciiString.of("d"));
+    List<String> entries = new ArrayList<>();
+    mmap.forEachCharSequence((name, value) -> entries.add(name + "=" + value));
+    assertEquals(Arrays.asList("a=b", "c=d"), entries);
+  }
+
   @Test
   public void testAddStringNameStringValue() {
     MultiMap mmap = newMultiMap();
@@ -160,6 +188,31 @@ public abstract class HeadersTestBase {
     assertEquals("header1=value1\nheader2=value2\n", result.toString());
   }
 
+  @Test
+  public void testAddAllSelf() {
+    MultiMap mmap = newMultiMap();
+    mmap.add("header1", "value1");
+    mmap.add("header2", "value2");
+    MultiMap result = mmap.addAll(mmap);
+    assertSame(mmap, result);
+    assertEquals(4, mmap.entries().size());
+    assertEquals(Arrays.asList("value1", "value1"), mmap.getAll("header1"));
+    assertEquals(Arrays.asList("value2", "value2"), mmap.getAll("header2"));
+  }
+
+  @Test
+  public void testGetCharSequenceMultipleValues() {
+    MultiMap mmap = newMultiMap();
+    mmap.add("header1", "value1");
+    mmap.add("header2", "value2");
+    mmap.add("Header1", "value3");
+    mmap.add("header1", "value4");
+    assertEquals("value1", String.valueOf(mmap.getCharSequence("HEADER1")));
+    assertEquals(Arrays.asList("value1", "value3", "value4"), mmap.getAllCharSequence("header1").stream().map(String::valueOf).collect(Collectors.toList()));
+    assertNull(mmap.getCharSequence("header3"));
+    assertEquals(Collections.emptyList(), mmap.getAllCharSequence("header3"));
+  }
+
   @Test
   public void testClearTest1() {
     MultiMap mmap = newMultiMap();
@@ -12,9 +12,13 @@
 package io.vertx.core.http.headers;
 
 import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.util.AsciiString;
 import io.vertx.core.MultiMap;
 import io.vertx.core.http.headers.HeadersTestBase;
 import io.vertx.core.http.impl.headers.HeadersAdaptor;
+import org.junit.Test;
+
+import static org.junit.Assert.assertSame;
 
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
@@ -26,4 +30,12 @@ public class HttpHeadersAdaptorTest extends HeadersTestBase {
     return new HeadersAdaptor(new DefaultHttpHeaders());
   }
 
+  @Test
+  public void testGetCharSequenceDoesNotConvert() {
+    AsciiString value = AsciiString.of("b");
+    MultiMap mmap = newMultiMap().add("a", value);
+    assertSame(value, mmap.getCharSequence("a"));
+    assertSame(value, mmap.getAllCharSequence("a").get(0));
+  }
+
 }
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.http.impl;
+
+import io.vertx.core.Future;
+import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpTestBase;
+import io.vertx.core.impl.ContextInternal;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+public class DateHeaderTest extends HttpTestBase {
+
+  @Test
+  public void testRefreshCancelledWhenLastServerCloses() throws Exception {
+    server.close();
+    server = vertx.createHttpServer(createBaseServerOptions().setDateHeaderEnabled(true));
+    server.requestHandler(req -> req.response().end());
+    startServer(testAddress);
+    HttpServer other = vertx.createHttpServer(createBaseServerOptions().setDateHeaderEnabled(true).setPort(0));
+    other.requestHandler(req -> req.response().end());
+    other.listen().toCompletionStage().toCompletableFuture().get(20, TimeUnit.SECONDS);
+    client.request(requestOptions)
+      .compose(HttpClientRequest::send)
+      .compose(HttpClientResponse::body)
+      .toCompletionStage().toCompletableFuture().get(20, TimeUnit.SECONDS);
+    assertTrue(DateHeader.scheduled() > 0);
+    other.close().toCompletionStage().toCompletableFuture().get(20, TimeUnit.SECONDS);
+    assertTrue(DateHeader.scheduled() > 0);
+    server.close().toCompletionStage().toCompletableFuture().get(20, TimeUnit.SECONDS);
+    assertWaitUntil(() -> DateHeader.scheduled() == 0);
+    // No refresh is scheduled once the last server is closed
+    assertEquals(0, (int) scheduledAfterValue());
+  }
+
+  @Test
+  public void testCloseBeforeListenCompletes() throws Exception {
+    server.close();
+    server = vertx.createHttpServer(createBaseServerOptions().setDateHeaderEnabled(true));
+    server.requestHandler(req -> req.response().end());
+    Future<HttpServer> listen = server.listen(testAddress);
+    server.close().toCompletionStage().toCompletableFuture().get(20, TimeUnit.SECONDS);
+    listen.otherwiseEmpty().toCompletionStage().toCompletableFuture().get(20, TimeUnit.SECONDS);
+    assertEquals(0, (int) scheduledAfterValue());
+  }
+
+  private int scheduledAfterValue() throws Exception {
+    ContextInternal context = (ContextInternal) vertx.getOrCreateContext();
+    CompletableFuture<Integer> res = new CompletableFuture<>();
+    context.runOnContext(v -> {
+      assertNotNull(DateHeader.value(context.nettyEventLoop()));
+      res.complete(DateHeader.scheduled());
+    });
+    return res.get(20, TimeUnit.SECONDS);
+  }
+}
@@ -3476,6 +3476,119 @@ public class NetTest extends VertxTestBase {
     await();
   }
 
+  @Test
+  public void testServerPooledBuffers() throws Exception {
+    Buffer expected = TestUtils.randomBuffer(64 * 1024);
+    server.close();
+    server = vertx.createNetServer(new NetServerOptions().setPooledBuffers(true));
+    server.connectHandler(so -> {
+      Buffer received = Buffer.buffer();
+      so.handler(buff -> {
+        received.appendBuffer(buff);
+        assertTrue(buff.release());
+        if (received.length() == expected.length()) {
+          assertEquals(expected, received);
+          testComplete();
+        }
+      });
+    });
+    startServer();
+    client.connect(testAddress, onSuccess(so -> so.write(expected)));
+    await();
+  }
+
+  @Test
+  public void testClientPooledBuffers() throws Exception {
+    Buffer expected = TestUtils.randomBuffer(64 * 1024);
+    client.close();
+    client = vertx.createNetClient(new NetClientOptions().setPooledBuffers(true));
+    server.connectHandler(so -> so.write(expected));
+    startServer();
+    client.connect(testAddress, onSuccess(so -> {
+      Buffer received = Buffer.buffer();
+      so.handler(buff -> {
+        received.appendBuffer(buff);
+        assertTrue(buff.release());
+        if (received.length() == expected.length()) {
+          assertEquals(expected, received);
+          testComplete();
+        }
+      });
+    }));
+    await();
+  }
+
+  @Test
+  public void testPooledBuffersReleasedOnCloseWhilePaused() throws Exception {
+    List<ByteBuf> queued = Collections.synchronizedList(new ArrayList<>());
+    server.close();
+    server = vertx.createNetServer(new NetServerOptions().setPooledBuffers(true));
+    server.connectHandler(so -> {
+      so.pause();
+      so.handler(buff -> fail());
+      ((NetSocketInternal) so).channelHandlerContext().pipeline().addBefore("handler", "tracker", new ChannelInboundHandlerAdapter() {
+        @Override
+        public void channelRead(ChannelHandlerContext ctx, Object msg) {
+          // Track an unpooled copy, the pool recycles released buffers
+          ByteBuf buf = (ByteBuf) msg;
+          ByteBuf copy = Unpooled.copiedBuffer(buf);
+          buf.release();
+          queued.add(copy);
+          ctx.fireChannelRead(copy);
+          so.close();
+        }
+      });
+      so.closeHandler(v -> {
+        assertFalse(queued.isEmpty());
+        assertTrue(queued.stream().allMatch(buf -> buf.refCnt() == 0));
+        testComplete();
+      });
+      so.write("ready");
+    });
+    startServer();
+    client.connect(testAddress, onSuccess(so -> so.handler(buff -> so.write(TestUtils.randomBuffer(1024)))));
+    await();
+  }
+
+  @Test
+  public void testWriteDirectBuffer() throws Exception {
+    Buffer expected = TestUtils.randomBuffer(64 * 1024);
+    server.connectHandler(so -> {
+      Buffer received = Buffer.buffer();
+      so.handler(buff -> {
+        received.appendBuffer(buff);
+        if (received.length() == expected.length()) {
+          assertEquals(expected, received);
+          complete();
+        }
+      });
+    });
+    startServer();
+    waitFor(2);
+    Buffer direct = Buffer.directBuffer(expected.length()).appendBuffer(expected);
+    client.connect(testAddress, onSuccess(so -> {
+      so.write(direct).onComplete(onSuccess(v -> {
+        assertTrue(direct.release());
+        complete();
+      }));
+    }));
+    await();
+  }
+
+  @Test
+  public void testBuffersNotPooledByDefault() throws Exception {
+    server.connectHandler(so -> {
+      so.handler(buff -> {
+        assertFalse(buff.release());
+        assertEquals("hello", buff.toString());
+        testComplete();
+      });
+    });
+    startServer();
+    client.connect(testAddress, onSuccess(so -> so.write("hello")));
+    await();
+  }
+
   @Test
   public void testSelfSignedCertificate() throws Exception {
     Assume.assumeTrue(PlatformDependent.javaVersion() < 9);
@@ -30,6 +30,8 @@ import javax.net.ssl.SSLSessionContext;
 import java.util.*;
 import java.util.function.Consumer;
 
+import static io.vertx.test.core.TestUtils.assertIllegalArgumentException;
+
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
  */
@@ -104,6 +106,78 @@ public class SSLHelperTest extends VertxTestBase {
     await();
   }
 
+  @Test
+  public void testSessionCacheOptions() throws Exception {
+    HttpServerOptions options = new HttpServerOptions()
+      .setSessionCacheSize(64)
+      .setSessionTimeout(120)
+      .setKeyCertOptions(Cert.SERVER_JKS.get())
+      .setTrustOptions(Trust.SERVER_JKS.get());
+    SSLHelper helper = new SSLHelper(options, null);
+    helper
+      .buildContextProvider(options.getSslOptions(), (ContextInternal) vertx.getOrCreateContext())
+      .onComplete(onSuccess(provider -> {
+        for (boolean server : new boolean[] { true, false }) {
+          SSLSessionContext sessionContext = provider.createContext(server, false).sessionContext();
+          assertEquals(64, sessionContext.getSessionCacheSize());
+          assertEquals(120, sessionContext.getSessionTimeout());
+        }
+        testComplete();
+      }));
+    await();
+  }
+
+  @Test
+  public void testSessionOptions() {
+    SSLOptions options = new SSLOptions();
+    assertEquals(SSLOptions.DEFAULT_SESSION_CACHE_SIZE, options.getSessionCacheSize());
+    assertEquals(SSLOptions.DEFAULT_SESSION_TIMEOUT, options.getSessionTimeout());
+    assertEquals(SSLOptions.DEFAULT_SESSION_TICKET_KEY_ROTATION_PERIOD, options.getSessionTicketKeyRotationPeriod());
+    options.setSessionCacheSize(64).setSessionTimeout(120).setSessionTicketKeyRotationPeriod(3600);
+    for (SSLOptions copy : Arrays.asList(new SSLOptions(options), new SSLOptions(options.toJson()))) {
+      assertEquals(64, copy.getSessionCacheSize());
+      assertEquals(120, copy.getSessionTimeout());
+      assertEquals(3600, copy.getSessionTicketKeyRotationPeriod());
+      assertEquals(options, copy);
+    }
+    assertFalse(options.equals(new SSLOptions(options).setSessionTimeout(60)));
+    assertIllegalArgumentException(() -> options.setSessionCacheSize(-1));
+    assertIllegalArgumentException(() -> options.setSessionTimeout(-1));
+    assertIllegalArgumentException(() -> options.setSessionTicketKeyRotationPeriod(-1));
+    HttpServerOptions serverOptions = new HttpServerOptions(new HttpServerOptions().setSessionTicketKeyRotationPeriod(3600).toJson());
+    assertEquals(3600, serverOptions.getSessionTicketKeyRotationPeriod());
+    assertEquals(3600, serverOptions.getSslOptions().getSessionTicketKeyRotationPeriod());
+  }
+
+  @Test
+  public void testOpenSslSessionTicketKeyRotation() throws Exception {
+    HttpServerOptions options = new HttpServerOptions()
+      .setOpenSslEngineOptions(new OpenSSLEngineOptions())
+      .setSessionTicketKeyRotationPeriod(1)
+      .setPemKeyCertOptions(Cert.SERVER_PEM.get());
+    SSLHelper helper = new SSLHelper(options, null);
+    helper
+      .buildContextProvider(options.getSslOptions(), (ContextInternal) vertx.getOrCreateContext())
+      .onComplete(onSuccess(provider -> {
+        SslContext ctx = provider.createContext(true, false);
+        assertTrue(ctx.sessionContext() instanceof OpenSslServerSessionContext);
+        provider.checkSessionTicketKeys();
+        OpenSslSessionTicketKey[] initial = provider.sessionTicketKeys();
+        assertEquals(1, initial.length);
+        vertx.setTimer(1100, id -> {
+          provider.checkSessionTicketKeys();
+          OpenSslSessionTicketKey[] rotated = provider.sessionTicketKeys();
+          assertEquals(2, rotated.length);
+          // A new key encrypts tickets, the previous key still decrypts the tickets it encrypted
+          assertFalse(Arrays.equals(initial[0].name(), rotated[0].name()));
+          assertFalse(Arrays.equals(initial[0].aesKey(), rotated[0].aesKey()));
+          assertSame(initial[0], rotated[1]);
+          testComplete();
+        });
+      }));
+    await();
+  }
+
   @Test
   public void testPreserveEnabledCipherSuitesOrder() throws Exception {
     SSLContext context = SSLContext.getInstance("TLS");
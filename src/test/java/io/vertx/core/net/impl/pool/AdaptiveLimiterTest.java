@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.net.impl.pool;
+
+import io.vertx.test.core.AsyncTestBase;
+import org.junit.Test;
+
+import static io.vertx.test.core.TestUtils.assertIllegalArgumentException;
+
+public class AdaptiveLimiterTest extends AsyncTestBase {
+
+  @Test
+  public void testIncreaseWithWaiters() {
+    AdaptiveLimiter limiter = new AdaptiveLimiter(2, 4);
+    assertEquals(2, limiter.limit());
+    assertEquals(-1, limiter.onResponse(1000, 0));
+    assertEquals(3, limiter.onResponse(1000, 1));
+    assertEquals(4, limiter.onResponse(1000, 1));
+    assertEquals(-1, limiter.onResponse(1000, 1));
+    assertEquals(4, limiter.limit());
+  }
+
+  @Test
+  public void testDecreaseOnCongestion() {
+    AdaptiveLimiter limiter = new AdaptiveLimiter(1, 20);
+    for (int i = 0;i < 19;i++) {
+      limiter.onResponse(1000, 1);
+    }
+    assertEquals(20, limiter.limit());
+    assertEquals(-1, limiter.onResponse(2000, 1));
+    assertEquals(18, limiter.onResponse(2001, 1));
+    assertEquals(16, limiter.onResponse(5000, 0));
+  }
+
+  @Test
+  public void testProbeInterval() {
+    AdaptiveLimiter limiter = new AdaptiveLimiter(1, 20);
+    for (int i = 0;i < 19;i++) {
+      limiter.onResponse(1000, 1);
+    }
+    for (int i = 19;i < 999;i++) {
+      limiter.onResponse(1000, 0);
+    }
+    // The sample ending the interval is compared to the smallest latency of the interval
+    assertEquals(18, limiter.onResponse(3000, 0));
+    for (int i = 0;i < 1000;i++) {
+      limiter.onResponse(1500, 0);
+    }
+    // The smallest latency follows the peer
+    assertEquals(-1, limiter.onResponse(2500, 0));
+    assertEquals(16, limiter.onResponse(3001, 0));
+  }
+
+  @Test
+  public void testSeparateLatencies() {
+    AdaptiveLimiter limiter = new AdaptiveLimiter(1, 10);
+    limiter.onConnect(100, 0);
+    limiter.onResponse(10_000, 1);
+    // A response slower than the connect is not a congestion signal
+    assertEquals(3, limiter.onResponse(10_000, 1));
+    assertEquals(2, limiter.onConnect(1_000, 0));
+  }
+
+  @Test
+  public void testInvalidLimits() {
+    assertIllegalArgumentException(() -> new AdaptiveLimiter(0, 1));
+    assertIllegalArgumentException(() -> new AdaptiveLimiter(2, 1));
+  }
+}
@@ -34,6 +34,8 @@ import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
+import static io.vertx.test.core.TestUtils.assertIllegalArgumentException;
+
 public class ConnectionPoolTest extends VertxTestBase {
 
   VertxInternal vertx;
@@ -476,6 +478,158 @@ public class ConnectionPoolTest extends VertxTestBase {
     awaitLatch(latch3);
   }
 
+  @Test
+  public void testShardedPool() throws Exception {
+    ContextInternal context1 = vertx.createEventLoopContext();
+    ContextInternal context2 = vertx.createEventLoopContext();
+    assertNotSame(context1.nettyEventLoop(), context2.nettyEventLoop());
+    ConnectionManager mgr = new ConnectionManager();
+    ConnectionPool<Connection> pool = ConnectionPool.sharded(mgr, new int[] { 1 }, 10, false);
+    Connection expected1 = new Connection();
+    Connection expected2 = new Connection();
+    CountDownLatch latch = new CountDownLatch(2);
+    pool.acquire(context1, 0, onSuccess(lease -> {
+      assertSame(expected1, lease.get());
+      assertSame(context1, Vertx.currentContext());
+      latch.countDown();
+    }));
+    ConnectionRequest request1 = mgr.assertRequest();
+    assertSame(context1, request1.context);
+    pool.acquire(context2, 0, onSuccess(lease -> {
+      assertSame(expected2, lease.get());
+      assertSame(context2, Vertx.currentContext());
+      latch.countDown();
+    }));
+    ConnectionRequest request2 = mgr.assertRequest();
+    assertSame(context2, request2.context);
+    request1.connect(expected1, 0);
+    request2.connect(expected2, 0);
+    awaitLatch(latch);
+    assertEquals(2, pool.size());
+  }
+
+  @Test
+  public void testShardStealing() throws Exception {
+    ContextInternal context1 = vertx.createEventLoopContext();
+    ContextInternal context2 = vertx.createEventLoopContext();
+    assertNotSame(context1.nettyEventLoop(), context2.nettyEventLoop());
+    ConnectionManager mgr = new ConnectionManager();
+    ConnectionPool<Connection> pool = ConnectionPool.sharded(mgr, new int[] { 1 }, 10, true);
+    Connection expected = new Connection();
+    CountDownLatch latch = new CountDownLatch(1);
+    pool.acquire(context2, 0, onSuccess(lease -> {
+      lease.recycle();
+      latch.countDown();
+    }));
+    mgr.assertRequest().connect(expected, 0);
+    awaitLatch(latch);
+    // Fill the shard of the first event loop and queue a waiter
+    pool.acquire(context1, 0, ar -> {});
+    mgr.assertRequest();
+    pool.acquire(context1, 0, ar -> {});
+    assertEquals(1, pool.waiters());
+    pool.acquire(context1, 0, onSuccess(lease -> {
+      assertSame(expected, lease.get());
+      // The lease is delivered on the connection event loop
+      assertSame(context2.nettyEventLoop(), ((ContextInternal) Vertx.currentContext()).nettyEventLoop());
+      testComplete();
+    }));
+    assertNull(mgr.requests.poll());
+    await();
+  }
+
+  @Test
+  public void testShardStealingSkipsBusyShard() throws Exception {
+    ContextInternal context1 = vertx.createEventLoopContext();
+    ContextInternal context2 = vertx.createEventLoopContext();
+    assertNotSame(context1.nettyEventLoop(), context2.nettyEventLoop());
+    ConnectionManager mgr = new ConnectionManager();
+    ConnectionPool<Connection> pool = ConnectionPool.sharded(mgr, new int[] { 1 }, 10, true);
+    Connection expected = new Connection();
+    CompletableFuture<Lease<Connection>> leased = new CompletableFuture<>();
+    // The connection of the second event loop shard is leased and the shard cannot create another one
+    pool.acquire(context2, 0, onSuccess(leased::complete));
+    mgr.assertRequest().connect(expected, 0);
+    Lease<Connection> lease = leased.get(10, TimeUnit.SECONDS);
+    pool.acquire(context1, 0, ar -> {});
+    mgr.assertRequest();
+    pool.acquire(context1, 0, ar -> {});
+    assertEquals(1, pool.waiters());
+    // Not stolen by the second shard, the waiter is queued on the first shard
+    pool.acquire(context1, 0, ar -> {});
+    assertEquals(2, pool.waiters());
+    lease.recycle();
+    pool.acquire(context2, 0, onSuccess(l -> {
+      assertSame(expected, l.get());
+      testComplete();
+    }));
+    assertNull(mgr.requests.poll());
+    await();
+  }
+
+  @Test
+  public void testShardedPoolClosed() throws Exception {
+    ContextInternal context = vertx.createEventLoopContext();
+    ConnectionManager mgr = new ConnectionManager();
+    ConnectionPool<Connection> pool = ConnectionPool.sharded(mgr, new int[] { 1 }, 10, false);
+    CountDownLatch latch = new CountDownLatch(1);
+    pool.close(onSuccess(lst -> latch.countDown()));
+    awaitLatch(latch);
+    // No shard is created for the event loop once the pool is closed
+    pool.acquire(context, 0, onFailure(err -> {
+      assertEquals(0, pool.size());
+      testComplete();
+    }));
+    assertNull(mgr.requests.poll());
+    await();
+  }
+
+  @Test
+  public void testMaxSize() throws Exception {
+    ConnectionManager mgr = new ConnectionManager();
+    ConnectionPool<Connection> pool = ConnectionPool.pool(mgr, new int[] { 3 }, 10);
+    pool.maxSize(0, 1);
+    ContextInternal context = vertx.createEventLoopContext();
+    pool.acquire(context, 0, ar -> {});
+    mgr.assertRequest();
+    pool.acquire(context, 0, ar -> {});
+    pool.acquire(context, 0, ar -> {});
+    assertNull(mgr.requests.poll());
+    assertEquals(2, pool.waiters());
+    pool.maxSize(0, 2);
+    mgr.assertRequest();
+    assertNull(mgr.requests.poll());
+    assertEquals(1, pool.waiters());
+    // The max size is capped by the pool capacity
+    pool.maxSize(0, 10);
+    mgr.assertRequest();
+    assertEquals(0, pool.waiters());
+    assertEquals(3, pool.capacity());
+    assertIllegalArgumentException(() -> pool.maxSize(0, 0));
+  }
+
+  @Test
+  public void testMaxSizeMixedKinds() throws Exception {
+    ConnectionManager mgr = new ConnectionManager();
+    ConnectionPool<Connection> pool = ConnectionPool.pool(mgr, new int[] { 4, 4 }, 10);
+    pool.maxSize(0, 1);
+    ContextInternal context = vertx.createEventLoopContext();
+    pool.acquire(context, 0, ar -> {});
+    ConnectionRequest request = mgr.assertRequest();
+    pool.acquire(context, 0, ar -> {});
+    assertNull(mgr.requests.poll());
+    assertEquals(1, pool.waiters());
+    // The limit does not apply to the other kind
+    pool.acquire(context, 1, ar -> {});
+    mgr.assertRequest();
+    assertEquals(1, pool.waiters());
+    // A connection negotiated with the other kind does not count towards the limit
+    request.connect(new Connection(), 1);
+    pool.maxSize(0, 1);
+    mgr.assertRequest();
+    assertEquals(0, pool.waiters());
+  }
+
   @Test
   public void testConnectionInProgressShouldNotBeEvicted() {
     ConnectionManager mgr = new ConnectionManager();
@@ -928,6 +1082,31 @@ public class ConnectionPoolTest extends VertxTestBase {
     awaitLatch(latch3);
   }
 
+  @Test
+  public void testFallbackSelector() throws Exception {
+    ContextInternal context = vertx.createEventLoopContext();
+    ConnectionManager mgr = new ConnectionManager();
+    ConnectionPool<Connection> pool = ConnectionPool.pool(mgr, new int[] { 1 }, 10);
+    AtomicInteger fallbacks = new AtomicInteger();
+    pool.connectionSelector((waiter, list) -> null);
+    pool.fallbackConnectionSelector((waiter, list) -> {
+      fallbacks.incrementAndGet();
+      return list.get(0).available() > 0 ? list.get(0) : null;
+    });
+    CountDownLatch latch = new CountDownLatch(1);
+    pool.acquire(context, 0, onSuccess(lease -> latch.countDown()));
+    Connection expected = new Connection();
+    mgr.assertRequest().concurrency(2).connect(expected, 0);
+    awaitLatch(latch);
+    assertEquals(0, fallbacks.get());
+    pool.acquire(context, 0, onSuccess(lease -> {
+      assertSame(expected, lease.get());
+      assertEquals(1, fallbacks.get());
+      testComplete();
+    }));
+    await();
+  }
+
   @Test
   public void testDefaultContextProviderUnwrap() {
     ContextInternal context = vertx.createEventLoopContext();
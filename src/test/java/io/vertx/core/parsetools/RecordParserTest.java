@@ -17,6 +17,7 @@ import io.vertx.test.core.TestUtils;
 import io.vertx.test.fakestream.FakeStream;
 import org.junit.Test;
 
+import java.nio.ReadOnlyBufferException;
 import java.util.*;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -275,6 +276,83 @@ public class RecordParserTest {
       new Integer[] { 18 }, Buffer.buffer("start-ab-c-ddd"));
   }
 
+  @Test
+  public void testDelimiterSpreadOverChunks() {
+    doTestDelimited(Buffer.buffer("xaaaabyaab"), Buffer.buffer("aab"),
+      new Integer[] { 3, 1, 2, 4 }, Buffer.buffer("xaa"), Buffer.buffer("y"));
+    doTestDelimited(Buffer.buffer("xaaaabyaab"), Buffer.buffer("aab"),
+      new Integer[] { 1 }, Buffer.buffer("xaa"), Buffer.buffer("y"));
+  }
+
+  @Test
+  public void testSliceMode() {
+    List<Buffer> emitted = new ArrayList<>();
+    RecordParser parser = RecordParser.newDelimited("\n", emitted::add).sliceMode(true);
+    Buffer chunk1 = Buffer.buffer("abc\nde");
+    Buffer chunk2 = Buffer.buffer("f\n\nghi\n");
+    parser.handle(chunk1);
+    parser.handle(chunk2);
+    assertEquals(Arrays.asList(Buffer.buffer("abc"), Buffer.buffer("def"), Buffer.buffer(), Buffer.buffer("ghi")), emitted);
+    // Records are views over the received buffers
+    chunk1.setByte(0, (byte) 'x');
+    chunk2.setByte(0, (byte) 'g');
+    assertEquals(Buffer.buffer("xbc"), emitted.get(0));
+    assertEquals(Buffer.buffer("deg"), emitted.get(1));
+    try {
+      emitted.get(0).setByte(0, (byte) 'y');
+      fail();
+    } catch (ReadOnlyBufferException ignore) {
+    }
+  }
+
+  @Test
+  public void testSliceModeFixed() {
+    Buffer input = TestUtils.randomBuffer(100);
+    List<Buffer> emitted = new ArrayList<>();
+    RecordParser parser = RecordParser.newFixed(10, emitted::add).sliceMode(true);
+    feedChunks(input, parser, new Integer[] { 3, 7, 1, 12, 25 });
+    assertEquals(10, emitted.size());
+    for (int i = 0; i < 10; i++) {
+      assertEquals(input.getBuffer(i * 10, i * 10 + 10), emitted.get(i));
+    }
+  }
+
+  @Test
+  public void testSliceModeManyChunksPerRecord() {
+    int num = 1000;
+    List<Buffer> emitted = new ArrayList<>();
+    RecordParser parser = RecordParser.newDelimited("\n", emitted::add).sliceMode(true);
+    Buffer expected = Buffer.buffer();
+    Buffer middle = null;
+    int middleOffset = 0;
+    for (int i = 0; i < num; i++) {
+      Buffer chunk = Buffer.buffer(TestUtils.randomAlphaString(1 + i % 7));
+      if (i == num / 2) {
+        middle = chunk;
+        middleOffset = expected.length();
+      }
+      expected.appendBuffer(chunk);
+      parser.handle(chunk);
+    }
+    parser.handle(Buffer.buffer("\n"));
+    assertEquals(Collections.singletonList(expected), emitted);
+    // The record is still a view over the chunks, they were not consolidated into a copy
+    middle.setByte(0, (byte) '-');
+    assertEquals((byte) '-', emitted.get(0).getByte(middleOffset));
+  }
+
+  @Test
+  public void testSwitchSliceMode() {
+    List<Buffer> emitted = new ArrayList<>();
+    RecordParser parser = RecordParser.newDelimited("\r\n", emitted::add);
+    parser.handle(Buffer.buffer("abc\r\nde"));
+    parser.sliceMode(true);
+    parser.handle(Buffer.buffer("f\r"));
+    parser.sliceMode(false);
+    parser.handle(Buffer.buffer("\nghi\r\n"));
+    assertEquals(Arrays.asList(Buffer.buffer("abc"), Buffer.buffer("def"), Buffer.buffer("ghi")), emitted);
+  }
+
   @Test
   public void testDelimitedMaxRecordSize() {
     doTestDelimitedMaxRecordSize(Buffer.buffer("ABCD\nEFGH\n"), Buffer.buffer("\n"), new Integer[] { 2 },
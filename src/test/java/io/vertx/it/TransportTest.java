@@ -50,6 +50,12 @@ public class TransportTest extends AsyncTestBase {
     } catch (ClassNotFoundException ignore) {
       // Expected
     }
+    try {
+      Class<?> clazz = classLoader.loadClass("io.netty.incubator.channel.uring.IOUring");
+      fail("Was not expected to load IOUring class from " + clazz.getProtectionDomain().getCodeSource().getLocation());
+    } catch (ClassNotFoundException ignore) {
+      // Expected
+    }
     testNetServer(new VertxOptions());
     assertFalse(vertx.isNativeTransportEnabled());
   }